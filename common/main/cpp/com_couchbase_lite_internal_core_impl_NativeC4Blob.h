@@ -148,6 +148,15 @@ JNIEXPORT void
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Blob_write
         (JNIEnv *, jclass, jlong, jbyteArray, jint);
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Blob
+ * Method:    writeBuffer
+ * Signature: (JLjava/nio/ByteBuffer;II)V
+ */
+JNIEXPORT void
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Blob_writeBuffer
+        (JNIEnv *, jclass, jlong, jobject, jint, jint);
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Blob
  * Method:    computeBlobKey
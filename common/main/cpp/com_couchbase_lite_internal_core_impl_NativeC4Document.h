@@ -17,6 +17,15 @@ JNIEXPORT jlong
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_getFromCollection
         (JNIEnv *, jclass, jlong, jstring, jboolean, jboolean);
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    getAllFromCollection
+ * Signature: (J[Ljava/lang/String;)[J
+ */
+JNIEXPORT jlongArray
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_getAllFromCollection
+        (JNIEnv *, jclass, jlong, jobjectArray);
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
  * Method:    createFromSlice
@@ -26,6 +35,15 @@ JNIEXPORT jlong
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_createFromSlice
         (JNIEnv *, jclass, jlong, jstring, jlong, jlong, jint);
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    saveAll
+ * Signature: (J[Ljava/lang/String;[Ljava/lang/String;[J[J[I)[J
+ */
+JNIEXPORT jlongArray
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_saveAll
+        (JNIEnv *, jclass, jlong, jobjectArray, jobjectArray, jlongArray, jlongArray, jintArray);
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
  * Method:    getFlags
@@ -125,6 +143,15 @@ JNIEXPORT void
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_free
         (JNIEnv *, jclass, jlong);
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    freeAll
+ * Signature: ([J)V
+ */
+JNIEXPORT void
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_freeAll
+        (JNIEnv *, jclass, jlongArray);
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
  * Method:    selectNextLeafRevision
@@ -152,6 +179,15 @@ JNIEXPORT jlong
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_update2
         (JNIEnv *, jclass, jlong, jlong, jlong, jint);
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    updateFromBuffer
+ * Signature: (JLjava/nio/ByteBuffer;III)J
+ */
+JNIEXPORT jlong
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_updateFromBuffer
+        (JNIEnv *, jclass, jlong, jobject, jint, jint, jint);
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
  * Method:    bodyAsJSON
@@ -161,6 +197,15 @@ JNIEXPORT jstring
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_bodyAsJSON
         (JNIEnv *, jclass, jlong, jboolean);
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    bodyAsJSONSlice
+ * Signature: (JZ)Lcom/couchbase/lite/internal/fleece/FLSliceResult;
+ */
+JNIEXPORT jobject
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4Document_bodyAsJSONSlice
+        (JNIEnv *, jclass, jlong, jboolean);
+
 #ifdef __cplusplus
 }
 #endif
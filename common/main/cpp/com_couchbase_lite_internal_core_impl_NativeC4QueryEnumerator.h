@@ -26,6 +26,15 @@ JNIEXPORT void
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_free
 (JNIEnv *, jclass, jlong);
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator
+ * Method:    freeAll
+ * Signature: ([J)V
+ */
+JNIEXPORT void
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_freeAll
+(JNIEnv *, jclass, jlongArray);
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator
  * Method:    getColumns
@@ -43,6 +52,15 @@ JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_getCo
 JNIEXPORT jlong
 JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_getMissingColumns
         (JNIEnv * , jclass, jlong);
+
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator
+ * Method:    nextBatch
+ * Signature: (JI[[B[[J[[Ljava/lang/String;)I
+ */
+JNIEXPORT jint
+JNICALL Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_nextBatch
+        (JNIEnv *, jclass, jlong, jint, jobjectArray, jobjectArray, jobjectArray);
 #ifdef __cplusplus
 }
 #endif
@@ -107,6 +107,15 @@ JNIEXPORT jboolean
 JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeData
         (JNIEnv * , jclass, jlong, jbyteArray);
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
+ * Method:    convertJSON
+ * Signature: (J[B)Z
+ */
+JNIEXPORT jboolean
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_convertJSON
+        (JNIEnv * , jclass, jlong, jbyteArray);
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
  * Method:    writeValue
@@ -116,6 +125,24 @@ JNIEXPORT jboolean
 JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeValue
         (JNIEnv * , jclass, jlong, jlong);
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
+ * Method:    writeArrayRange
+ * Signature: (JJJJ)Z
+ */
+JNIEXPORT jboolean
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeArrayRange
+        (JNIEnv * , jclass, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
+ * Method:    writeDictExcept
+ * Signature: (JJ[Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeDictExcept
+        (JNIEnv * , jclass, jlong, jlong, jobjectArray);
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
  * Method:    beginArray
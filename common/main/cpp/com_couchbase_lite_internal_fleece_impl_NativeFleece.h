@@ -95,6 +95,33 @@ JNIEXPORT jlong
 JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_get
         (JNIEnv * , jclass, jlong, jbyteArray);
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLDict
+ * Method:    initKey
+ * Signature: ([B)J
+ */
+JNIEXPORT jlong
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_initKey
+        (JNIEnv * , jclass, jbyteArray);
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLDict
+ * Method:    getWithKey
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_getWithKey
+        (JNIEnv * , jclass, jlong, jlong);
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLDict
+ * Method:    freeKey
+ * Signature: (J)V
+ */
+JNIEXPORT void
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_freeKey
+        (JNIEnv * , jclass, jlong);
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLDict
  * Method:    init
@@ -242,6 +269,24 @@ JNIEXPORT jbyteArray
 JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asData
         (JNIEnv * , jclass, jlong);
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
+ * Method:    asDataBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asDataBuffer
+        (JNIEnv * , jclass, jlong);
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
+ * Method:    toJava
+ * Signature: (JZ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_toJava
+        (JNIEnv * , jclass, jlong, jboolean);
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
  * Method:    asBool
@@ -296,6 +341,15 @@ JNIEXPORT jstring
 JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asString
         (JNIEnv * , jclass, jlong);
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
+ * Method:    asChars
+ * Signature: (J[C)I
+ */
+JNIEXPORT jint
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asChars
+        (JNIEnv * , jclass, jlong, jcharArray);
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
  * Method:    asArray
@@ -336,6 +390,15 @@ JNIEXPORT jbyteArray
 JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult_getBuf
         (JNIEnv * , jclass, jlong, jlong);
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult
+ * Method:    getByteBuffer
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject
+JNICALL Java_com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult_getByteBuffer
+        (JNIEnv * , jclass, jlong, jlong);
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult
  * Method:    release
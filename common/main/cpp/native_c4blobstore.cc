@@ -313,6 +313,28 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4Blob_write(
         throwError(env, error);
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Blob
+ * Method:    writeBuffer
+ * Signature: (JLjava/nio/ByteBuffer;II)V
+ */
+JNIEXPORT void JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4Blob_writeBuffer(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jstream,
+        jobject jbuf,
+        jint offset,
+        jint len) {
+    C4Slice slice;
+    if (!directBufferSlice(env, jbuf, offset, len, &slice))
+        return;
+    C4Error error{};
+    bool ok = c4stream_write((C4WriteStream *) jstream, slice.buf, slice.size, &error);
+    if (!ok)
+        throwError(env, error);
+}
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Blob
  * Method:    computeBlobKey
@@ -65,6 +65,55 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4Document_getFromCollection(
     return (jlong) doc;
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    getAllFromCollection
+ * Signature: (J[Ljava/lang/String;)[J
+ *
+ * The returned array is parallel to the array of IDs: an entry is 0 if the doc does not exist.
+ */
+JNIEXPORT jlongArray JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4Document_getAllFromCollection(
+        JNIEnv *env,
+        jclass ignore,
+        jlong coll,
+        jobjectArray jDocIds) {
+    jsize n = env->GetArrayLength(jDocIds);
+
+    std::vector<jlong> docs(n, 0);
+    for (jsize i = 0; i < n; i++) {
+        auto jDocId = (jstring) env->GetObjectArrayElement(jDocIds, i);
+        jstringSlice docId(env, jDocId);
+        env->DeleteLocalRef(jDocId);
+
+        C4Error error{};
+        C4Document *doc = c4coll_getDoc((C4Collection *) coll, docId, true, kDocGetCurrentRev, &error);
+        if (doc != nullptr) {
+            docs[i] = (jlong) doc;
+            continue;
+        }
+
+        // Ignore LiteCore's annoying "not found" error
+        if ((error.code == 0) || ((error.domain == LiteCoreDomain) && (error.code == kC4ErrorNotFound)))
+            continue;
+
+        for (jsize j = 0; j < i; j++)
+            c4doc_release((C4Document *) docs[j]);
+        throwError(env, error);
+        return nullptr;
+    }
+
+    jlongArray jdocs = env->NewLongArray(n);
+    if (jdocs == nullptr) {
+        for (jsize j = 0; j < n; j++)
+            c4doc_release((C4Document *) docs[j]);
+        return nullptr;
+    }
+    env->SetLongArrayRegion(jdocs, 0, n, docs.data());
+
+    return jdocs;
+}
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
  * Method:    createFromSLice
@@ -91,6 +140,87 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4Document_createFromSlice(
     return (jlong) doc;
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    saveAll
+ * Signature: (J[Ljava/lang/String;[Ljava/lang/String;[J[J[I)[J
+ *
+ * Puts a batch of new revisions.  The caller must hold the db lock and have begun a transaction.
+ * A revision that conflicts with the current revision of its document is skipped: its entry
+ * in the returned array is 0.  Any other error aborts the batch: documents that were
+ * already saved are released, and the exception is thrown.
+ */
+JNIEXPORT jlongArray JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4Document_saveAll(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jcollection,
+        jobjectArray jdocIDs,
+        jobjectArray jparentRevIDs,
+        jlongArray jbodyPtrs,
+        jlongArray jbodySizes,
+        jintArray jflags) {
+    auto collection = (C4Collection *) jcollection;
+
+    jsize n = env->GetArrayLength(jdocIDs);
+    std::vector<jlong> bodyPtrs(n);
+    std::vector<jlong> bodySizes(n);
+    std::vector<jint> flags(n);
+    env->GetLongArrayRegion(jbodyPtrs, 0, n, bodyPtrs.data());
+    env->GetLongArrayRegion(jbodySizes, 0, n, bodySizes.data());
+    env->GetIntArrayRegion(jflags, 0, n, flags.data());
+
+    std::vector<jlong> docs(n, 0);
+    for (jsize i = 0; i < n; i++) {
+        auto jdocID = (jstring) env->GetObjectArrayElement(jdocIDs, i);
+        jstringSlice docID(env, jdocID);
+        env->DeleteLocalRef(jdocID);
+
+        auto jparentRevID = (jstring) env->GetObjectArrayElement(jparentRevIDs, i);
+        jstringSlice parentRevID(env, jparentRevID);
+        if (jparentRevID != nullptr)
+            env->DeleteLocalRef(jparentRevID);
+
+        // This is exactly what c4doc_update does, except that it doesn't require a loaded doc.
+        C4Slice history[1] = {parentRevID};
+        C4DocPutRequest rq{};
+        rq.body.buf = (const void *) bodyPtrs[i];
+        rq.body.size = (size_t) bodySizes[i];
+        rq.docID = docID;
+        rq.revFlags = (C4RevisionFlags) flags[i];
+        rq.existingRevision = false;
+        rq.allowConflict = false;
+        rq.history = (jparentRevID == nullptr) ? nullptr : history;
+        rq.historyCount = (jparentRevID == nullptr) ? 0 : 1;
+        rq.save = true;
+
+        C4Error error{};
+        C4Document *doc = c4coll_putDoc(collection, &rq, nullptr, &error);
+        if (doc != nullptr) {
+            docs[i] = (jlong) doc;
+            continue;
+        }
+
+        if ((error.domain == LiteCoreDomain) && (error.code == kC4ErrorConflict))
+            continue;
+
+        for (jsize j = 0; j < i; j++)
+            c4doc_release((C4Document *) docs[j]);
+        throwError(env, error);
+        return nullptr;
+    }
+
+    jlongArray jdocs = env->NewLongArray(n);
+    if (jdocs == nullptr) {
+        for (jsize j = 0; j < n; j++)
+            c4doc_release((C4Document *) docs[j]);
+        return nullptr;
+    }
+    env->SetLongArrayRegion(jdocs, 0, n, docs.data());
+
+    return jdocs;
+}
+
 // - Properties
 
 /*
@@ -337,6 +467,40 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4Document_update2(
     return (jlong) newDoc;
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    updateFromBuffer
+ * Signature: (JLjava/nio/ByteBuffer;III)J
+ */
+JNIEXPORT jlong JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4Document_updateFromBuffer(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jdoc,
+        jobject jbody,
+        jint offset,
+        jint len,
+        jint flags) {
+    auto doc = (C4Document *) jdoc;
+    if (doc == nullptr) {
+        throwError(env, {LiteCoreDomain, kC4ErrorAssertionFailed});
+        return 0;
+    }
+
+    C4Slice body;
+    if (!directBufferSlice(env, jbody, offset, len, &body))
+        return 0;
+
+    C4Error error{};
+    C4Document *newDoc = c4doc_update(doc, body, (unsigned) flags, &error);
+    if (newDoc == nullptr) {
+        throwError(env, error);
+        return 0;
+    }
+
+    return (jlong) newDoc;
+}
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
  * Method:    save
@@ -386,6 +550,28 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4Document_bodyAsJSON(
     return jstr;
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    bodyAsJSONSlice
+ * Signature: (JZ)Lcom/couchbase/lite/internal/fleece/FLSliceResult;
+ */
+JNIEXPORT jobject JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4Document_bodyAsJSONSlice(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jdoc,
+        jboolean canonical) {
+    C4Error error{};
+    C4StringResult res = c4doc_bodyAsJSON((C4Document *) jdoc, canonical, &error);
+    if (!res) {
+        throwError(env, error);
+        return nullptr;
+    }
+
+    // The Java FLSliceResult takes ownership of the native memory
+    return toJavaFLSliceResult(env, (FLSliceResult) res);
+}
+
 // - Lifecycle
 
 /*
@@ -401,4 +587,21 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4Document_free(
     c4doc_release((C4Document *) jdoc);
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4Document
+ * Method:    freeAll
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4Document_freeAll(
+        JNIEnv *env,
+        jclass ignore,
+        jlongArray jdocs) {
+    jsize n = env->GetArrayLength(jdocs);
+    std::vector<jlong> docs(n);
+    env->GetLongArrayRegion(jdocs, 0, n, docs.data());
+    for (jlong doc: docs)
+        c4doc_release((C4Document *) doc);
+}
+
 }
@@ -15,6 +15,8 @@
 // See the License for the specific language governing permissions and
 // limitations under the License.
 //
+#include <cstring>
+#include <vector>
 #include "c4Base.h"
 #include "native_glue.hh"
 #include "com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator.h"
@@ -22,6 +24,43 @@
 using namespace litecore;
 using namespace litecore::jni;
 
+// These must match the column type constants in C4QueryEnumerator
+static const jbyte COL_MISSING = 0;
+static const jbyte COL_NULL = 1;
+static const jbyte COL_BOOLEAN = 2;
+static const jbyte COL_INTEGER = 3;
+static const jbyte COL_FLOAT = 4;
+static const jbyte COL_STRING = 5;
+static const jbyte COL_OTHER = 6;
+
+static jbyte readColumn(FLValue val, jlong *slot) {
+    switch (FLValue_GetType(val)) {
+        case kFLUndefined:
+            return COL_MISSING;
+        case kFLNull:
+            return COL_NULL;
+        case kFLBoolean:
+            *slot = FLValue_AsBool(val) ? 1 : 0;
+            return COL_BOOLEAN;
+        case kFLNumber:
+            if (FLValue_IsInteger(val)) {
+                *slot = (jlong) FLValue_AsInt(val);
+                return COL_INTEGER;
+            } else {
+                double d = FLValue_AsDouble(val);
+                std::memcpy(slot, &d, sizeof(d));
+                return COL_FLOAT;
+            }
+        case kFLString:
+            // converted to a Java string, column by column, after all the rows have been read
+            *slot = (jlong) val;
+            return COL_STRING;
+        default:
+            *slot = (jlong) val;
+            return COL_OTHER;
+    }
+}
+
 extern "C" {
 
 // ----------------------------------------------------------------------------
@@ -69,6 +108,25 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_free(
     c4queryenum_release(e);
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator
+ * Method:    freeAll
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_freeAll(
+        JNIEnv *env,
+        jclass ignore,
+        jlongArray jenums) {
+    jsize n = env->GetArrayLength(jenums);
+    std::vector<jlong> enums(n);
+    env->GetLongArrayRegion(jenums, 0, n, enums.data());
+    for (jlong e: enums) {
+        if (e != 0L)
+            c4queryenum_release((C4QueryEnumerator *) e);
+    }
+}
+
 /*
  * Class:     com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator
  * Method:    getColumns
@@ -102,4 +160,94 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_getMissingCol
 
     return (jlong) e->missingColumns;
 }
-}
\ No newline at end of file
+/*
+ * Class:     com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator
+ * Method:    nextBatch
+ * Signature: (JI[[B[[J[[Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4QueryEnumerator_nextBatch(
+        JNIEnv *env,
+        jclass ignore,
+        jlong peer,
+        jint maxRows,
+        jobjectArray jtypes,
+        jobjectArray jvalues,
+        jobjectArray jstrings) {
+    auto e = (C4QueryEnumerator *) peer;
+    if ((e == nullptr) || (maxRows <= 0))
+        return 0;
+
+    jsize nCols = env->GetArrayLength(jtypes);
+    std::vector<jbyte> types((size_t) nCols * maxRows, COL_MISSING);
+    std::vector<jlong> values((size_t) nCols * maxRows, 0L);
+    std::vector<bool> hasStrings(nCols, false);
+
+    // Read the rows.  Column values stay valid until the enumerator is freed.
+    jint rows = 0;
+    C4Error error{};
+    while (rows < maxRows) {
+        if (!c4queryenum_next(e, &error)) {
+            if (error.code != 0) {
+                throwError(env, error);
+                return 0;
+            }
+            break;
+        }
+
+        for (jsize col = 0; col < nCols; col++) {
+            size_t i = ((size_t) col * maxRows) + rows;
+            if ((col < 64) && ((e->missingColumns & (1ULL << col)) != 0))
+                continue;
+            FLValue val = FLArrayIterator_GetValueAt(&e->columns, (uint32_t) col);
+            if (val == nullptr)
+                continue;
+            types[i] = readColumn(val, &values[i]);
+            if (types[i] == COL_STRING)
+                hasStrings[col] = true;
+        }
+
+        rows++;
+    }
+
+    if (rows <= 0)
+        return 0;
+
+    // Copy the values into the Java column arrays, one column at a time
+    jclass cls_String = nullptr;
+    for (jsize col = 0; col < nCols; col++) {
+        size_t base = (size_t) col * maxRows;
+
+        auto colTypes = (jbyteArray) env->GetObjectArrayElement(jtypes, col);
+        env->SetByteArrayRegion(colTypes, 0, rows, &types[base]);
+        env->DeleteLocalRef(colTypes);
+
+        auto colValues = (jlongArray) env->GetObjectArrayElement(jvalues, col);
+        env->SetLongArrayRegion(colValues, 0, rows, &values[base]);
+        env->DeleteLocalRef(colValues);
+
+        if (!hasStrings[col])
+            continue;
+
+        if (cls_String == nullptr)
+            cls_String = env->FindClass("java/lang/String");
+        jobjectArray colStrings = env->NewObjectArray(maxRows, cls_String, nullptr);
+        if (colStrings == nullptr)
+            return 0;
+        for (jint row = 0; row < rows; row++) {
+            if (types[base + row] != COL_STRING)
+                continue;
+            jstring str = toJString(env, FLValue_AsString((FLValue) values[base + row]));
+            env->SetObjectArrayElement(colStrings, row, str);
+            env->DeleteLocalRef(str);
+        }
+        env->SetObjectArrayElement(jstrings, col, colStrings);
+        env->DeleteLocalRef(colStrings);
+    }
+
+    if (cls_String != nullptr)
+        env->DeleteLocalRef(cls_String);
+
+    return rows;
+}
+}
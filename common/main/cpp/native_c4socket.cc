@@ -307,6 +307,26 @@ Java_com_couchbase_lite_internal_core_impl_NativeC4Socket_received(
     c4socket_received(socket, data);
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_core_C4Socket
+ * Method:    receivedBuffer
+ * Signature: (JLjava/nio/ByteBuffer;II)V
+ */
+JNIEXPORT void JNICALL
+Java_com_couchbase_lite_internal_core_impl_NativeC4Socket_receivedBuffer(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jSocket,
+        jobject jdata,
+        jint offset,
+        jint len) {
+    auto socket = (C4Socket *) jSocket;
+    C4Slice data;
+    if (!directBufferSlice(env, jdata, offset, len, &data))
+        return;
+    c4socket_received(socket, data);
+}
+
 /*
  * Class:     com_couchbase_lite_internal_core_C4Socket
  * Method:    closeRequested
@@ -155,6 +155,54 @@ Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_get(
     return (jlong) FLDict_Get((FLDict) jdict, (C4Slice) key);
 }
 
+// A pre-encoded key: FLDictKey keeps a pointer to the key string and caches its shared-key id.
+struct JDictKey {
+    std::string keyString;
+    FLDictKey key;
+};
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLDict
+ * Method:    initKey
+ * Signature: ([B)J
+ */
+JNIEXPORT jlong JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_initKey(
+        JNIEnv *env,
+        jclass ignore,
+        jbyteArray jkeystring) {
+    jbyteArraySlice slice(env, jkeystring);
+    FLSlice keySlice = slice;
+    auto dictKey = new JDictKey();
+    dictKey->keyString = std::string((const char *) keySlice.buf, keySlice.size);
+    dictKey->key = FLDictKey_Init({dictKey->keyString.data(), dictKey->keyString.size()});
+    return (jlong) dictKey;
+}
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLDict
+ * Method:    getWithKey
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_getWithKey(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jdict,
+        jlong jkey) {
+    return (jlong) FLDict_GetWithKey((FLDict) jdict, &((JDictKey *) jkey)->key);
+}
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLDict
+ * Method:    freeKey
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLDict_freeKey(JNIEnv *env, jclass ignore, jlong jkey) {
+    delete (JDictKey *) jkey;
+}
+
 // ----------------------------------------------------------------------------
 // FLDictIterator
 // ----------------------------------------------------------------------------
@@ -350,6 +398,25 @@ Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asString(
     return toJString(env, str);
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
+ * Method:    asChars
+ * Signature: (J[C)I
+ *
+ * Copies a string value into the passed char array, without creating a Java String.
+ * Returns the number of chars copied, or, if the array is too small, -(the number of chars needed).
+ */
+JNIEXPORT jint JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asChars(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jvalue,
+        jcharArray jbuf) {
+    FLString str = FLValue_AsString((FLValue) jvalue);
+    if (str.buf == nullptr) return 0;
+    return UTF8ToJchars(env, (const char *) str.buf, str.size, jbuf);
+}
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
  * Method:    asData
@@ -364,6 +431,36 @@ Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asData(
     return toJByteArray(env, bytes);
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
+ * Method:    asDataBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_asDataBuffer(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jvalue) {
+    FLSlice bytes = FLValue_AsData((FLValue) jvalue);
+    return toJDirectBuffer(env, bytes);
+}
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
+ * Method:    toJava
+ * Signature: (JZ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLValue_toJava(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jvalue,
+        jboolean failOnBlob) {
+    bool failed = false;
+    jobject result = toJavaObject(env, (FLValue) jvalue, failOnBlob == JNI_TRUE, &failed);
+    return failed ? nullptr : result;
+}
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLValue
  * Method:    asArray
@@ -516,6 +613,21 @@ Java_com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult_getBuf(
     return toJByteArray(env, s);
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult
+ * Method:    getByteBuffer
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult_getByteBuffer(
+        JNIEnv *env,
+        jclass ignore,
+        jlong base,
+        jlong size) {
+    C4Slice s = {(const void *) base, (size_t) size};
+    return toJDirectBuffer(env, s);
+}
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLSliceResult
  * Method:    release
@@ -15,6 +15,8 @@
 // See the License for the specific language governing permissions and
 // limitations under the License.
 //
+#include <string>
+#include <unordered_set>
 #include "native_glue.hh"
 #include "com_couchbase_lite_internal_fleece_impl_NativeFLEncoder.h"
 
@@ -156,6 +158,21 @@ Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeData(
     return FLEncoder_WriteData((FLEncoder) jenc, value) ? JNI_TRUE : JNI_FALSE;
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
+ * Method:    convertJSON
+ * Signature: (J[B)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_convertJSON(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jenc,
+        jbyteArray jjson) {
+    jbyteArraySlice json(env, jjson);
+    return FLEncoder_ConvertJSON((FLEncoder) jenc, json) ? JNI_TRUE : JNI_FALSE;
+}
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
  * Method:    writeValue
@@ -170,6 +187,72 @@ Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeValue(
     return FLEncoder_WriteValue((FLEncoder) jenc, (FLValue) jvalue) ? JNI_TRUE : JNI_FALSE;
 }
 
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
+ * Method:    writeArrayRange
+ * Signature: (JJJJ)Z
+ *
+ * Writes the elements [start, start + count) of an FLArray, in a single call.
+ */
+JNIEXPORT jboolean JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeArrayRange(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jenc,
+        jlong jarray,
+        jlong jstart,
+        jlong jcount) {
+    auto enc = (FLEncoder) jenc;
+    auto array = (FLArray) jarray;
+    const auto end = (uint32_t) (jstart + jcount);
+    for (auto i = (uint32_t) jstart; i < end; i++) {
+        if (!FLEncoder_WriteValue(enc, FLArray_Get(array, i))) return JNI_FALSE;
+    }
+    return JNI_TRUE;
+}
+
+/*
+ * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
+ * Method:    writeDictExcept
+ * Signature: (JJ[Ljava/lang/String;)Z
+ *
+ * Writes the key/value pairs of an FLDict, except those whose keys are in jskip, in a single call.
+ * The values are copied from the dict by FLEncoder_WriteValue: they are never converted to Java.
+ */
+JNIEXPORT jboolean JNICALL
+Java_com_couchbase_lite_internal_fleece_impl_NativeFLEncoder_writeDictExcept(
+        JNIEnv *env,
+        jclass ignore,
+        jlong jenc,
+        jlong jdict,
+        jobjectArray jskip) {
+    std::unordered_set<std::string> skip;
+    const jsize nSkip = (jskip == nullptr) ? 0 : env->GetArrayLength(jskip);
+    for (jsize i = 0; i < nSkip; i++) {
+        auto jkey = (jstring) env->GetObjectArrayElement(jskip, i);
+        if (jkey == nullptr) continue;
+        skip.insert(JstringToUTF8(env, jkey));
+        env->DeleteLocalRef(jkey);
+    }
+
+    auto enc = (FLEncoder) jenc;
+    FLDictIterator itr;
+    FLDictIterator_Begin((FLDict) jdict, &itr);
+    bool ok = true;
+    FLValue value;
+    while (ok && ((value = FLDictIterator_GetValue(&itr)) != nullptr)) {
+        FLString key = FLDictIterator_GetKeyString(&itr);
+        if ((key.buf != nullptr)
+            && (skip.empty() || (skip.find(std::string((const char *) key.buf, key.size)) == skip.end()))) {
+            ok = FLEncoder_WriteKey(enc, key) && FLEncoder_WriteValue(enc, value);
+        }
+        FLDictIterator_Next(&itr);
+    }
+    FLDictIterator_End(&itr);
+
+    return ok ? JNI_TRUE : JNI_FALSE;
+}
+
 /*
  * Class:     com_couchbase_lite_internal_fleece_impl_NativeFLEncoder
  * Method:    beginArray
@@ -45,6 +45,21 @@ static jclass cls_HashSet;                        // global class reference
 static jmethodID m_HashSet_init;                  // constructor
 static jmethodID m_HashSet_add;                   // add
 
+// Java HashMap class
+static jclass cls_HashMap;                        // global class reference
+static jmethodID m_HashMap_init;                  // constructor
+static jmethodID m_HashMap_put;                   // put
+
+// Java boxed scalar classes
+static jclass cls_Boolean;                        // global class reference
+static jmethodID m_Boolean_valueOf;               // static factory
+static jclass cls_Long;                           // global class reference
+static jmethodID m_Long_valueOf;                  // static factory
+static jclass cls_Float;                          // global class reference
+static jmethodID m_Float_valueOf;                 // static factory
+static jclass cls_Double;                         // global class reference
+static jmethodID m_Double_valueOf;                // static factory
+
 // Java FLSliceResult class
 static jclass cls_FLSliceResult;                  // global class reference
 static jmethodID m_FLSliceResult_createSliceResult; // static constructor
@@ -92,6 +107,78 @@ static bool initC4Glue(JNIEnv *env) {
         if (m_HashSet_add == nullptr)
             return false;
     }
+    {
+        jclass localClass = env->FindClass("java/util/HashMap");
+        if (localClass == nullptr)
+            return false;
+
+        cls_HashMap = reinterpret_cast<jclass>(env->NewGlobalRef(localClass));
+        if (cls_HashMap == nullptr)
+            return false;
+
+        m_HashMap_init = env->GetMethodID(cls_HashMap, "<init>", "(I)V");
+        if (m_HashMap_init == nullptr)
+            return false;
+
+        m_HashMap_put = env->GetMethodID(
+                cls_HashMap,
+                "put",
+                "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
+        if (m_HashMap_put == nullptr)
+            return false;
+    }
+    {
+        jclass localClass = env->FindClass("java/lang/Boolean");
+        if (localClass == nullptr)
+            return false;
+
+        cls_Boolean = reinterpret_cast<jclass>(env->NewGlobalRef(localClass));
+        if (cls_Boolean == nullptr)
+            return false;
+
+        m_Boolean_valueOf = env->GetStaticMethodID(cls_Boolean, "valueOf", "(Z)Ljava/lang/Boolean;");
+        if (m_Boolean_valueOf == nullptr)
+            return false;
+    }
+    {
+        jclass localClass = env->FindClass("java/lang/Long");
+        if (localClass == nullptr)
+            return false;
+
+        cls_Long = reinterpret_cast<jclass>(env->NewGlobalRef(localClass));
+        if (cls_Long == nullptr)
+            return false;
+
+        m_Long_valueOf = env->GetStaticMethodID(cls_Long, "valueOf", "(J)Ljava/lang/Long;");
+        if (m_Long_valueOf == nullptr)
+            return false;
+    }
+    {
+        jclass localClass = env->FindClass("java/lang/Float");
+        if (localClass == nullptr)
+            return false;
+
+        cls_Float = reinterpret_cast<jclass>(env->NewGlobalRef(localClass));
+        if (cls_Float == nullptr)
+            return false;
+
+        m_Float_valueOf = env->GetStaticMethodID(cls_Float, "valueOf", "(F)Ljava/lang/Float;");
+        if (m_Float_valueOf == nullptr)
+            return false;
+    }
+    {
+        jclass localClass = env->FindClass("java/lang/Double");
+        if (localClass == nullptr)
+            return false;
+
+        cls_Double = reinterpret_cast<jclass>(env->NewGlobalRef(localClass));
+        if (cls_Double == nullptr)
+            return false;
+
+        m_Double_valueOf = env->GetStaticMethodID(cls_Double, "valueOf", "(D)Ljava/lang/Double;");
+        if (m_Double_valueOf == nullptr)
+            return false;
+    }
     {
         jclass localClass = env->FindClass("com/couchbase/lite/internal/fleece/FLSliceResult");
         if (localClass == nullptr)
@@ -343,6 +430,50 @@ namespace litecore::jni {
         return str;
     }
 
+    /*
+     * Like UTF8ToJstring, but copies the UTF-16 into a caller-supplied Java char array, so that
+     * no Java String is allocated.  ASCII, by far the commonest case, is widened in place.
+     */
+    jint UTF8ToJchars(JNIEnv *env, const char *s, size_t size, jcharArray jchars) {
+        const jsize capacity = env->GetArrayLength(jchars);
+
+        bool ascii = true;
+        for (size_t i = 0; i < size; i++) {
+            if ((s[i] & 0x80) != 0) {
+                ascii = false;
+                break;
+            }
+        }
+
+        if (ascii) {
+            if (size > (size_t) capacity) return -((jint) size);
+            auto chars = (jchar *) env->GetPrimitiveArrayCritical(jchars, nullptr);
+            if (chars == nullptr) return 0;
+            for (size_t i = 0; i < size; i++) chars[i] = (jchar) s[i];
+            env->ReleasePrimitiveArrayCritical(jchars, chars, 0);
+            return (jint) size;
+        }
+
+        std::u16string ustr;
+        try {
+#ifdef _MSC_VER
+            auto tmpstr = std::wstring_convert<std::codecvt_utf8_utf16<int16_t>, int16_t>().from_bytes(s, s + size);
+    ustr = reinterpret_cast<const char16_t *>(tmpstr.data());
+#else
+            ustr = std::wstring_convert<std::codecvt_utf8_utf16<char16_t>, char16_t>().from_bytes(s, s + size);
+#endif
+        }
+        catch (const std::exception &x) {
+            jniLog("Failed to convert string from UTF-8 to UTF-16: %s", x.what());
+            return 0;
+        }
+
+        const auto len = (jsize) ustr.size();
+        if (len > capacity) return -len;
+        env->SetCharArrayRegion(jchars, 0, len, reinterpret_cast<const jchar *>(ustr.c_str()));
+        return len;
+    }
+
     jstring UTF8ToJstring(JNIEnv *env, const char *s) {
         return (s == nullptr) ? nullptr : UTF8ToJstring(env, s, strlen(s));
     }
@@ -485,6 +616,24 @@ namespace litecore::jni {
         return toJByteArray(env, (C4Slice) s);
     }
 
+    // NOTE: this does *not* copy the passed slice: the buffer is valid only as long as the slice is.
+    jobject toJDirectBuffer(JNIEnv *env, C4Slice s) {
+        if (s.buf == nullptr)
+            return nullptr;
+        return env->NewDirectByteBuffer((void *) s.buf, (jlong) s.size);
+    }
+
+    bool directBufferSlice(JNIEnv *env, jobject jbuf, jint position, jint length, C4Slice *outSlice) {
+        auto base = (const uint8_t *) env->GetDirectBufferAddress(jbuf);
+        jlong capacity = env->GetDirectBufferCapacity(jbuf);
+        if ((base == nullptr) || (position < 0) || (length < 0) || (((jlong) position + length) > capacity)) {
+            throwError(env, {LiteCoreDomain, kC4ErrorInvalidParameter}, "Invalid direct buffer");
+            return false;
+        }
+        *outSlice = {base + position, (size_t) length};
+        return true;
+    }
+
     jobject toJavaFLSliceResult(JNIEnv *const env, const FLSliceResult &sr) {
         return env->CallStaticObjectMethod(
                 cls_FLSliceResult,
@@ -553,6 +702,106 @@ namespace litecore::jni {
         return result;
     }
 
+    // Does this dictionary look like a blob: either {"@type": "blob", ...}
+    // or an old-style attachment, with no type and a digest, length, stub and revpos?
+    static bool isBlobDict(FLDict dict) {
+        FLString type = FLValue_AsString(FLDict_Get(dict, FLSTR("@type")));
+        if (type.buf != nullptr)
+            return FLSlice_Equal(type, FLSTR("blob"));
+        return (FLDict_Get(dict, FLSTR("digest")) != nullptr)
+               && (FLDict_Get(dict, FLSTR("length")) != nullptr)
+               && (FLDict_Get(dict, FLSTR("stub")) != nullptr)
+               && (FLDict_Get(dict, FLSTR("revpos")) != nullptr);
+    }
+
+    static jobject toJavaNumber(JNIEnv *env, FLValue value) {
+        if (FLValue_IsInteger(value)) {
+            auto n = FLValue_IsUnsigned(value) ? (jlong) FLValue_AsUnsigned(value) : (jlong) FLValue_AsInt(value);
+            return env->CallStaticObjectMethod(cls_Long, m_Long_valueOf, n);
+        }
+        if (FLValue_IsDouble(value))
+            return env->CallStaticObjectMethod(cls_Double, m_Double_valueOf, (jdouble) FLValue_AsDouble(value));
+        return env->CallStaticObjectMethod(cls_Float, m_Float_valueOf, (jfloat) FLValue_AsFloat(value));
+    }
+
+    jobject toJavaObject(JNIEnv *env, FLValue value, bool failOnBlob, bool *failed) {
+        switch (FLValue_GetType(value)) {
+            case kFLBoolean:
+                return env->CallStaticObjectMethod(cls_Boolean, m_Boolean_valueOf, (jboolean) FLValue_AsBool(value));
+            case kFLNumber:
+                return toJavaNumber(env, value);
+            case kFLString:
+                return toJString(env, FLValue_AsString(value));
+            case kFLData:
+                if (failOnBlob) {
+                    *failed = true;
+                    return nullptr;
+                }
+                return toJByteArray(env, FLValue_AsData(value));
+            case kFLArray: {
+                FLArray array = FLValue_AsArray(value);
+                uint32_t n = FLArray_Count(array);
+                jobject result = env->NewObject(cls_ArrayList, m_ArrayList_init, (jint) n);
+                if (result == nullptr)
+                    return nullptr;
+
+                for (uint32_t i = 0; i < n; i++) {
+                    jobject elem = toJavaObject(env, FLArray_Get(array, i), failOnBlob, failed);
+                    if (*failed || env->ExceptionCheck()) {
+                        env->DeleteLocalRef(result);
+                        return nullptr;
+                    }
+                    env->CallBooleanMethod(result, m_ArrayList_add, elem);
+                    if (elem != nullptr)
+                        env->DeleteLocalRef(elem);
+                }
+                return result;
+            }
+            case kFLDict: {
+                FLDict dict = FLValue_AsDict(value);
+                if (failOnBlob && isBlobDict(dict)) {
+                    *failed = true;
+                    return nullptr;
+                }
+
+                // HashMap's default load factor is .75: size it so that it never needs to grow.
+                uint32_t n = FLDict_Count(dict);
+                jobject result = env->NewObject(cls_HashMap, m_HashMap_init, (jint) (((n * 4) / 3) + 1));
+                if (result == nullptr)
+                    return nullptr;
+
+                FLDictIterator itr;
+                FLDictIterator_Begin(dict, &itr);
+                FLValue val;
+                while ((val = FLDictIterator_GetValue(&itr)) != nullptr) {
+                    jstring key = toJString(env, FLDictIterator_GetKeyString(&itr));
+                    jobject elem = toJavaObject(env, val, failOnBlob, failed);
+                    if (*failed || env->ExceptionCheck()) {
+                        FLDictIterator_End(&itr);
+                        if (key != nullptr)
+                            env->DeleteLocalRef(key);
+                        env->DeleteLocalRef(result);
+                        return nullptr;
+                    }
+                    jobject prev = env->CallObjectMethod(result, m_HashMap_put, key, elem);
+                    if (prev != nullptr)
+                        env->DeleteLocalRef(prev);
+                    if (elem != nullptr)
+                        env->DeleteLocalRef(elem);
+                    if (key != nullptr)
+                        env->DeleteLocalRef(key);
+                    FLDictIterator_Next(&itr);
+                }
+                FLDictIterator_End(&itr);
+                return result;
+            }
+            case kFLNull:
+            case kFLUndefined:
+            default:
+                return nullptr;
+        }
+    }
+
     bool getEncryptionKey(JNIEnv *env, jint keyAlg, jbyteArray jKeyBytes, C4EncryptionKey *outKey) {
         outKey->algorithm = (C4EncryptionAlgorithm) keyAlg;
         if (keyAlg == kC4EncryptionNone)
@@ -78,6 +78,9 @@ namespace litecore::jni {
 
     jstring UTF8ToJstring(JNIEnv *env, const char *s, size_t size);
 
+    // Copies UTF-8 into a Java char array: returns the number of chars copied, or -(the number needed)
+    jint UTF8ToJchars(JNIEnv *env, const char *s, size_t size, jcharArray jchars);
+
     std::string JcharsToUTF8(const jchar *jchars, jsize len);
 
     // Creates a temporary slice value from a Java String object
@@ -143,6 +146,13 @@ namespace litecore::jni {
 
     jbyteArray toJByteArray(JNIEnv *, C4SliceResult);
 
+    // Creates a direct ByteBuffer that frames the contents of a C4Slice, without copying them.
+    jobject toJDirectBuffer(JNIEnv *, C4Slice);
+
+    // Frames `length` bytes of a direct ByteBuffer's memory, starting at `position`.
+    // Returns false, with a pending Java exception, if the buffer is not direct or the range is invalid.
+    bool directBufferSlice(JNIEnv *env, jobject jbuf, jint position, jint length, C4Slice *outSlice);
+
     // Copy a FLMutableArray of strings to a Java ArrayList<String>
     jobject toStringList(JNIEnv *env, FLMutableArray array);
 
@@ -152,6 +162,12 @@ namespace litecore::jni {
     // Copy a native FLSliceResult to a Java FLSliceResult
     jobject toJavaFLSliceResult(JNIEnv *const, const FLSliceResult &);
 
+    // Converts a Fleece value, and everything it contains, to Java objects in a single pass:
+    // HashMap, ArrayList, String, byte[], Boolean, Long, Float, Double or null.
+    // If failOnBlob is true, the conversion stops and sets *failed at the first value that
+    // would be a Blob in a document (data or a blob dictionary), and the result is null.
+    jobject toJavaObject(JNIEnv *env, FLValue value, bool failOnBlob, bool *failed);
+
     // Copy a Java FLSliceResult to a native FLSliceResult
     FLSliceResult fromJavaFLSliceResult(JNIEnv *const, jobject);
 
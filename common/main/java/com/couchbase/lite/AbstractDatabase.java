@@ -18,6 +18,7 @@ package com.couchbase.lite;
 import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import java.io.File;
 import java.io.IOException;
@@ -33,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.couchbase.lite.internal.CouchbaseLiteInternal;
 import com.couchbase.lite.internal.ImmutableDatabaseConfiguration;
+import com.couchbase.lite.internal.QueryCache;
 import com.couchbase.lite.internal.SocketFactory;
 import com.couchbase.lite.internal.core.C4Collection;
 import com.couchbase.lite.internal.core.C4Constants;
@@ -220,6 +222,10 @@ abstract class AbstractDatabase extends BaseDatabase
 
     private final FLSharedKeys sharedKeys;
 
+    // Compiled SQL++ queries, shared by all the Queries with the same text.
+    @NonNull
+    private final QueryCache queryCache = new QueryCache(QueryCache.DEFAULT_CAPACITY);
+
     @GuardedBy("activeProcesses")
     private final Set<ActiveProcess<?>> activeProcesses;
 
@@ -505,6 +511,7 @@ abstract class AbstractDatabase extends BaseDatabase
         synchronized (getDbLock()) {
             try { getC4DbOrThrowLocked().deleteCollection(scopeName, collectionName); }
             catch (LiteCoreException e) { throw CouchbaseLiteException.convertException(e); }
+            queryCache.invalidate();
         }
     }
 
@@ -951,6 +958,13 @@ abstract class AbstractDatabase extends BaseDatabase
         synchronized (getDbLock()) { return getOpenC4DbLocked().createN1qlQuery(n1ql); }
     }
 
+    @NonNull
+    QueryCache getQueryCache() { return queryCache; }
+
+    @VisibleForTesting
+    @NonNull
+    QueryCache.Stats getQueryCacheStats() { return queryCache.getStats(); }
+
     // - Utility:
 
     @NonNull
@@ -1241,6 +1255,9 @@ abstract class AbstractDatabase extends BaseDatabase
             setC4DatabaseLocked(null);
             // mustBeOpen will now fail, which should prevent any new processes from being registered.
 
+            Log.d(DOMAIN, "Query cache: %s", queryCache.getStats());
+            queryCache.invalidate();
+
             // ??? Need to shutdown observers?
 
             closeLatch = new CountDownLatch(1);
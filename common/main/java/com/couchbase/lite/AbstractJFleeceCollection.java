@@ -17,6 +17,7 @@ package com.couchbase.lite;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import java.util.Objects;
 
@@ -40,6 +41,12 @@ import com.couchbase.lite.internal.utils.Internal;
 public abstract class AbstractJFleeceCollection<T extends MCollection>
     extends BaseJFleeceCollection
     implements JFleeceCollectionInterface, JSONEncodable, FleeceEncodable {
+    // Mutable collections, and those backed by native memory that the database may free
+    // (e.g., query results) use the database lock.  An immutable collection that is part of
+    // a saved document, though, cannot change and its Fleece is kept alive by the C4Document
+    // held in its DocContext: the lock need only protect its own caches from concurrent readers.
+    // That is safe only because a copy (e.g., toMutable) never shares MValues with its original:
+    // the copy constructors copy each MValue while holding the original's lock.
     @NonNull
     protected final Object lock;
 
@@ -50,7 +57,7 @@ public abstract class AbstractJFleeceCollection<T extends MCollection>
         contents = collection;
         final MContext context = collection.getContext();
         final BaseDatabase db = (context == null) ? null : context.getDatabase();
-        lock = (db == null) ? new Object() : db.getDbLock();
+        lock = ((db == null) || isReadOnlyDocContent(collection, context)) ? new Object() : db.getDbLock();
     }
 
     @NonNull
@@ -80,7 +87,7 @@ public abstract class AbstractJFleeceCollection<T extends MCollection>
     // !!! Should be synchronized??
     @NonNull
     public String toJSON() throws CouchbaseLiteException {
-        try (FLEncoder.JSONEncoder encoder = FLEncoder.getJSONEncoder()) {
+        try (FLEncoder.JSONEncoder encoder = FLEncoder.getPooledJSONEncoder()) {
             contents.encodeTo(encoder);
             return encoder.finishJSON();
         }
@@ -89,6 +96,13 @@ public abstract class AbstractJFleeceCollection<T extends MCollection>
         }
     }
 
+    @VisibleForTesting
+    final boolean usesDbLock() {
+        final MContext context = contents.getContext();
+        final BaseDatabase db = (context == null) ? null : context.getDatabase();
+        return (db != null) && (lock == db.getDbLock());
+    }
+
     // Assume that array and dict values are always different to avoid expensive comparisons.
     protected boolean willMutate(Object newValue, @NonNull MValue oldValue, MCollection container) {
         final FLValue val = oldValue.getFLValue();
@@ -100,4 +114,10 @@ public abstract class AbstractJFleeceCollection<T extends MCollection>
             || (newValue instanceof Array)
             || !Objects.equals(newValue, oldValue.toJFleece(container)));
     }
+
+    private static boolean isReadOnlyDocContent(@NonNull MCollection collection, @Nullable MContext context) {
+        return !collection.isMutable()
+            && (context instanceof DocContext)
+            && (((DocContext) context).getDocument() != null);
+    }
 }
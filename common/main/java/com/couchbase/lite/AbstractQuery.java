@@ -26,7 +26,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 
-import com.couchbase.lite.internal.CouchbaseLiteInternal;
+import com.couchbase.lite.internal.QueryCache;
+import com.couchbase.lite.internal.QueryLanguage;
 import com.couchbase.lite.internal.core.C4Query;
 import com.couchbase.lite.internal.core.C4QueryEnumerator;
 import com.couchbase.lite.internal.core.C4QueryObserver;
@@ -114,6 +115,12 @@ abstract class AbstractQuery implements Listenable<QueryChange, QueryChangeListe
 
     @Nullable
     private Parameters parameters;
+    // The parameters are immutable: encode them once, when they are set, not on each execution.
+    // Once the query has been run, this is never null: running a compiled query with no parameters
+    // would reuse the parameters last bound to it.
+    @GuardedBy("lock")
+    @Nullable
+    private FLSliceResult encodedParameters;
 
     /**
      * Returns a copy of the current parameters.
@@ -132,15 +139,16 @@ abstract class AbstractQuery implements Listenable<QueryChange, QueryChangeListe
     public void setParameters(@Nullable Parameters parameters) throws CouchbaseLiteException {
         synchronized (lock) {
             if (parameters != null) { parameters = parameters.readOnlyCopy(); }
+            // Clearing the parameters must replace any already bound to the compiled query
+            final FLSliceResult params = encodeParameters((parameters != null) ? parameters : new Parameters());
 
+            final FLSliceResult oldParams = encodedParameters;
             this.parameters = parameters;
+            encodedParameters = params;
+            if (oldParams != null) { oldParams.close(); }
 
-            if (parameters == null) { return; }
-
-            try (FLSliceResult params = parameters.encode()) { getC4QueryLocked().setParameters(params); }
-            catch (LiteCoreException e) {
-                throw CouchbaseLiteException.convertException(e, "Failed encoding parameters");
-            }
+            // If the query hasn't been compiled, yet, the parameters will be set when it is.
+            if (c4query != null) { c4query.setParameters(params); }
         }
     }
 
@@ -160,13 +168,17 @@ abstract class AbstractQuery implements Listenable<QueryChange, QueryChangeListe
     @Override
     public ResultSet execute() throws CouchbaseLiteException {
         try {
-            if (parameters == null) { parameters = new Parameters(); }
             final C4QueryEnumerator c4enum;
             final Map<String, Integer> colNames;
-            try (FLSliceResult params = parameters.encode()) {
-                synchronized (getDbLock()) {
-                    synchronized (lock) {
-                        c4enum = getC4QueryLocked().run(params);
+            synchronized (getDbLock()) {
+                synchronized (lock) {
+                    final QueryCache.Entry shared = getSharedQueryLocked();
+                    if (shared != null) {
+                        c4enum = shared.query.run(getEncodedParametersLocked());
+                        colNames = shared.columnNames;
+                    }
+                    else {
+                        c4enum = getC4QueryLocked().run(getEncodedParametersLocked());
                         colNames = columnNames;
                     }
                 }
@@ -237,10 +249,9 @@ abstract class AbstractQuery implements Listenable<QueryChange, QueryChangeListe
         liveQueries.put(token, getObserver(token));
 
         // start the observer after the client gets the token
-        ((executor != null) ? executor : CouchbaseLiteInternal.getExecutionService().getDefaultExecutor())
-            .execute(() -> {
-                synchronized (getDbLock()) { liveQueries.start(token); }
-            });
+        token.getExecutor().execute(() -> {
+            synchronized (getDbLock()) { liveQueries.start(token); }
+        });
 
         return token;
     }
@@ -253,6 +264,14 @@ abstract class AbstractQuery implements Listenable<QueryChange, QueryChangeListe
     @NonNull
     protected abstract C4Query prepQueryLocked(@NonNull AbstractDatabase db) throws CouchbaseLiteException;
 
+    @NonNull
+    protected abstract QueryLanguage getQueryLanguage();
+
+    // A query that returns non-null text, here, may use a compiled query from the database's
+    // query cache, shared with any other query with the same language and text.
+    @Nullable
+    protected String getSharedQueryText() { return null; }
+
     @VisibleForTesting
     boolean isLive(ListenerToken token) { return liveQueries.isLive(token); }
 
@@ -268,7 +287,52 @@ abstract class AbstractQuery implements Listenable<QueryChange, QueryChangeListe
         if (db == null) { throw new CouchbaseLiteException("Attempt to prep query with no database"); }
 
         final C4Query c4Q = prepQueryLocked(db);
+        columnNames = getColumnNames(c4Q);
+
+        c4Q.setParameters(getEncodedParametersLocked());
+
+        c4query = c4Q;
+        return c4query;
+    }
+
+    @GuardedBy("lock")
+    @NonNull
+    private FLSliceResult getEncodedParametersLocked() throws CouchbaseLiteException {
+        if (encodedParameters == null) { encodedParameters = encodeParameters(new Parameters()); }
+        return encodedParameters;
+    }
 
+    @NonNull
+    private FLSliceResult encodeParameters(@NonNull Parameters params) throws CouchbaseLiteException {
+        try { return params.encode(); }
+        catch (LiteCoreException e) { throw CouchbaseLiteException.convertException(e, "Failed encoding parameters"); }
+    }
+
+    // Never used if this query has its own compiled query: it may have observers
+    @GuardedBy("lock")
+    @Nullable
+    private QueryCache.Entry getSharedQueryLocked() throws CouchbaseLiteException {
+        if (c4query != null) { return null; }
+
+        final String text = getSharedQueryText();
+        if (text == null) { return null; }
+
+        final AbstractDatabase db = getDatabase();
+        if (db == null) { throw new CouchbaseLiteException("Attempt to prep query with no database"); }
+
+        final QueryCache cache = db.getQueryCache();
+        QueryCache.Entry entry = cache.get(getQueryLanguage(), text);
+        if (entry == null) {
+            final C4Query c4Q = prepQueryLocked(db);
+            entry = new QueryCache.Entry(c4Q, getColumnNames(c4Q));
+            cache.put(getQueryLanguage(), text, entry);
+        }
+
+        return entry;
+    }
+
+    @NonNull
+    private Map<String, Integer> getColumnNames(@NonNull C4Query c4Q) throws CouchbaseLiteException {
         final int nCols = c4Q.getColumnCount();
         final Map<String, Integer> colNames = new HashMap<>();
         for (int i = 0; i < nCols; i++) {
@@ -284,11 +348,7 @@ abstract class AbstractQuery implements Listenable<QueryChange, QueryChangeListe
 
             colNames.put(colName, i);
         }
-
-        columnNames = colNames;
-
-        c4query = c4Q;
-        return c4query;
+        return colNames;
     }
 
     private void registerLiveQuery() {
@@ -20,26 +20,30 @@ import androidx.annotation.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import org.json.JSONException;
 
 import com.couchbase.lite.internal.core.C4BlobKey;
 import com.couchbase.lite.internal.core.C4BlobReadStream;
 import com.couchbase.lite.internal.core.C4BlobStore;
 import com.couchbase.lite.internal.core.C4BlobWriteStream;
 import com.couchbase.lite.internal.fleece.FLEncoder;
+import com.couchbase.lite.internal.fleece.FLSliceResult;
 import com.couchbase.lite.internal.fleece.FleeceEncodable;
 import com.couchbase.lite.internal.fleece.JSONEncodable;
 import com.couchbase.lite.internal.logging.Log;
 import com.couchbase.lite.internal.utils.ClassUtils;
-import com.couchbase.lite.internal.utils.JSONUtils;
 import com.couchbase.lite.internal.utils.Preconditions;
 import com.couchbase.lite.internal.utils.Volatile;
 
@@ -86,6 +90,12 @@ public final class Blob implements FleeceEncodable, JSONEncodable {
     private static final int MAX_CACHED_CONTENT_LENGTH = 8 * 1024;
     private static final String MIME_UNKNOWN = "application/octet-stream";
 
+    // Direct buffers are expensive to allocate: reuse one per thread, to copy files into the database
+    private static final ThreadLocal<ByteBuffer> FILE_BUFFER = new ThreadLocal<ByteBuffer>() {
+        @Override
+        protected ByteBuffer initialValue() { return ByteBuffer.allocateDirect(MAX_CACHED_CONTENT_LENGTH); }
+    };
+
 
     //---------------------------------------------
     // Types
@@ -412,19 +422,33 @@ public final class Blob implements FleeceEncodable, JSONEncodable {
     @Override
     @NonNull
     public String toJSON() {
-        if (blobDigest == null) {
-            throw new CouchbaseLiteError("A Blob may be encoded as JSON only after it has been saved in a database");
+        try (FLEncoder.JSONEncoder enc = FLEncoder.getPooledJSONEncoder()) {
+            encodeJSON(enc);
+            return enc.finishJSON();
         }
+        catch (LiteCoreException e) { throw new CouchbaseLiteError("Could not encode Blob JSON", e); }
+    }
 
-        final Map<String, Object> json = new HashMap<>();
-
-        json.put(META_PROP_TYPE, TYPE_BLOB);
-        json.put(PROP_DIGEST, blobDigest);
-        json.put(PROP_LENGTH, blobLength);
-        json.put(PROP_CONTENT_TYPE, contentType);
+    /**
+     * Write the same JSON as toJSON, encoded as UTF-8, to the passed stream.
+     *
+     * @param out the stream to which to write the JSON
+     * @throws IOException on failure writing the stream.
+     */
+    public void writeJSON(@NonNull OutputStream out) throws IOException {
+        Preconditions.assertNotNull(out, "out");
+        try (FLSliceResult json = getJSONSlice()) { json.writeTo(out); }
+    }
 
-        try { return JSONUtils.toJSON(json).toString(); }
-        catch (JSONException e) { throw new CouchbaseLiteError("Could not parse Blob JSON", e); }
+    /**
+     * Write the same JSON as toJSON, encoded as UTF-8, to the passed blocking channel.
+     *
+     * @param out the channel to which to write the JSON
+     * @throws IOException on failure writing the channel.
+     */
+    public void writeJSON(@NonNull WritableByteChannel out) throws IOException {
+        Preconditions.assertNotNull(out, "out");
+        try (FLSliceResult json = getJSONSlice()) { json.writeTo(out); }
     }
 
     /**
@@ -648,6 +672,33 @@ public final class Blob implements FleeceEncodable, JSONEncodable {
         }
     }
 
+    @NonNull
+    private FLSliceResult getJSONSlice() {
+        try (FLEncoder.JSONEncoder enc = FLEncoder.getPooledJSONEncoder()) {
+            encodeJSON(enc);
+            return enc.finishJSONSlice();
+        }
+        catch (LiteCoreException e) { throw new CouchbaseLiteError("Could not encode Blob JSON", e); }
+    }
+
+    private void encodeJSON(@NonNull FLEncoder.JSONEncoder enc) {
+        final String digest = blobDigest;
+        if (digest == null) {
+            throw new CouchbaseLiteError("A Blob may be encoded as JSON only after it has been saved in a database");
+        }
+
+        enc.beginDict(4);
+        enc.writeKey(META_PROP_TYPE);
+        enc.writeString(TYPE_BLOB);
+        enc.writeKey(PROP_DIGEST);
+        enc.writeString(digest);
+        enc.writeKey(PROP_LENGTH);
+        enc.writeValue(blobLength);
+        enc.writeKey(PROP_CONTENT_TYPE);
+        enc.writeString(contentType);
+        enc.endDict();
+    }
+
     @NonNull
     private C4BlobKey getBlobKey(@NonNull C4BlobStore store) throws LiteCoreException, IOException {
         if (blobContent != null) { return store.create(blobContent); }
@@ -681,15 +732,11 @@ public final class Blob implements FleeceEncodable, JSONEncodable {
 
         final C4BlobKey key;
 
-        int len = 0;
-        final byte[] buffer;
+        final long len;
         try (C4BlobWriteStream blobOut = store.openWriteStream()) {
-            buffer = new byte[MAX_CACHED_CONTENT_LENGTH];
-            int n;
-            while ((n = blobContentStream.read(buffer)) >= 0) {
-                blobOut.write(buffer, n);
-                len += n;
-            }
+            len = (blobContentStream instanceof FileInputStream)
+                ? writeFile(((FileInputStream) blobContentStream).getChannel(), blobOut)
+                : writeStream(blobContentStream, blobOut);
 
             blobOut.install();
 
@@ -703,9 +750,39 @@ public final class Blob implements FleeceEncodable, JSONEncodable {
 
         blobLength = len;
 
-        // don't cache more than 8K
-        if ((blobContent != null) && (blobContent.length <= MAX_CACHED_CONTENT_LENGTH)) { blobContent = buffer; }
-
         return key;
     }
+
+    // A file channel reads straight into a direct buffer, which is passed to LiteCore in place.
+    private long writeFile(@NonNull FileChannel in, @NonNull C4BlobWriteStream blobOut)
+        throws LiteCoreException, IOException {
+        final ByteBuffer buffer = FILE_BUFFER.get();
+        buffer.clear();
+
+        long len = 0;
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            buffer.flip();
+            blobOut.write(buffer);
+            buffer.clear();
+            len += n;
+        }
+
+        return len;
+    }
+
+    // Any other stream can only be read into a heap array: copying that into a direct buffer gains nothing.
+    private long writeStream(@NonNull InputStream in, @NonNull C4BlobWriteStream blobOut)
+        throws LiteCoreException, IOException {
+        final byte[] buffer = new byte[MAX_CACHED_CONTENT_LENGTH];
+
+        long len = 0;
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            blobOut.write(buffer, n);
+            len += n;
+        }
+
+        return len;
+    }
 }
@@ -26,6 +26,7 @@ import java.util.Map;
 
 import org.json.JSONException;
 
+import com.couchbase.lite.internal.QueryLanguage;
 import com.couchbase.lite.internal.core.C4Query;
 import com.couchbase.lite.internal.logging.Log;
 import com.couchbase.lite.internal.utils.ClassUtils;
@@ -75,6 +76,10 @@ abstract class BuilderQuery extends AbstractQuery {
     @Override
     protected final AbstractDatabase getDatabase() { return from.getDatabase(); }
 
+    @NonNull
+    @Override
+    protected final QueryLanguage getQueryLanguage() { return QueryLanguage.JSON; }
+
     @GuardedBy("lock")
     @NonNull
     @Override
@@ -16,6 +16,9 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -36,12 +39,14 @@ import com.couchbase.lite.internal.core.C4DocumentObserver;
 import com.couchbase.lite.internal.core.C4Index;
 import com.couchbase.lite.internal.exec.ExecutionService;
 import com.couchbase.lite.internal.fleece.FLDict;
+import com.couchbase.lite.internal.fleece.FLEncoder;
 import com.couchbase.lite.internal.fleece.FLSliceResult;
 import com.couchbase.lite.internal.fleece.FLValue;
 import com.couchbase.lite.internal.listener.ChangeListenerToken;
 import com.couchbase.lite.internal.listener.Listenable;
 import com.couchbase.lite.internal.logging.Log;
 import com.couchbase.lite.internal.utils.Fn;
+import com.couchbase.lite.internal.utils.JSONObjectReader;
 import com.couchbase.lite.internal.utils.Preconditions;
 
 
@@ -86,6 +91,14 @@ public final class Collection extends BaseCollection
     // A random but absurdly large number.
     static final int MAX_CONFLICT_RESOLUTION_RETRIES = 13;
 
+    // Number of imported documents saved in each transaction.
+    @VisibleForTesting
+    static final int IMPORT_BATCH_SIZE = 1000;
+
+    private static final String IMPORT_KEY_ID = "_id";
+    private static final String[] IMPORT_SKIP_NONE = new String[0];
+    private static final String[] IMPORT_SKIP_ID = new String[] {IMPORT_KEY_ID};
+
     @VisibleForTesting
     static final String INDEX_KEY_NAME = "name";
     @VisibleForTesting
@@ -211,6 +224,25 @@ public final class Collection extends BaseCollection
         return withLockAndOpenDb(() -> Document.getDocumentOrNull(this, id));
     }
 
+    /**
+     * Gets the existing Document objects with the given IDs. This is considerably faster than getting
+     * the documents one at a time. The returned list is parallel to the list of IDs: if the document
+     * with a given ID doesn't exist in the collection, the corresponding entry in the list will be null.
+     * <p>
+     *
+     * @param ids the document ids
+     * @return a list of the Document objects, some of which may be null
+     * @throws CouchbaseLiteException if the database is closed, the collection has been deleted, etc.
+     */
+    @NonNull
+    public List<Document> getDocuments(@NonNull List<String> ids) throws CouchbaseLiteException {
+        Preconditions.assertNotNull(ids, "ids");
+        final String[] docIds = ids.toArray(new String[0]);
+        return Preconditions.assertNotNull(
+            withLockAndOpenDb(() -> Document.getDocumentsOrNull(this, docIds)),
+            "documents");
+    }
+
     /**
      * Save a document into the collection. The default concurrency control, lastWriteWins,
      * will be used when there is conflict during  save.
@@ -249,6 +281,76 @@ public final class Collection extends BaseCollection
         return false;
     }
 
+    /**
+     * Save several documents into the collection, in a single transaction, with a specified concurrency
+     * control.  This is considerably faster than saving the documents one at a time.
+     * When specifying the failOnConflict concurrency control, a document that is in conflict is not saved:
+     * its outcome is CONFLICTED.  Any other failure aborts the transaction: none of the documents are saved.
+     * <p>
+     * When saving a document that already belongs to a collection, the collection instance of the
+     * document and this collection instance must be the same, otherwise, the InvalidParameter
+     * error will be thrown.
+     *
+     * @param documents          the documents to save
+     * @param concurrencyControl the concurrency control
+     * @return the outcome for each document, in iteration order
+     * @throws CouchbaseLiteException on failure
+     */
+    @NonNull
+    public List<SaveOutcome> saveAll(
+        @NonNull Iterable<MutableDocument> documents,
+        @NonNull ConcurrencyControl concurrencyControl)
+        throws CouchbaseLiteException {
+        Preconditions.assertNotNull(documents, "documents");
+        Preconditions.assertNotNull(concurrencyControl, "concurrencyControl");
+
+        final List<MutableDocument> docs = new ArrayList<>();
+        for (MutableDocument document: documents) {
+            prepareDocument(Preconditions.assertNotNull(document, "document"));
+            docs.add(document);
+        }
+
+        if (docs.isEmpty()) { return new ArrayList<>(); }
+
+        return Preconditions.assertNotNull(
+            withLockAndOpenDb(() -> saveAllLocked(docs, concurrencyControl)),
+            "outcomes");
+    }
+
+    /**
+     * Import documents from a stream of UTF-8 JSON.  The stream may be newline delimited JSON,
+     * a sequence of JSON objects, or a JSON array of objects: each object becomes a document.
+     * If an object has a string "_id" property, it is the ID of the document and is not
+     * part of the document's content.  An object without an "_id" is given a new, unique ID.
+     * An imported document replaces any existing document with the same ID.
+     * <p>
+     * The JSON is converted directly to the database's internal format: no Java objects are created
+     * for the documents' properties.  The documents are saved in batches, each in a single transaction.
+     * If the import fails, the documents in the batches saved before the failure remain in the collection.
+     * This method does not close the stream.
+     *
+     * @param json a stream of UTF-8 JSON
+     * @return the number of documents imported
+     * @throws CouchbaseLiteException if a document is not valid JSON or cannot be saved
+     * @throws IOException            on failure reading the stream or if it is not a sequence of JSON objects
+     */
+    public long importJSON(@NonNull InputStream json) throws CouchbaseLiteException, IOException {
+        return importJSON(new JSONObjectReader(Preconditions.assertNotNull(json, "json")));
+    }
+
+    /**
+     * Import documents from a JSON character stream.
+     * The contract is the same as that of importJSON(InputStream).
+     *
+     * @param json a JSON character stream
+     * @return the number of documents imported
+     * @throws CouchbaseLiteException if a document is not valid JSON or cannot be saved
+     * @throws IOException            on failure reading the stream or if it is not a sequence of JSON objects
+     */
+    public long importJSON(@NonNull Reader json) throws CouchbaseLiteException, IOException {
+        return importJSON(new JSONObjectReader(Preconditions.assertNotNull(json, "json")));
+    }
+
     /**
      * Save a document into the collection with a specified conflict handler. The specified conflict handler
      * will be called if there is conflict during save. If the conflict handler returns 'false', the save
@@ -394,10 +496,33 @@ public final class Collection extends BaseCollection
      */
     @NonNull
     public ListenerToken addChangeListener(@Nullable Executor executor, @NonNull CollectionChangeListener listener) {
+        return addChangeListener(executor, listener, false);
+    }
+
+    /**
+     * Add a change listener to listen to change events occurring to any documents in the collection.
+     * To remove the listener, call remove() function on the returned listener token.
+     * This listener will be executed on the passed executor.
+     * <p>
+     * If coalesce is true, the listener never has more than one notification waiting for it:
+     * changes that occur while a notification is queued or running are merged into a single
+     * notification that lists each changed document once.  This keeps a slow listener from
+     * accumulating a backlog of notifications, e.g., during a large pull replication.
+     *
+     * @param executor the executor on which to run the listener.
+     * @param listener the observer
+     * @param coalesce merge changes that occur while a notification is pending
+     * @return token used to cancel the listener
+     */
+    @NonNull
+    public ListenerToken addChangeListener(
+        @Nullable Executor executor,
+        @NonNull CollectionChangeListener listener,
+        boolean coalesce) {
         Preconditions.assertNotNull(listener, "listener");
         return Preconditions.assertNotNull(
             // this call cannot, in fact, return null
-            withLock(() -> addCollectionChangeListenerLocked(executor, listener)),
+            withLock(() -> addCollectionChangeListenerLocked(executor, listener, coalesce)),
             "token");
     }
 
@@ -495,6 +620,7 @@ public final class Collection extends BaseCollection
     public void deleteIndex(@NonNull String name) throws CouchbaseLiteException {
         try { c4Collection.deleteIndex(name); }
         catch (LiteCoreException e) { throw CouchbaseLiteException.convertException(e); }
+        finally { db.getQueryCache().invalidate(); }
     }
 
     // - AutoCloseable
@@ -595,6 +721,16 @@ public final class Collection extends BaseCollection
         }
     }
 
+    @NonNull
+    C4Document[] getC4Documents(@NonNull String[] docIds) throws CouchbaseLiteException {
+        try {
+            synchronized (getDbLock()) { return c4Collection.getDocuments(docIds); }
+        }
+        catch (LiteCoreException e) {
+            throw CouchbaseLiteException.convertException(e, "Failed retrieving documents");
+        }
+    }
+
     @Nullable
     C4Document getC4DocumentWithRevs(@NonNull String docId) throws CouchbaseLiteException {
         try {
@@ -697,11 +833,189 @@ public final class Collection extends BaseCollection
         }
     }
 
+    // The batch save method.
+    // Contract is the same as for saveLocked.
+    // All of the documents are encoded first and then handed to LiteCore in a single call.
+    // Conflicted documents are resolved individually, afterwards, if concurrency control is LAST_WRITE_WINS.
+    @GuardedBy("getDbLock()")
+    @NonNull
+    List<SaveOutcome> saveAllLocked(
+        @NonNull List<? extends Document> documents,
+        @NonNull ConcurrencyControl concurrencyControl)
+        throws CouchbaseLiteException {
+        final int n = documents.size();
+        final String[] docIds = new String[n];
+        final String[] parentRevIds = new String[n];
+        final FLSliceResult[] bodies = new FLSliceResult[n];
+        final int[] flags = new int[n];
+
+        final List<SaveOutcome> outcomes = new ArrayList<>(n);
+        // New revisions: the documents are not updated until the transaction has committed
+        final C4Document[] revs = new C4Document[n];
+        boolean commit = false;
+        db.beginTransaction();
+        try {
+            try {
+                for (int i = 0; i < n; i++) {
+                    final Document document = documents.get(i);
+                    docIds[i] = document.getId();
+
+                    final C4Document c4Doc = document.getC4doc();
+                    parentRevIds[i] = (c4Doc == null) ? null : c4Doc.getSelectedRevID();
+
+                    if (document.isEmpty()) { continue; }
+
+                    bodies[i] = document.encode();
+                    if (c4Collection.docContainsBlobs(bodies[i], db.getSharedKeys())) {
+                        flags[i] = C4Constants.RevisionFlags.HAS_ATTACHMENTS;
+                    }
+                }
+
+                final C4Document[] c4Docs = c4Collection.saveDocuments(docIds, parentRevIds, bodies, flags);
+                System.arraycopy(c4Docs, 0, revs, 0, n);
+            }
+            catch (LiteCoreException e) {
+                throw CouchbaseLiteException.convertException(e);
+            }
+            finally {
+                for (FLSliceResult body: bodies) {
+                    if (body != null) { body.close(); }
+                }
+            }
+
+            for (int i = 0; i < n; i++) {
+                if (revs[i] != null) {
+                    outcomes.add(SaveOutcome.SAVED);
+                    continue;
+                }
+
+                // Conflict
+                switch (concurrencyControl) {
+                    case FAIL_ON_CONFLICT:
+                        outcomes.add(SaveOutcome.CONFLICTED);
+                        break;
+
+                    case LAST_WRITE_WINS:
+                        final C4Document curDoc = getC4Document(docIds[i]);
+                        if (curDoc != null) { revs[i] = createRevisionInTransaction(documents.get(i), curDoc, false); }
+                        outcomes.add((revs[i] != null) ? SaveOutcome.SAVED : SaveOutcome.CONFLICTED);
+                        break;
+
+                    default:
+                        throw new CouchbaseLiteException("Unrecognized concurrency control: " + concurrencyControl);
+                }
+            }
+
+            commit = true;
+        }
+        finally {
+            boolean committed = false;
+            try {
+                db.endTransaction(commit);
+                committed = commit;
+            }
+            finally {
+                // If the transaction was rolled back, the new revisions don't exist
+                for (int i = 0; i < n; i++) {
+                    final C4Document rev = revs[i];
+                    if (rev == null) { continue; }
+                    if (committed) { documents.get(i).replaceC4Document(rev); }
+                    else { rev.close(); }
+                }
+            }
+        }
+
+        return outcomes;
+    }
+
+    // Save a batch of JSON documents, overwriting any existing revisions.
+    // Each document is parsed by Fleece into a standalone value and then copied,
+    // without the "_id" property, into the db's shared-keys encoder.
+    // A document that conflicts (e.g., a second copy of a doc in the same batch) is saved again,
+    // on top of the current revision.
+    @GuardedBy("getDbLock()")
+    @NonNull
+    Integer importBatchLocked(@NonNull List<byte[]> jsonDocs) throws CouchbaseLiteException {
+        final int n = jsonDocs.size();
+        final String[] docIds = new String[n];
+        final FLSliceResult[] bodies = new FLSliceResult[n];
+        final int[] flags = new int[n];
+
+        int saved = 0;
+        boolean commit = false;
+        db.beginTransaction();
+        try (FLEncoder parser = FLEncoder.getPooledEncoder()) {
+            for (int i = 0; i < n; i++) {
+                parser.convertJSON(jsonDocs.get(i));
+                try (FLSliceResult parsed = parser.finish2()) {
+                    final FLValue root = FLValue.fromData(parsed);
+                    if ((root == null) || (root.getType() != FLValue.DICT)) {
+                        throw new CouchbaseLiteException(
+                            "Imported JSON is not an object",
+                            CBLError.Domain.CBLITE,
+                            CBLError.Code.INVALID_PARAMETER);
+                    }
+                    final FLDict dict = root.asFLDict();
+
+                    final FLValue id = dict.get(IMPORT_KEY_ID);
+                    if (id == null) { docIds[i] = MutableDocument.createUUID(); }
+                    else if (id.getType() == FLValue.STRING) { docIds[i] = id.asString(); }
+                    else {
+                        throw new CouchbaseLiteException(
+                            "Imported document ID is not a string",
+                            CBLError.Domain.CBLITE,
+                            CBLError.Code.INVALID_PARAMETER);
+                    }
+
+                    try (FLEncoder enc = db.getSharedFleeceEncoder()) {
+                        enc.writeDictExcept(dict, (id == null) ? IMPORT_SKIP_NONE : IMPORT_SKIP_ID);
+                        bodies[i] = enc.finish2();
+                    }
+                }
+
+                if (c4Collection.docContainsBlobs(bodies[i], db.getSharedKeys())) {
+                    flags[i] = C4Constants.RevisionFlags.HAS_ATTACHMENTS;
+                }
+            }
+
+            final C4Document[] c4Docs
+                = c4Collection.saveDocuments(docIds, getCurrentRevIdsLocked(docIds), bodies, flags);
+            for (int i = 0; i < n; i++) {
+                C4Document c4Doc = c4Docs[i];
+                if (c4Doc == null) {
+                    final String[] docId = new String[] {docIds[i]};
+                    c4Doc = c4Collection.saveDocuments(
+                        docId,
+                        getCurrentRevIdsLocked(docId),
+                        new FLSliceResult[] {bodies[i]},
+                        new int[] {flags[i]})[0];
+                }
+                if (c4Doc == null) { continue; }
+                c4Doc.close();
+                saved++;
+            }
+
+            commit = true;
+        }
+        catch (LiteCoreException e) {
+            throw CouchbaseLiteException.convertException(e, "Failed importing JSON");
+        }
+        finally {
+            for (FLSliceResult body: bodies) {
+                if (body != null) { body.close(); }
+            }
+            db.endTransaction(commit);
+        }
+
+        return saved;
+    }
+
     @GuardedBy("getDbLock()")
     @NonNull
     ListenerToken addCollectionChangeListenerLocked(
         @Nullable Executor executor,
-        @NonNull CollectionChangeListener listener) {
+        @NonNull CollectionChangeListener listener,
+        boolean coalesce) {
         if (collectionChangeNotifier == null) {
             collectionChangeNotifier = new CollectionChangeNotifier(this);
             if (isOpenLocked()) {
@@ -714,7 +1028,11 @@ public final class Collection extends BaseCollection
                 }
             }
         }
-        return collectionChangeNotifier.addChangeListener(executor, listener, this::removeCollectionChangeListener);
+        return collectionChangeNotifier.addChangeListener(
+            executor,
+            listener,
+            (!coalesce) ? null : CollectionChangeNotifier::coalesceChanges,
+            this::removeCollectionChangeListener);
     }
 
     @SuppressWarnings("PMD.CollapsibleIfStatements")
@@ -786,6 +1104,7 @@ public final class Collection extends BaseCollection
             catch (LiteCoreException e) {
                 throw CouchbaseLiteException.convertException(e);
             }
+            finally { db.getQueryCache().invalidate(); }
         }
     }
 
@@ -878,6 +1197,41 @@ public final class Collection extends BaseCollection
 
     // - Documents:
 
+    private long importJSON(@NonNull JSONObjectReader reader) throws CouchbaseLiteException, IOException {
+        final List<byte[]> batch = new ArrayList<>();
+        long imported = 0;
+
+        byte[] json;
+        while ((json = reader.next()) != null) {
+            batch.add(json);
+            if (batch.size() < IMPORT_BATCH_SIZE) { continue; }
+            imported += importBatch(batch);
+            batch.clear();
+        }
+        if (!batch.isEmpty()) { imported += importBatch(batch); }
+
+        return imported;
+    }
+
+    private int importBatch(@NonNull List<byte[]> batch) throws CouchbaseLiteException {
+        return Preconditions.assertNotNull(withLockAndOpenDb(() -> importBatchLocked(batch)), "count");
+    }
+
+    // The selected (current) revision of each of the docs, or null if the doc does not exist
+    @GuardedBy("getDbLock()")
+    @NonNull
+    private String[] getCurrentRevIdsLocked(@NonNull String[] docIds) throws LiteCoreException {
+        final C4Document[] c4Docs = c4Collection.getDocuments(docIds);
+        final String[] revIds = new String[docIds.length];
+        for (int i = 0; i < c4Docs.length; i++) {
+            final C4Document c4Doc = c4Docs[i];
+            if (c4Doc == null) { continue; }
+            revIds[i] = c4Doc.getSelectedRevID();
+            c4Doc.close();
+        }
+        return revIds;
+    }
+
     @GuardedBy("getDbLock()")
     private void prepareDocument(@NonNull Document document) throws CouchbaseLiteException {
         final Collection docCollection = document.getCollection();
@@ -918,6 +1272,17 @@ public final class Collection extends BaseCollection
     // Low-level save method
     @GuardedBy("getDbLock()")
     private void saveInTransaction(@NonNull Document document, @Nullable C4Document base, boolean deleting)
+        throws CouchbaseLiteException {
+        document.replaceC4Document(createRevisionInTransaction(document, base, deleting));
+    }
+
+    // Create the new revision but don't update the document: the caller must do that, or close the revision.
+    @GuardedBy("getDbLock()")
+    @NonNull
+    private C4Document createRevisionInTransaction(
+        @NonNull Document document,
+        @Nullable C4Document base,
+        boolean deleting)
         throws CouchbaseLiteException {
         FLSliceResult body = null;
         try {
@@ -943,7 +1308,7 @@ public final class Collection extends BaseCollection
                 c4Doc = collection.createC4Document(document.getId(), body, revFlags);
             }
 
-            document.replaceC4Document(c4Doc);
+            return c4Doc;
         }
         catch (LiteCoreException e) {
             throw CouchbaseLiteException.convertException(e);
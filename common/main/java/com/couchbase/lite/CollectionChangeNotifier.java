@@ -21,9 +21,12 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.couchbase.lite.internal.core.C4DocumentChange;
+import com.couchbase.lite.internal.listener.ChangeListenerToken;
 import com.couchbase.lite.internal.listener.ChangeNotifier;
 import com.couchbase.lite.internal.utils.Fn;
 import com.couchbase.lite.internal.utils.Preconditions;
@@ -34,6 +37,36 @@ final class CollectionChangeNotifier extends ChangeNotifier<CollectionChange> im
     private static final int REQUESTED_CHANGES = 100;
     private static final int MAX_CHANGES = 1000;
 
+    // Accumulates changes to a collection, in place: the merged change contains each doc id once,
+    // in order of arrival.  The list of ids is built once, when the change is delivered.
+    private static final class ChangeAccumulator implements ChangeListenerToken.Accumulator<CollectionChange> {
+        @NonNull
+        private final CollectionChange first;
+        // null until a second change arrives
+        @Nullable
+        private Set<String> docIds;
+
+        ChangeAccumulator(@NonNull CollectionChange first) { this.first = first; }
+
+        @Override
+        public void add(@NonNull CollectionChange change) {
+            if (docIds == null) { docIds = new LinkedHashSet<>(first.getDocumentIDs()); }
+            docIds.addAll(change.getDocumentIDs());
+        }
+
+        @NonNull
+        @Override
+        public CollectionChange getChange() {
+            return (docIds == null) ? first : new CollectionChange(first.getCollection(), new ArrayList<>(docIds));
+        }
+    }
+
+    // Coalesce changes to a collection
+    @NonNull
+    static ChangeListenerToken.Accumulator<CollectionChange> coalesceChanges(@NonNull CollectionChange change) {
+        return new ChangeAccumulator(change);
+    }
+
     @NonNull
     private final Collection collection;
 
@@ -87,8 +87,8 @@ class ConflictResolutionTask implements ConflictResolutionTaskInterface {
 
 class ConflictResolverService {
     @NonNull
-    private final ExecutionService.CloseableExecutor concurrentExecutor =
-            CouchbaseLiteInternal.getExecutionService().getConcurrentExecutor();
+    private final ExecutionService.CloseableExecutor resolverExecutor =
+            CouchbaseLiteInternal.getExecutionService().getWorkStealingExecutor();
 
     @NonNull
     private final Object lock = new Object();
@@ -113,7 +113,7 @@ class ConflictResolverService {
 
             if (pendingResolutions.isEmpty()) {
                 state = ConflictResolverState.STOPPED;
-                concurrentExecutor.execute(onFinished);
+                resolverExecutor.execute(onFinished);
                 return true;
             }
 
@@ -152,7 +152,7 @@ class ConflictResolverService {
             }
 
             pendingResolutions.add(resolutionTask);
-            concurrentExecutor.execute(resolutionTask);
+            resolverExecutor.execute(resolutionTask);
         }
     }
 
@@ -25,6 +25,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import com.couchbase.lite.internal.fleece.FLValue;
 import com.couchbase.lite.internal.fleece.MCollection;
 import com.couchbase.lite.internal.fleece.MDict;
 import com.couchbase.lite.internal.fleece.MValue;
@@ -98,7 +99,10 @@ public class Dictionary extends AbstractJFleeceCollection<MDict> implements Dict
      * @return the boolean value representing whether a property exists or not.
      */
     @Override
-    public boolean contains(@NonNull String key) { return !getMValueAt(key).isEmpty(); }
+    public boolean contains(@NonNull String key) {
+        Preconditions.assertNotNull(key, "key");
+        synchronized (lock) { return contents.contains(key); }
+    }
 
 
     @NonNull
@@ -127,7 +131,10 @@ public class Dictionary extends AbstractJFleeceCollection<MDict> implements Dict
      * @return the int value.
      */
     @Override
-    public int getInt(@NonNull String key) { return toInteger(getMValueAt(key), contents); }
+    public int getInt(@NonNull String key) {
+        final FLValue value = getFLValueAt(key);
+        return (value != null) ? toInteger(value) : toInteger(getMValueAt(key), contents);
+    }
 
     /**
      * Gets a property's value as an long.
@@ -138,7 +145,10 @@ public class Dictionary extends AbstractJFleeceCollection<MDict> implements Dict
      * @return the long value.
      */
     @Override
-    public long getLong(@NonNull String key) { return toLong(getMValueAt(key), contents); }
+    public long getLong(@NonNull String key) {
+        final FLValue value = getFLValueAt(key);
+        return (value != null) ? toLong(value) : toLong(getMValueAt(key), contents);
+    }
 
     /**
      * Gets a property's value as an float.
@@ -149,7 +159,10 @@ public class Dictionary extends AbstractJFleeceCollection<MDict> implements Dict
      * @return the float value.
      */
     @Override
-    public float getFloat(@NonNull String key) { return toFloat(getMValueAt(key), contents); }
+    public float getFloat(@NonNull String key) {
+        final FLValue value = getFLValueAt(key);
+        return (value != null) ? toFloat(value) : toFloat(getMValueAt(key), contents);
+    }
 
     /**
      * Gets a property's value as an double.
@@ -160,7 +173,10 @@ public class Dictionary extends AbstractJFleeceCollection<MDict> implements Dict
      * @return the double value.
      */
     @Override
-    public double getDouble(@NonNull String key) { return toDouble(getMValueAt(key), contents); }
+    public double getDouble(@NonNull String key) {
+        final FLValue value = getFLValueAt(key);
+        return (value != null) ? toDouble(value) : toDouble(getMValueAt(key), contents);
+    }
 
     /**
      * Gets a property's value as a Number. Returns null if the value doesn't exist, or its value is not a Number.
@@ -265,7 +281,7 @@ public class Dictionary extends AbstractJFleeceCollection<MDict> implements Dict
         final Map<String, Object> map = new HashMap<>();
         synchronized (lock) {
             for (String key: contents.getKeys()) {
-                Object obj = contents.get(key).toJFleece(contents);
+                Object obj = contents.getJFleece(key);
                 if (obj instanceof AbstractJFleeceCollection<?>) {
                     obj = toJFleeceCollection((AbstractJFleeceCollection<?>) obj);
                 }
@@ -349,7 +365,16 @@ public class Dictionary extends AbstractJFleeceCollection<MDict> implements Dict
     //-------------------------------------------------------------------------
 
     @Nullable
-    private Object getJFleeceAt(@NonNull String key) { return getMValueAt(key).toJFleece(contents); }
+    private Object getJFleeceAt(@NonNull String key) {
+        Preconditions.assertNotNull(key, "key");
+        synchronized (lock) { return contents.getJFleece(key); }
+    }
+
+    @Nullable
+    private FLValue getFLValueAt(@NonNull String key) {
+        Preconditions.assertNotNull(key, "key");
+        synchronized (lock) { return contents.getFLValue(key); }
+    }
 
     @NonNull
     private MValue getMValueAt(@NonNull String key) {
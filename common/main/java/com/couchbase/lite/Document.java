@@ -20,6 +20,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
@@ -59,6 +63,25 @@ public class Document implements DictionaryInterface, JSONEncodable, Iterable<St
         return new Document(collection, id, c4Doc, false);
     }
 
+    // The returned list is parallel to the ids array: an entry is null if the doc does not exist or is deleted.
+    @NonNull
+    static List<Document> getDocumentsOrNull(@NonNull Collection collection, @NonNull String[] ids)
+        throws CouchbaseLiteException {
+        Preconditions.assertNotNull(collection, "collection");
+        for (String id: ids) { Preconditions.assertNotEmpty(id, "id"); }
+
+        final C4Document[] c4Docs = collection.getC4Documents(ids);
+
+        final List<Document> docs = new ArrayList<>(c4Docs.length);
+        for (int i = 0; i < c4Docs.length; i++) {
+            final C4Document c4Doc = c4Docs[i];
+            docs.add(((c4Doc == null) || (c4Doc.isDocDeleted()))
+                ? null
+                : new Document(collection, ids[i], c4Doc, false));
+        }
+        return docs;
+    }
+
     @NonNull
     static Document getDocumentWithDeleted(@NonNull Collection collection, @NonNull String id)
         throws CouchbaseLiteException {
@@ -113,8 +136,6 @@ public class Document implements DictionaryInterface, JSONEncodable, Iterable<St
     @Nullable
     private Collection collection;
 
-    @SuppressFBWarnings("URF_UNREAD_FIELD")
-    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField", "FieldCanBeLocal"})
     @GuardedBy("lock")
     @Nullable
     private FLDict data;
@@ -420,7 +441,20 @@ public class Document implements DictionaryInterface, JSONEncodable, Iterable<St
      */
     @NonNull
     @Override
-    public Map<String, Object> toMap() { return getContent().toMap(); }
+    public Map<String, Object> toMap() {
+        // The content of an immutable document is exactly its Fleece body.
+        // Unless it contains blobs, convert the entire body in a single native call.
+        if (!mutable) {
+            final FLDict body;
+            synchronized (lock) { body = data; }
+            if (body != null) {
+                final Map<String, Object> map = body.toMapUnlessBlobs();
+                if (map != null) { return map; }
+            }
+        }
+
+        return getContent().toMap();
+    }
 
     @NonNull
     @Override
@@ -434,6 +468,32 @@ public class Document implements DictionaryInterface, JSONEncodable, Iterable<St
         catch (LiteCoreException e) { throw CouchbaseLiteException.convertException(e); }
     }
 
+    /**
+     * Write the same JSON as toJSON, encoded as UTF-8, to the passed stream.
+     * The JSON is not converted to a Java String and is copied to the stream in small chunks.
+     *
+     * @param out the stream to which to write the JSON
+     * @throws CouchbaseLiteException on encoder failure.
+     * @throws IOException            on failure writing the stream.
+     */
+    public void writeJSON(@NonNull OutputStream out) throws CouchbaseLiteException, IOException {
+        Preconditions.assertNotNull(out, "out");
+        try (FLSliceResult json = getJSONSlice()) { json.writeTo(out); }
+    }
+
+    /**
+     * Write the same JSON as toJSON, encoded as UTF-8, to the passed blocking channel.
+     * The JSON is written directly from native memory.
+     *
+     * @param out the channel to which to write the JSON
+     * @throws CouchbaseLiteException on encoder failure.
+     * @throws IOException            on failure writing the channel.
+     */
+    public void writeJSON(@NonNull WritableByteChannel out) throws CouchbaseLiteException, IOException {
+        Preconditions.assertNotNull(out, "out");
+        try (FLSliceResult json = getJSONSlice()) { json.writeTo(out); }
+    }
+
     /**
      * Tests whether a property exists or not.
      * This can be less expensive than getValue(String),
@@ -623,6 +683,17 @@ public class Document implements DictionaryInterface, JSONEncodable, Iterable<St
     // Private access
     //---------------------------------------------
 
+    @NonNull
+    private FLSliceResult getJSONSlice() throws CouchbaseLiteException {
+        try {
+            synchronized (lock) {
+                if (c4Document == null) { throw new CouchbaseLiteError("Document has not been saved to a database"); }
+                return c4Document.bodyAsJSONSlice(true);
+            }
+        }
+        catch (LiteCoreException e) { throw CouchbaseLiteException.convertException(e); }
+    }
+
     // Sets c4doc and updates the root dictionary
     private void setC4Document(@Nullable C4Document c4doc, boolean mutable) {
         synchronized (lock) {
@@ -21,6 +21,7 @@ import androidx.annotation.VisibleForTesting;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.couchbase.lite.internal.CouchbaseLiteInternal;
 import com.couchbase.lite.internal.utils.Fn;
@@ -35,6 +36,8 @@ public abstract class ListenerToken implements AutoCloseable {
     private final Executor executor;
     private final Fn.Consumer<ListenerToken> onRemove;
     private final AtomicBoolean active = new AtomicBoolean(true);
+    // The executor for a listener registered without one: the token keeps it, so that notifications run in order
+    private final AtomicReference<Executor> listenerExecutor = new AtomicReference<>();
 
     protected ListenerToken(@Nullable Executor executor, @NonNull Fn.Consumer<ListenerToken> onRemove) {
         this.executor = executor;
@@ -57,9 +60,14 @@ public abstract class ListenerToken implements AutoCloseable {
     @VisibleForTesting
     boolean isActive() { return active.get(); }
 
-    @VisibleForTesting
     @NonNull
     Executor getExecutor() {
-        return (executor != null) ? executor : CouchbaseLiteInternal.getExecutionService().getDefaultExecutor();
+        if (executor != null) { return executor; }
+
+        final Executor ex = listenerExecutor.get();
+        if (ex != null) { return ex; }
+
+        listenerExecutor.compareAndSet(null, CouchbaseLiteInternal.getExecutionService().getListenerExecutor());
+        return listenerExecutor.get();
     }
 }
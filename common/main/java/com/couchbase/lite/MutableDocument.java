@@ -18,6 +18,8 @@ package com.couchbase.lite;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
@@ -32,7 +34,7 @@ import com.couchbase.lite.internal.core.C4Document;
 public final class MutableDocument extends Document implements MutableDictionaryInterface {
 
     @NonNull
-    private static String createUUID() { return UUID.randomUUID().toString().toLowerCase(Locale.ENGLISH); }
+    static String createUUID() { return UUID.randomUUID().toString().toLowerCase(Locale.ENGLISH); }
 
     //---------------------------------------------
     // Constructors
@@ -351,6 +353,28 @@ public final class MutableDocument extends Document implements MutableDictionary
     @Override
     public String toJSON() { throw new CouchbaseLiteError("Mutable objects may not be encoded as JSON"); }
 
+    /**
+     * Unimplemented: Mutable objects may not be encoded as JSON
+     *
+     * @param out ignored
+     * @throws CouchbaseLiteError always
+     */
+    @Override
+    public void writeJSON(@NonNull OutputStream out) {
+        throw new CouchbaseLiteError("Mutable objects may not be encoded as JSON");
+    }
+
+    /**
+     * Unimplemented: Mutable objects may not be encoded as JSON
+     *
+     * @param out ignored
+     * @throws CouchbaseLiteError always
+     */
+    @Override
+    public void writeJSON(@NonNull WritableByteChannel out) {
+        throw new CouchbaseLiteError("Mutable objects may not be encoded as JSON");
+    }
+
     //---------------------------------------------
     // Private access
     //---------------------------------------------
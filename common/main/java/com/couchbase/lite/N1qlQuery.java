@@ -18,6 +18,7 @@ package com.couchbase.lite;
 import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 
+import com.couchbase.lite.internal.QueryLanguage;
 import com.couchbase.lite.internal.core.C4Query;
 import com.couchbase.lite.internal.logging.Log;
 import com.couchbase.lite.internal.utils.ClassUtils;
@@ -44,6 +45,15 @@ final class N1qlQuery extends AbstractQuery {
     @Override
     protected AbstractDatabase getDatabase() { return db; }
 
+    @NonNull
+    @Override
+    protected QueryLanguage getQueryLanguage() { return QueryLanguage.N1QL; }
+
+    // Request handlers recreate the same queries over and over: share the compiled query
+    @NonNull
+    @Override
+    protected String getSharedQueryText() { return n1ql; }
+
     @GuardedBy("AbstractQuery.lock")
     @NonNull
     @Override
@@ -236,7 +236,8 @@ public class Parameters extends BaseJFleeceCollection {
     // NOTE: the FLSliceResult returned by this method must be released by the caller
     @NonNull
     final FLSliceResult encode() throws LiteCoreException {
-        try (FLEncoder encoder = FLEncoder.getManagedEncoder()) {
+        // Query parameters are encoded often and are usually small: reuse a pooled encoder (and its buffers).
+        try (FLEncoder encoder = FLEncoder.getPooledEncoder()) {
             encoder.setArg(Blob.ENCODER_ARG_QUERY_PARAM, true);
             encoder.write(map);
             return encoder.finish2();
@@ -19,6 +19,9 @@ package com.couchbase.lite;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -30,6 +33,7 @@ import com.couchbase.lite.internal.BaseJFleeceCollection;
 import com.couchbase.lite.internal.core.C4QueryEnumerator;
 import com.couchbase.lite.internal.fleece.FLArrayIterator;
 import com.couchbase.lite.internal.fleece.FLEncoder;
+import com.couchbase.lite.internal.fleece.FLSliceResult;
 import com.couchbase.lite.internal.fleece.FLValue;
 import com.couchbase.lite.internal.fleece.JSONEncodable;
 import com.couchbase.lite.internal.fleece.MRoot;
@@ -49,6 +53,20 @@ public final class Result
     extends BaseJFleeceCollection
     implements ArrayInterface, DictionaryInterface, JSONEncodable, Iterable<String> {
 
+    //---------------------------------------------
+    // static variables
+    //---------------------------------------------
+    private static final int INITIAL_CHAR_BUFFER_SIZE = 128;
+    private static final int MAX_CHAR_BUFFER_SIZE = 8 * 1024;
+
+    // Scratch space for getStringAt: grown as necessary, up to MAX_CHAR_BUFFER_SIZE.
+    // Larger strings use a temporary buffer, so that one huge string doesn't pin memory to the thread.
+    private static final ThreadLocal<char[]> CHAR_BUFFER = new ThreadLocal<char[]>() {
+        @NonNull
+        @Override
+        protected char[] initialValue() { return new char[INITIAL_CHAR_BUFFER_SIZE]; }
+    };
+
     //---------------------------------------------
     // member variables
     //---------------------------------------------
@@ -141,6 +159,63 @@ public final class Result
     @Override
     public double getDouble(int index) { return toDouble(getFLValueAt(index)); }
 
+    /**
+     * The result at the given index as a long, read directly from the query results.
+     * Unlike {@link #getLong(int)}, this method neither boxes the value nor distinguishes 0
+     * from a value that is missing or is not a number: it returns the passed default.
+     *
+     * @param index the index of the required value.
+     * @param dflt  the value to return if the value is missing or not a number or boolean.
+     * @return a long value.
+     */
+    public long getLongAt(int index, long dflt) {
+        final FLValue value = getFLValueAt(index);
+        if (value == null) { return dflt; }
+        final int type = value.getType();
+        return ((type == FLValue.NUMBER) || (type == FLValue.BOOLEAN)) ? value.asInt() : dflt;
+    }
+
+    /**
+     * The result at the given index as a double, read directly from the query results.
+     * Unlike {@link #getDouble(int)}, this method neither boxes the value nor distinguishes 0
+     * from a value that is missing or is not a number: it returns the passed default.
+     *
+     * @param index the index of the required value.
+     * @param dflt  the value to return if the value is missing or not a number or boolean.
+     * @return a double value.
+     */
+    public double getDoubleAt(int index, double dflt) {
+        final FLValue value = getFLValueAt(index);
+        if (value == null) { return dflt; }
+        final int type = value.getType();
+        return ((type == FLValue.NUMBER) || (type == FLValue.BOOLEAN)) ? value.asDouble() : dflt;
+    }
+
+    /**
+     * Append the string at the given index to the passed StringBuilder.
+     * The chars are copied directly from the query results: no String object is created.
+     *
+     * @param index the index of the required value.
+     * @param dst   the StringBuilder to which to append the string.
+     * @return true if the value is a string (and has been appended); false otherwise.
+     */
+    public boolean getStringAt(int index, @NonNull StringBuilder dst) {
+        Preconditions.assertNotNull(dst, "dst");
+        final FLValue value = getFLValueAt(index);
+        if ((value == null) || (value.getType() != FLValue.STRING)) { return false; }
+
+        char[] buf = CHAR_BUFFER.get();
+        int n = value.asChars(buf);
+        if (n < 0) {
+            buf = new char[-n];
+            if (buf.length <= MAX_CHAR_BUFFER_SIZE) { CHAR_BUFFER.set(buf); }
+            n = value.asChars(buf);
+        }
+
+        dst.append(buf, 0, Math.max(n, 0));
+        return true;
+    }
+
     /**
      * The result at the given index interpreted as a Number.
      * Returns null if the value cannot be so interpreted.
@@ -491,17 +566,8 @@ public final class Result
     public String toJSON() throws CouchbaseLiteException {
         assertOpen();
 
-        final int n = values.size();
-        try (FLEncoder.JSONEncoder enc = FLEncoder.getJSONEncoder()) {
-            enc.beginDict(n);
-            for (String columnName: getColumnNames()) {
-                final int i = getIndexForKey(columnName);
-                if ((i < 0) || (i >= n)) { continue; }
-
-                enc.writeKey(columnName);
-                enc.writeValue(values.get(i));
-            }
-            enc.endDict();
+        try (FLEncoder.JSONEncoder enc = FLEncoder.getPooledJSONEncoder()) {
+            encodeJSON(enc);
             return enc.finishJSON();
         }
         catch (LiteCoreException e) {
@@ -509,6 +575,32 @@ public final class Result
         }
     }
 
+    /**
+     * Write the same JSON as toJSON, encoded as UTF-8, to the passed stream.
+     * The JSON is not converted to a Java String and is copied to the stream in small chunks.
+     *
+     * @param out the stream to which to write the JSON
+     * @throws CouchbaseLiteException on encoder failure.
+     * @throws IOException            on failure writing the stream.
+     */
+    public void writeJSON(@NonNull OutputStream out) throws CouchbaseLiteException, IOException {
+        Preconditions.assertNotNull(out, "out");
+        try (FLSliceResult json = getJSONSlice()) { json.writeTo(out); }
+    }
+
+    /**
+     * Write the same JSON as toJSON, encoded as UTF-8, to the passed blocking channel.
+     * The JSON is written directly from native memory.
+     *
+     * @param out the channel to which to write the JSON
+     * @throws CouchbaseLiteException on encoder failure.
+     * @throws IOException            on failure writing the channel.
+     */
+    public void writeJSON(@NonNull WritableByteChannel out) throws CouchbaseLiteException, IOException {
+        Preconditions.assertNotNull(out, "out");
+        try (FLSliceResult json = getJSONSlice()) { json.writeTo(out); }
+    }
+
     //---------------------------------------------
     // implementation of Iterable
     //---------------------------------------------
@@ -568,6 +660,32 @@ public final class Result
         return values;
     }
 
+    @NonNull
+    private FLSliceResult getJSONSlice() throws CouchbaseLiteException {
+        assertOpen();
+
+        try (FLEncoder.JSONEncoder enc = FLEncoder.getPooledJSONEncoder()) {
+            encodeJSON(enc);
+            return enc.finishJSONSlice();
+        }
+        catch (LiteCoreException e) {
+            throw CouchbaseLiteException.convertException(e, "Cannot encode result: " + this);
+        }
+    }
+
+    private void encodeJSON(@NonNull FLEncoder.JSONEncoder enc) {
+        final int n = values.size();
+        enc.beginDict(n);
+        for (String columnName: getColumnNames()) {
+            final int i = getIndexForKey(columnName);
+            if ((i < 0) || (i >= n)) { continue; }
+
+            enc.writeKey(columnName);
+            enc.writeValue(values.get(i));
+        }
+        enc.endDict();
+    }
+
     private void assertValid(int index) {
         assertOpen();
         if (!isInBounds(index)) { throw new ArrayIndexOutOfBoundsException(index + " is not 0 <= i < " + count()); }
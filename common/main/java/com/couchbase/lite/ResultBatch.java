@@ -0,0 +1,211 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+
+import com.couchbase.lite.internal.core.C4QueryEnumerator;
+import com.couchbase.lite.internal.fleece.FLValue;
+import com.couchbase.lite.internal.fleece.MRoot;
+import com.couchbase.lite.internal.utils.Preconditions;
+
+
+/**
+ * A batch of consecutive rows from a ResultSet, stored by column.
+ * Scalar columns can be read in bulk, as arrays of primitives.
+ * <p>
+ * A ResultBatch may be referenced <b>only</b> while the ResultSet from which it was obtained is open.
+ * An attempt to reference a ResultBatch after calling ResultSet.close on that ResultSet
+ * will throw a CouchbaseLiteError
+ */
+public final class ResultBatch {
+    @NonNull
+    private final ResultContext context;
+    private final int rows;
+    @NonNull
+    private final byte[][] types;
+    @NonNull
+    private final long[][] values;
+    @NonNull
+    private final String[][] strings;
+
+    ResultBatch(
+        @NonNull ResultContext context,
+        int rows,
+        @NonNull byte[][] types,
+        @NonNull long[][] values,
+        @NonNull String[][] strings) {
+        this.context = context;
+        this.rows = rows;
+        this.types = types;
+        this.values = values;
+        this.strings = strings;
+    }
+
+    /**
+     * @return the number of rows in this batch.
+     */
+    public int getRowCount() { return rows; }
+
+    /**
+     * @return the number of columns in each row.
+     */
+    public int getColumnCount() { return types.length; }
+
+    /**
+     * Get the index of the named column.
+     *
+     * @param name the column name.
+     * @return the index of the column, or -1 if there is no such column.
+     */
+    public int getColumnIndex(@NonNull String name) {
+        return context.getResultSet().getColumnIndex(Preconditions.assertNotNull(name, "name"));
+    }
+
+    /**
+     * The values in the column interpreted as longs.
+     * A value that cannot be so interpreted is 0: a boolean is 1 or 0, a floating point number is truncated.
+     *
+     * @param col the index of the column.
+     * @return an array containing the value for each row in the batch.
+     */
+    @NonNull
+    public long[] getLongColumn(int col) {
+        assertValid(col);
+        final byte[] colTypes = types[col];
+        final long[] colValues = values[col];
+        final long[] longs = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            switch (colTypes[i]) {
+                case C4QueryEnumerator.COL_BOOLEAN:
+                case C4QueryEnumerator.COL_INTEGER:
+                    longs[i] = colValues[i];
+                    break;
+                case C4QueryEnumerator.COL_FLOAT:
+                    longs[i] = (long) Double.longBitsToDouble(colValues[i]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return longs;
+    }
+
+    /**
+     * The values in the column interpreted as doubles.
+     * A value that cannot be so interpreted is 0: a boolean is 1 or 0.
+     *
+     * @param col the index of the column.
+     * @return an array containing the value for each row in the batch.
+     */
+    @NonNull
+    public double[] getDoubleColumn(int col) {
+        assertValid(col);
+        final byte[] colTypes = types[col];
+        final long[] colValues = values[col];
+        final double[] doubles = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            switch (colTypes[i]) {
+                case C4QueryEnumerator.COL_BOOLEAN:
+                case C4QueryEnumerator.COL_INTEGER:
+                    doubles[i] = colValues[i];
+                    break;
+                case C4QueryEnumerator.COL_FLOAT:
+                    doubles[i] = Double.longBitsToDouble(colValues[i]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return doubles;
+    }
+
+    /**
+     * The values in the column that are strings.
+     * Rows whose value is not a string are null.
+     *
+     * @param col the index of the column.
+     * @return an array containing the value for each row in the batch.
+     */
+    @NonNull
+    public String[] getStringColumn(int col) {
+        assertValid(col);
+        final String[] colStrings = strings[col];
+        return (colStrings == null) ? new String[rows] : Arrays.copyOf(colStrings, rows);
+    }
+
+    /**
+     * Test whether the value in a column of a row is null or missing.
+     *
+     * @param col the index of the column.
+     * @param row the index of the row.
+     * @return true if the value is null or missing.
+     */
+    public boolean isNull(int col, int row) {
+        assertValid(col, row);
+        final byte type = types[col][row];
+        return (type == C4QueryEnumerator.COL_MISSING) || (type == C4QueryEnumerator.COL_NULL);
+    }
+
+    /**
+     * The value in a column of a row, as an object.
+     * Numbers are Longs or Doubles; nested values are Dictionaries, Arrays or Blobs, as in {@link Result#getValue}.
+     *
+     * @param col the index of the column.
+     * @param row the index of the row.
+     * @return the value or null.
+     */
+    @Nullable
+    public Object getValue(int col, int row) {
+        assertValid(col, row);
+        final long value = values[col][row];
+        switch (types[col][row]) {
+            case C4QueryEnumerator.COL_BOOLEAN:
+                return value != 0;
+            case C4QueryEnumerator.COL_INTEGER:
+                return value;
+            case C4QueryEnumerator.COL_FLOAT:
+                return Double.longBitsToDouble(value);
+            case C4QueryEnumerator.COL_STRING:
+                return strings[col][row];
+            case C4QueryEnumerator.COL_OTHER:
+                synchronized (Preconditions.assertNotNull(context.getDatabase(), "db").getDbLock()) {
+                    return new MRoot(context, FLValue.getFLValue(value), false).toJFleece();
+                }
+            default:
+                return null;
+        }
+    }
+
+    private void assertValid(int col, int row) {
+        assertValid(col);
+        if ((row < 0) || (row >= rows)) {
+            throw new ArrayIndexOutOfBoundsException(row + " is not 0 <= i < " + rows);
+        }
+    }
+
+    private void assertValid(int col) {
+        if (context.isClosed()) {
+            throw new CouchbaseLiteError("Attempt to use a result batch after its ResultSet has been closed");
+        }
+        if ((col < 0) || (col >= types.length)) {
+            throw new ArrayIndexOutOfBoundsException(col + " is not 0 <= i < " + types.length);
+        }
+    }
+}
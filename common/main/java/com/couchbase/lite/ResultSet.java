@@ -19,6 +19,7 @@ package com.couchbase.lite;
 import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,6 +27,12 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.couchbase.lite.internal.core.C4QueryEnumerator;
 import com.couchbase.lite.internal.logging.Log;
@@ -52,6 +59,49 @@ import com.couchbase.lite.internal.utils.Preconditions;
  * </code>
  */
 public class ResultSet implements Iterable<Result>, AutoCloseable {
+    //---------------------------------------------
+    // Types
+    //---------------------------------------------
+
+    // Pulls rows from the ResultSet only as they are needed.
+    private final class ResultIterator implements Iterator<Result> {
+        @Nullable
+        private Result nextResult;
+        private boolean fetched;
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                nextResult = ResultSet.this.next();
+                fetched = true;
+            }
+            return nextResult != null;
+        }
+
+        @NonNull
+        @Override
+        public Result next() {
+            if (!hasNext()) { throw new NoSuchElementException(); }
+            final Result result = nextResult;
+            nextResult = null;
+            fetched = false;
+            return result;
+        }
+    }
+
+    @RequiresApi(24)
+    private final class ResultSpliterator extends Spliterators.AbstractSpliterator<Result> {
+        ResultSpliterator() { super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL); }
+
+        @Override
+        public boolean tryAdvance(@NonNull Consumer<? super Result> action) {
+            final Result result = ResultSet.this.next();
+            if (result == null) { return false; }
+            action.accept(result);
+            return true;
+        }
+    }
+
     //---------------------------------------------
     // static variables
     //---------------------------------------------
@@ -126,6 +176,41 @@ public class ResultSet implements Iterable<Result>, AutoCloseable {
         return null;
     }
 
+    /**
+     * Move the cursor forward up to maxRows rows, returning the rows as a batch.
+     * This is much faster than calling {@link ResultSet#next} for each row, when there are many rows.
+     * <p>Caution:  {@link ResultSet#nextBatch} advances the same cursor as {@link ResultSet#next},
+     * {@link ResultSet#allResults} and {@link ResultSet#iterator}.</p>
+     *
+     * @param maxRows the maximum number of rows in the batch.
+     * @return a batch of at least one row. Returns {@code null}
+     * if there are no more rows, or ResultSet is freed already.
+     */
+    @Nullable
+    public ResultBatch nextBatch(int maxRows) {
+        Preconditions.assertPositive(maxRows, "maxRows");
+        final int nCols = getColumnCount();
+
+        final LiteCoreException err;
+        synchronized (lock) {
+            if ((c4enum == null) || (isAllEnumerated)) { return null; }
+
+            final byte[][] types = new byte[nCols][maxRows];
+            final long[][] values = new long[nCols][maxRows];
+            final String[][] strings = new String[nCols][];
+            try {
+                final int rows = c4enum.nextBatch(maxRows, types, values, strings);
+                if (rows < maxRows) { isAllEnumerated = true; }
+                return (rows <= 0) ? null : new ResultBatch(context, rows, types, values, strings);
+            }
+            catch (LiteCoreException e) { err = e; }
+        }
+
+        // Log outside the the synchronized block
+        Log.i(DOMAIN, "Error enumerating query", err);
+        return null;
+    }
+
     /**
      * Return a List of all Results.
      * <p>Caution:  {@link ResultSet#next}, {@link ResultSet#allResults} and {@link ResultSet#iterator}
@@ -143,6 +228,7 @@ public class ResultSet implements Iterable<Result>, AutoCloseable {
 
     /**
      * Return Iterator of Results.
+     * The iterator fetches rows only as they are needed: it does not read ahead.
      * <p>Caution:  {@link ResultSet#next}, {@link ResultSet#allResults} and {@link ResultSet#iterator}
      * method share same data structure. They cannot be used together.</p>
      *
@@ -150,7 +236,31 @@ public class ResultSet implements Iterable<Result>, AutoCloseable {
      */
     @NonNull
     @Override
-    public Iterator<Result> iterator() { return allResults().iterator(); }
+    public Iterator<Result> iterator() { return new ResultIterator(); }
+
+    /**
+     * Return a Spliterator of Results.
+     * Like the iterator, the spliterator fetches rows only as they are needed.
+     * <p>Caution:  the spliterator shares the cursor used by {@link ResultSet#next}.</p>
+     *
+     * @return a spliterator over the Results.
+     */
+    @RequiresApi(24)
+    @NonNull
+    @Override
+    public Spliterator<Result> spliterator() { return new ResultSpliterator(); }
+
+    /**
+     * Return a sequential Stream of Results.
+     * The stream fetches rows only as they are needed: a short-circuiting operation
+     * stops reading rows as soon as it completes.  Closing the stream closes this ResultSet.
+     * <p>Caution:  the stream shares the cursor used by {@link ResultSet#next}.</p>
+     *
+     * @return a stream of Results.
+     */
+    @RequiresApi(24)
+    @NonNull
+    public Stream<Result> stream() { return StreamSupport.stream(spliterator(), false).onClose(this::close); }
 
     public boolean isClosed() {
         synchronized (lock) { return c4enum == null; }
@@ -0,0 +1,31 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite;
+
+/**
+ * The outcome of saving a single document in a batch save.
+ */
+public enum SaveOutcome {
+    /**
+     * The document was saved.
+     */
+    SAVED,
+    /**
+     * The document was not saved because it conflicted with the current revision
+     * and the concurrency control was FAIL_ON_CONFLICT.
+     */
+    CONFLICTED
+}
@@ -0,0 +1,163 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.couchbase.lite.internal.core.C4Query;
+import com.couchbase.lite.internal.utils.Preconditions;
+
+
+/**
+ * A bounded, LRU cache of compiled queries, keyed by query language and text.
+ * <p>
+ * A cached C4Query may be shared by many Query objects: it must never be given parameters
+ * (C4Query.setParameters) or an observer.  Pass parameters to C4Query.run, instead.
+ * Entries that are evicted or invalidated are simply dropped: their peers are freed
+ * once nothing refers to them.
+ */
+public final class QueryCache {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    public static final class Entry {
+        @NonNull
+        public final C4Query query;
+        @NonNull
+        public final Map<String, Integer> columnNames;
+
+        public Entry(@NonNull C4Query query, @NonNull Map<String, Integer> columnNames) {
+            this.query = query;
+            this.columnNames = Collections.unmodifiableMap(new HashMap<>(columnNames));
+        }
+    }
+
+    public static final class Stats {
+        public final int size;
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final long invalidations;
+
+        Stats(int size, long hits, long misses, long evictions, long invalidations) {
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "QueryCache.Stats{" + size + ", " + hits + ", " + misses + ", " + evictions + ", " + invalidations
+                + "}";
+        }
+    }
+
+    private static final class Key {
+        @NonNull
+        private final QueryLanguage language;
+        @NonNull
+        private final String text;
+
+        Key(@NonNull QueryLanguage language, @NonNull String text) {
+            this.language = language;
+            this.text = text;
+        }
+
+        @Override
+        public int hashCode() { return (31 * language.hashCode()) + text.hashCode(); }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) { return true; }
+            if (!(o instanceof Key)) { return false; }
+            final Key other = (Key) o;
+            return (language == other.language) && text.equals(other.text);
+        }
+    }
+
+    @GuardedBy("this")
+    @NonNull
+    private final LinkedHashMap<Key, Entry> cache;
+
+    @GuardedBy("this")
+    private long hits;
+    @GuardedBy("this")
+    private long misses;
+    @GuardedBy("this")
+    private long evictions;
+    @GuardedBy("this")
+    private long invalidations;
+
+    public QueryCache(int capacity) {
+        Preconditions.assertPositive(capacity, "capacity");
+        this.cache = new LinkedHashMap<Key, Entry>(capacity + 1, 1.0F, true) {
+            @Override
+            protected boolean removeEldestEntry(@NonNull Map.Entry<Key, Entry> eldest) {
+                if (size() <= capacity) { return false; }
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Look up a compiled query.
+     *
+     * @param language the query language
+     * @param text     the query text
+     * @return the compiled query or null if it is not in the cache.
+     */
+    @Nullable
+    public synchronized Entry get(@NonNull QueryLanguage language, @NonNull String text) {
+        final Entry entry = cache.get(new Key(language, text));
+        if (entry == null) { misses++; }
+        else { hits++; }
+        return entry;
+    }
+
+    /**
+     * Add a compiled query to the cache, possibly evicting the least recently used query.
+     *
+     * @param language the query language
+     * @param text     the query text
+     * @param entry    the compiled query
+     */
+    public synchronized void put(@NonNull QueryLanguage language, @NonNull String text, @NonNull Entry entry) {
+        cache.put(new Key(language, text), entry);
+    }
+
+    /**
+     * Drop all compiled queries.
+     * Call this whenever a change (e.g., to an index) might change a query's plan.
+     */
+    public synchronized void invalidate() {
+        if (cache.isEmpty()) { return; }
+        invalidations++;
+        cache.clear();
+    }
+
+    @NonNull
+    public synchronized Stats getStats() { return new Stats(cache.size(), hits, misses, evictions, invalidations); }
+}
@@ -20,6 +20,8 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.nio.ByteBuffer;
+
 import com.couchbase.lite.LiteCoreException;
 import com.couchbase.lite.internal.core.impl.NativeC4Blob;
 import com.couchbase.lite.internal.core.peers.LockManager;
@@ -54,6 +56,8 @@ public abstract class C4BlobStore extends C4Peer {
         @GuardedBy("streamLock")
         void nWrite(long peer, byte[] data, int len) throws LiteCoreException;
         @GuardedBy("streamLock")
+        void nWriteBuffer(long peer, ByteBuffer data, int offset, int len) throws LiteCoreException;
+        @GuardedBy("streamLock")
         long nComputeBlobKey(long peer) throws LiteCoreException;
         @GuardedBy("streamLock")
         void nInstall(long peer) throws LiteCoreException;
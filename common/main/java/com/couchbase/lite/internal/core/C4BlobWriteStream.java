@@ -17,6 +17,8 @@ package com.couchbase.lite.internal.core;
 
 import androidx.annotation.NonNull;
 
+import java.nio.ByteBuffer;
+
 import com.couchbase.lite.LiteCoreException;
 import com.couchbase.lite.internal.core.peers.LockManager;
 import com.couchbase.lite.internal.utils.Preconditions;
@@ -79,6 +81,32 @@ public final class C4BlobWriteStream extends C4Peer {
         });
     }
 
+    /**
+     * Writes the remaining bytes in the passed buffer to the stream, and advances its position to its limit.
+     * The contents of a direct buffer are passed to LiteCore without copying them.
+     *
+     * @param buf the bytes to be written.
+     * @throws LiteCoreException on write failure
+     */
+    public void write(@NonNull ByteBuffer buf) throws LiteCoreException {
+        Preconditions.assertNotNull(buf, "buffer");
+        final int len = buf.remaining();
+        if (len <= 0) { return; }
+
+        if (!buf.isDirect()) {
+            final byte[] bytes = new byte[len];
+            buf.get(bytes);
+            write(bytes, len);
+            return;
+        }
+
+        final int pos = buf.position();
+        voidWithPeerOrThrow(peer -> {
+            synchronized (lock) { impl.nWriteBuffer(peer, buf, pos, len); }
+        });
+        buf.position(pos + len);
+    }
+
     /**
      * Computes the blob-key (digest) of the data written to the stream. This should only be
      * called after writing the entire data. No more data can be written after this call.
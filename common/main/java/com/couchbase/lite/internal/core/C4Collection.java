@@ -236,6 +236,11 @@ public final class C4Collection extends C4Peer {
         return C4Document.get(this, Preconditions.assertNotNull(docId, "doc ID"));
     }
 
+    @NonNull
+    public C4Document[] getDocuments(@NonNull String[] docIds) throws LiteCoreException {
+        return C4Document.getAll(this, Preconditions.assertNotNull(docIds, "doc IDs"));
+    }
+
     @Nullable
     public C4Document getDocumentWithRevs(@NonNull String docId) throws LiteCoreException {
         return C4Document.getWithRevs(this, Preconditions.assertNotNull(docId, "doc ID"));
@@ -247,6 +252,16 @@ public final class C4Collection extends C4Peer {
         return C4Document.create(this, docID, body, flags);
     }
 
+    @NonNull
+    public C4Document[] saveDocuments(
+        @NonNull String[] docIDs,
+        @NonNull String[] parentRevIDs,
+        @NonNull FLSliceResult[] bodies,
+        @NonNull int[] flags)
+        throws LiteCoreException {
+        return C4Document.saveAll(this, docIDs, parentRevIDs, bodies, flags);
+    }
+
     public long getDocumentExpiration(@NonNull String docID) throws LiteCoreException {
         return withPeerOrDefault(0L, peer -> {
             synchronized (dbLock) { return impl.nGetDocExpiration(peer, docID); }
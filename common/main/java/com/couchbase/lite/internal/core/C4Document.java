@@ -21,6 +21,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import com.couchbase.lite.LiteCoreException;
@@ -39,8 +40,21 @@ public final class C4Document extends C4Peer {
         long nGetFromCollection(long coll, String docID, boolean mustExist, boolean getAllRevs)
             throws LiteCoreException;
         @GuardedBy("dbLock")
+        @NonNull
+        long[] nGetAllFromCollection(long coll, @NonNull String[] docIDs) throws LiteCoreException;
+        @GuardedBy("dbLock")
         long nCreateFromSlice(long coll, String docID, long bodyPtr, long bodySize, int flags)
             throws LiteCoreException;
+        @GuardedBy("dbLock")
+        @NonNull
+        long[] nSaveAll(
+            long coll,
+            @NonNull String[] docIDs,
+            @NonNull String[] parentRevIDs,
+            @NonNull long[] bodyPtrs,
+            @NonNull long[] bodySizes,
+            @NonNull int[] flags)
+            throws LiteCoreException;
         //// Properties
         int nGetFlags(long doc);
         @NonNull
@@ -72,18 +86,43 @@ public final class C4Document extends C4Peer {
         @GuardedBy("dbLock&docLock")
         long nUpdate(long doc, long bodyPtr, long bodySize, int flags) throws LiteCoreException;
         @GuardedBy("dbLock&docLock")
+        long nUpdateFromBuffer(long doc, ByteBuffer body, int offset, int len, int flags) throws LiteCoreException;
+        @GuardedBy("dbLock&docLock")
         void nSave(long doc, int maxRevTreeDepth) throws LiteCoreException;
         //// Fleece-related
         @GuardedBy("dbLock")
         @NonNull
         String nBodyAsJSON(long doc, boolean canonical) throws LiteCoreException;
+        @GuardedBy("dbLock")
+        @NonNull
+        FLSliceResult nBodyAsJSONSlice(long doc, boolean canonical) throws LiteCoreException;
         //// Lifecycle
         void nFree(long doc);
+
+        void nFreeAll(@NonNull long[] docs);
+    }
+
+    // All C4Documents with the same NativeImpl must share a single instance of this cleaner,
+    // so that, when they are finalized, they can be freed in batches.
+    private static final class DocCleaner implements C4Peer.BatchPeerCleaner {
+        @NonNull
+        private final NativeImpl impl;
+
+        DocCleaner(@NonNull NativeImpl impl) { this.impl = impl; }
+
+        @Override
+        public void dispose(long peer) { impl.nFree(peer); }
+
+        @Override
+        public void disposeAll(@NonNull long[] peers) { impl.nFreeAll(peers); }
     }
 
     @NonNull
     private static final NativeImpl NATIVE_IMPL = new NativeC4Document();
 
+    @NonNull
+    private static final C4Peer.BatchPeerCleaner NATIVE_CLEANER = new DocCleaner(NATIVE_IMPL);
+
     //-------------------------------------------------------------------------
     // Static Factory Methods
     //-------------------------------------------------------------------------
@@ -107,6 +146,42 @@ public final class C4Document extends C4Peer {
         return new C4Document(NATIVE_IMPL, peer, lock);
     }
 
+    // Save a batch of new revisions: the caller must have begun a transaction.
+    // A null parent rev ID means that the document is new.  The returned array is
+    // parallel to the docIDs array: an entry is null if its revision was in conflict.
+    @NonNull
+    static C4Document[] saveAll(
+        @NonNull C4Collection coll,
+        @NonNull String[] docIDs,
+        @NonNull String[] parentRevIDs,
+        @NonNull FLSliceResult[] bodies,
+        @NonNull int[] flags)
+        throws LiteCoreException {
+        final int n = docIDs.length;
+        final long[] bodyPtrs = new long[n];
+        final long[] bodySizes = new long[n];
+        for (int i = 0; i < n; i++) {
+            final FLSliceResult body = bodies[i];
+            if (body == null) { continue; }
+            bodyPtrs[i] = body.getBase();
+            bodySizes[i] = body.getSize();
+        }
+
+        final Object lock = coll.getDbLock();
+        final long[] peers = coll.withPeerOrThrow(collPeer -> {
+            synchronized (lock) {
+                return NATIVE_IMPL.nSaveAll(collPeer, docIDs, parentRevIDs, bodyPtrs, bodySizes, flags);
+            }
+        });
+
+        final C4Document[] docs = new C4Document[n];
+        for (int i = 0; i < n; i++) {
+            final long peer = peers[i];
+            if (peer != 0) { docs[i] = new C4Document(NATIVE_IMPL, peer, lock); }
+        }
+        return docs;
+    }
+
     @Nullable
     static C4Document get(@NonNull C4Collection coll, @NonNull String docID)
         throws LiteCoreException {
@@ -117,6 +192,23 @@ public final class C4Document extends C4Peer {
         return (peer == 0) ? null : new C4Document(NATIVE_IMPL, peer, lock);
     }
 
+    // The returned array is parallel to the docIDs array: an entry is null if the doc does not exist.
+    @NonNull
+    static C4Document[] getAll(@NonNull C4Collection coll, @NonNull String[] docIDs)
+        throws LiteCoreException {
+        final Object lock = coll.getDbLock();
+        final long[] peers = coll.withPeerOrThrow(collPeer -> {
+            synchronized (lock) { return NATIVE_IMPL.nGetAllFromCollection(collPeer, docIDs); }
+        });
+
+        final C4Document[] docs = new C4Document[peers.length];
+        for (int i = 0; i < peers.length; i++) {
+            final long peer = peers[i];
+            if (peer != 0) { docs[i] = new C4Document(NATIVE_IMPL, peer, lock); }
+        }
+        return docs;
+    }
+
     @Nullable
     static C4Document getWithRevs(@NonNull C4Collection coll, @NonNull String docID)
         throws LiteCoreException {
@@ -166,7 +258,7 @@ public final class C4Document extends C4Peer {
 
     private C4Document(@NonNull NativeImpl impl, long peer, @NonNull Object lock) {
         // C4Documents cannot be explicitly closed so don't gripe when they aren't
-        super(peer, impl::nFree, true);
+        super(peer, (impl == NATIVE_IMPL) ? NATIVE_CLEANER : new DocCleaner(impl), true);
         this.impl = impl;
         this.dbLock = lock;
     }
@@ -242,6 +334,20 @@ public final class C4Document extends C4Peer {
         return (newDoc == 0) ? null : new C4Document(impl, newDoc, dbLock);
     }
 
+    // The body must be a direct buffer: its remaining bytes are passed to LiteCore without copying them.
+    @Nullable
+    public C4Document update(@NonNull ByteBuffer body, int flags) throws LiteCoreException {
+        if (!body.isDirect()) { throw new IllegalArgumentException("Document body must be a direct buffer"); }
+        final long newDoc = withPeerOrDefault(
+            0L,
+            peer -> {
+                synchronized (dbLock) {
+                    return impl.nUpdateFromBuffer(peer, body, body.position(), body.remaining(), flags);
+                }
+            });
+        return (newDoc == 0) ? null : new C4Document(impl, newDoc, dbLock);
+    }
+
     public void save(int maxRevTreeDepth) throws LiteCoreException {
         voidWithPeerOrThrow(peer -> {
             synchronized (dbLock) { impl.nSave(peer, maxRevTreeDepth); }
@@ -257,6 +363,14 @@ public final class C4Document extends C4Peer {
         });
     }
 
+    // The UTF-8 JSON, in native memory.  The caller must close the returned slice.
+    @NonNull
+    public FLSliceResult bodyAsJSONSlice(boolean canonical) throws LiteCoreException {
+        return withPeerOrThrow(peer -> {
+            synchronized (dbLock) { return impl.nBodyAsJSONSlice(peer, canonical); }
+        });
+    }
+
     // - Helper methods
 
     public boolean docExists() { return C4Constants.hasFlags(getFlags(), C4Constants.DocumentFlags.EXISTS); }
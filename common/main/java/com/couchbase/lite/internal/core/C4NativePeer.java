@@ -19,6 +19,9 @@ import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
 import com.couchbase.lite.CouchbaseLiteError;
 import com.couchbase.lite.LogDomain;
 import com.couchbase.lite.internal.CouchbaseLiteInternal;
@@ -37,13 +40,33 @@ import com.couchbase.lite.internal.utils.Preconditions;
  * Other entities must never lock on them!
  * Other designs cause occasional failures with the error message:
  * java.lang.NullPointerException: Null reference used for synchronization (monitor-enter)
+ * <p>
+ * A peer created with shared reads enabled also supports shared calls (the sharedWithPeer methods).
+ * Shared calls run concurrently with each other but not with any of the other, exclusive, calls.
+ * Release waits for any shared calls that are in flight.  A shared call must not mutate the native
+ * object and must not make an exclusive call on the same peer: it will deadlock.
  */
 public abstract class C4NativePeer implements AutoCloseable {
+    // Set in the shared call count while an exclusive call is running.
+    private static final int EXCLUSIVE = 1 << 30;
+
+    // Shared calls are brief: an exclusive caller polls this many times before it parks.
+    private static final int MAX_EXCLUSIVE_SPINS = 100;
+
     @GuardedBy("getPeerLock()")
     private final long peer;
     @GuardedBy("getPeerLock()")
     private volatile boolean open = true;
 
+    // The count of shared calls in flight, plus the EXCLUSIVE bit.
+    // Null if this peer does not support shared reads.
+    @Nullable
+    private final AtomicInteger sharedCalls;
+
+    // An exclusive caller that is parked, waiting for shared calls to finish.
+    @Nullable
+    private volatile Thread exclusiveWaiter;
+
     private volatile Exception history;
 
     //-------------------------------------------------------------------------
@@ -54,8 +77,19 @@ public abstract class C4NativePeer implements AutoCloseable {
         this(Preconditions.assertNotNull(peer, "peer handle").longValue());
     }
 
-    protected C4NativePeer(long peer) {
+    protected C4NativePeer(long peer) { this(peer, false); }
+
+    /**
+     * Create a peer, optionally enabling shared reads.
+     * Enabling shared reads makes exclusive calls a little more expensive.
+     *
+     * @param peer        the native peer handle
+     * @param sharedReads if true, shared calls may run concurrently.
+     *                    If false, they are exclusive, like every other call
+     */
+    protected C4NativePeer(long peer, boolean sharedReads) {
         this.peer = Preconditions.assertNotZero(peer, "peer handle");
+        this.sharedCalls = (!sharedReads) ? null : new AtomicInteger();
         updateHistory(peer, "Created at:");
     }
 
@@ -100,7 +134,9 @@ public abstract class C4NativePeer implements AutoCloseable {
     protected final <E extends Exception> void withPeer(@NonNull Fn.ConsumerThrows<Long, E> fn) throws E {
         synchronized (getPeerLock()) {
             if (open) {
-                fn.accept(this.peer);
+                final boolean exclusive = beginExclusive();
+                try { fn.accept(this.peer); }
+                finally { endExclusive(exclusive); }
                 return;
             }
         }
@@ -112,7 +148,11 @@ public abstract class C4NativePeer implements AutoCloseable {
     protected final <R, E extends Exception> R withPeerOrNull(@NonNull Fn.NullableFunctionThrows<Long, R, E> fn)
         throws E {
         synchronized (getPeerLock()) {
-            if (open) { return fn.apply(this.peer); }
+            if (open) {
+                final boolean exclusive = beginExclusive();
+                try { return fn.apply(this.peer); }
+                finally { endExclusive(exclusive); }
+            }
         }
 
         logBadCall();
@@ -126,8 +166,12 @@ public abstract class C4NativePeer implements AutoCloseable {
         throws E {
         synchronized (getPeerLock()) {
             if (open) {
-                final R val = fn.apply(this.peer);
-                return (val != null) ? val : def;
+                final boolean exclusive = beginExclusive();
+                try {
+                    final R val = fn.apply(this.peer);
+                    return (val != null) ? val : def;
+                }
+                finally { endExclusive(exclusive); }
             }
         }
 
@@ -138,7 +182,9 @@ public abstract class C4NativePeer implements AutoCloseable {
     protected final <E extends Exception> void voidWithPeerOrThrow(@NonNull Fn.ConsumerThrows<Long, E> fn) throws E {
         synchronized (getPeerLock()) {
             if (open) {
-                fn.accept(this.peer);
+                final boolean exclusive = beginExclusive();
+                try { fn.accept(this.peer); }
+                finally { endExclusive(exclusive); }
                 return;
             }
         }
@@ -152,7 +198,11 @@ public abstract class C4NativePeer implements AutoCloseable {
         @NonNull Fn.NullableFunctionThrows<Long, R, E> fn)
         throws E {
         synchronized (getPeerLock()) {
-            if (open) { return fn.apply(this.peer); }
+            if (open) {
+                final boolean exclusive = beginExclusive();
+                try { return fn.apply(this.peer); }
+                finally { endExclusive(exclusive); }
+            }
         }
 
         logBadCall();
@@ -162,7 +212,11 @@ public abstract class C4NativePeer implements AutoCloseable {
     @NonNull
     protected final <R> R nonNullWithPeerOrThrow(@NonNull Fn.NonNullFunction<Long, R> fn) {
         synchronized (getPeerLock()) {
-            if (open) { return fn.apply(this.peer); }
+            if (open) {
+                final boolean exclusive = beginExclusive();
+                try { return fn.apply(this.peer); }
+                finally { endExclusive(exclusive); }
+            }
         }
 
         logBadCall();
@@ -173,8 +227,62 @@ public abstract class C4NativePeer implements AutoCloseable {
     protected final <R, E extends Exception> R withPeerOrThrow(@NonNull Fn.NonNullFunctionThrows<Long, R, E> fn)
         throws E {
         synchronized (getPeerLock()) {
+            if (open) {
+                final boolean exclusive = beginExclusive();
+                try { return fn.apply(this.peer); }
+                finally { endExclusive(exclusive); }
+            }
+        }
+
+        logBadCall();
+        throw new CouchbaseLiteError("Closed peer");
+    }
+
+    /**
+     * Run a read-only function on the peer.
+     * If shared reads are enabled, it may run concurrently with other shared calls.
+     *
+     * @param fn  a function that does not mutate the native object
+     * @param <R> the return type
+     * @param <E> the type of exception thrown by the function
+     * @return the function's value
+     * @throws E                  the function failed
+     * @throws CouchbaseLiteError if the peer has been closed.
+     */
+    @NonNull
+    protected final <R, E extends Exception> R sharedWithPeerOrThrow(
+        @NonNull Fn.NonNullFunctionThrows<Long, R, E> fn)
+        throws E {
+        if (!beginShared()) { return withPeerOrThrow(fn); }
+        try {
             if (open) { return fn.apply(this.peer); }
         }
+        finally { endShared(); }
+
+        logBadCall();
+        throw new CouchbaseLiteError("Closed peer");
+    }
+
+    /**
+     * Run a read-only function, which may return null, on the peer.
+     * If shared reads are enabled, it may run concurrently with other shared calls.
+     *
+     * @param fn  a function that does not mutate the native object
+     * @param <R> the return type
+     * @param <E> the type of exception thrown by the function
+     * @return the function's value
+     * @throws E                  the function failed
+     * @throws CouchbaseLiteError if the peer has been closed.
+     */
+    @Nullable
+    protected final <R, E extends Exception> R nullableSharedWithPeerOrThrow(
+        @NonNull Fn.NullableFunctionThrows<Long, R, E> fn)
+        throws E {
+        if (!beginShared()) { return nullableWithPeerOrThrow(fn); }
+        try {
+            if (open) { return fn.apply(this.peer); }
+        }
+        finally { endShared(); }
 
         logBadCall();
         throw new CouchbaseLiteError("Closed peer");
@@ -228,11 +336,71 @@ public abstract class C4NativePeer implements AutoCloseable {
         throws E {
         synchronized (getPeerLock()) {
             final long peer = releasePeerLocked();
-            if ((peer != 0L) && (fn != null)) { fn.accept(peer); }
+            if (peer == 0L) { return peer; }
+
+            // The peer is closed: wait for any shared calls that were already in flight.
+            final boolean exclusive = beginExclusive();
+            try {
+                if (fn != null) { fn.accept(peer); }
+            }
+            finally { endExclusive(exclusive); }
+
             return peer;
         }
     }
 
+    // Returns false if the caller must fall back to an exclusive call:
+    // either shared reads are not enabled or an exclusive call is running.
+    private boolean beginShared() {
+        final AtomicInteger calls = sharedCalls;
+        if (calls == null) { return false; }
+        while (true) {
+            final int n = calls.get();
+            if ((n & EXCLUSIVE) != 0) { return false; }
+            if (calls.compareAndSet(n, n + 1)) { return true; }
+        }
+    }
+
+    // The last shared call to finish wakes a waiting exclusive caller.
+    private void endShared() {
+        final AtomicInteger calls = sharedCalls;
+        if ((calls == null) || (calls.decrementAndGet() != EXCLUSIVE)) { return; }
+        final Thread waiter = exclusiveWaiter;
+        if (waiter != null) { LockSupport.unpark(waiter); }
+    }
+
+    // Block new shared calls and wait for those in flight to finish.
+    // Returns false if there is nothing to undo: shared reads are not enabled
+    // or this thread is already running an exclusive call (the peer lock is re-entrant).
+    // Shared calls are brief and never block on the peer lock: poll for a while, then park.
+    // Waiting on the lock would release it and let a second exclusive caller in.
+    @GuardedBy("getPeerLock()")
+    private boolean beginExclusive() {
+        final AtomicInteger calls = sharedCalls;
+        if ((calls == null) || ((calls.get() & EXCLUSIVE) != 0)) { return false; }
+        if (calls.addAndGet(EXCLUSIVE) == EXCLUSIVE) { return true; }
+
+        for (int i = 0; i < MAX_EXCLUSIVE_SPINS; i++) {
+            if (calls.get() == EXCLUSIVE) { return true; }
+        }
+
+        // Publish the waiter before checking the count: the last shared call either
+        // sees the waiter and unparks it, or finishes before the check below.
+        exclusiveWaiter = Thread.currentThread();
+        try {
+            while (calls.get() != EXCLUSIVE) { LockSupport.park(this); }
+        }
+        finally { exclusiveWaiter = null; }
+
+        return true;
+    }
+
+    @GuardedBy("getPeerLock()")
+    private void endExclusive(boolean exclusive) {
+        final AtomicInteger calls = sharedCalls;
+        if (exclusive && (calls != null)) { calls.addAndGet(-EXCLUSIVE); }
+    }
+
     @GuardedBy("lock")
     private long releasePeerLocked() {
         final boolean open = this.open;
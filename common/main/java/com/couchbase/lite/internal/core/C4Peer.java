@@ -20,7 +20,11 @@ import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.couchbase.lite.CouchbaseLiteError;
@@ -48,6 +52,46 @@ public abstract class C4Peer implements AutoCloseable {
         void dispose(long peer);
     }
 
+    /**
+     * A PeerCleaner that can free several peers in a single call.
+     * Peers that are finalized (not explicitly closed) and that share a single instance
+     * of a BatchPeerCleaner are freed together, in batches.  The same warning applies!
+     */
+    public interface BatchPeerCleaner extends PeerCleaner {
+        void disposeAll(@NonNull long[] peers);
+    }
+
+    public static final class DisposerStats {
+        public final int queueDepth;
+        public final int maxQueueDepth;
+        public final long batches;
+        public final long peersFreed;
+        public final long meanFreeNanos;
+        public final long maxFreeNanos;
+
+        public DisposerStats(
+            int queueDepth,
+            int maxQueueDepth,
+            long batches,
+            long peersFreed,
+            long meanFreeNanos,
+            long maxFreeNanos) {
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.batches = batches;
+            this.peersFreed = peersFreed;
+            this.meanFreeNanos = meanFreeNanos;
+            this.maxFreeNanos = maxFreeNanos;
+        }
+
+        @Override
+        @NonNull
+        public String toString() {
+            return "DisposerStats{" + queueDepth + ", " + maxQueueDepth + ", " + batches + ", " + peersFreed
+                + ", " + meanFreeNanos + ", " + maxFreeNanos + "}";
+        }
+    }
+
     /**
      * Most PeerHolders are for ref-counted objects.  There may be several references
      * to the same object, so <code>.equals</code> means the exact same PeerHolder (Java default).
@@ -86,6 +130,10 @@ public abstract class C4Peer implements AutoCloseable {
             final C4Peer.PeerCleaner disposer = cleaner;
             if (disposer != null) {
                 if (!finalizing) { disposeRef(disposer); }
+                else if (disposer instanceof BatchPeerCleaner) {
+                    final long peerRef = takePeer();
+                    if (peerRef != 0) { BATCH_DISPOSER.dispose((BatchPeerCleaner) disposer, peerRef); }
+                }
                 else { PEER_DISPOSER.execute(() -> disposeRef(disposer)); }
             }
 
@@ -118,16 +166,19 @@ public abstract class C4Peer implements AutoCloseable {
         // This runs synchronously, if called explicitly (`close`) from client code,
         // and asynchronously if called from the Cleaner thread.
         private void disposeRef(@NonNull C4Peer.PeerCleaner disposer) {
-            final Object lock = getPeerLock();
-            final long peerRef;
-            synchronized (lock) {
-                peerRef = peer;
-                peer = 0L;
-            }
+            final long peerRef = takePeer();
             if (peerRef == 0) { return; }
             disposer.dispose(peerRef);
         }
 
+        private long takePeer() {
+            synchronized (getPeerLock()) {
+                final long peerRef = peer;
+                peer = 0L;
+                return peerRef;
+            }
+        }
+
         // Log an attempt to use a closed peer.
         private void logBadCall() {
             Log.w(
@@ -165,6 +216,105 @@ public abstract class C4Peer implements AutoCloseable {
         }
     }
 
+    private static final class PeerBatch {
+        @NonNull
+        private long[] peers = new long[16];
+        private int n;
+
+        void add(long peer) {
+            if (n >= peers.length) { peers = Arrays.copyOf(peers, n * 2); }
+            peers[n++] = peer;
+        }
+
+        @NonNull
+        long[] toArray() { return Arrays.copyOf(peers, n); }
+    }
+
+    /**
+     * Finalized peers with a BatchPeerCleaner are queued here, grouped by cleaner.
+     * A drain is scheduled on the PEER_DISPOSER when the first peer is queued.
+     * Peers that are queued while the drain is waiting to run are freed with it,
+     * with one call to disposeAll for each cleaner.
+     */
+    private static final class BatchDisposer {
+        @GuardedBy("this")
+        @NonNull
+        private Map<BatchPeerCleaner, PeerBatch> pending = new HashMap<>();
+
+        // Instrumentation
+        @GuardedBy("this")
+        private int queueDepth;
+        @GuardedBy("this")
+        private int maxQueueDepth;
+        @GuardedBy("this")
+        private long batches;
+        @GuardedBy("this")
+        private long peersFreed;
+        @GuardedBy("this")
+        private long freeNanos;
+        @GuardedBy("this")
+        private long maxFreeNanos;
+
+        void dispose(@NonNull BatchPeerCleaner disposer, long peer) {
+            synchronized (this) {
+                PeerBatch batch = pending.get(disposer);
+                if (batch == null) {
+                    batch = new PeerBatch();
+                    pending.put(disposer, batch);
+                }
+                batch.add(peer);
+
+                if (++queueDepth > maxQueueDepth) { maxQueueDepth = queueDepth; }
+
+                // a drain is already scheduled
+                if (queueDepth > 1) { return; }
+            }
+
+            PEER_DISPOSER.execute(this::drain);
+        }
+
+        @NonNull
+        DisposerStats getStats() {
+            synchronized (this) {
+                final DisposerStats stats = new DisposerStats(
+                    queueDepth,
+                    maxQueueDepth,
+                    batches,
+                    peersFreed,
+                    (batches <= 0) ? 0 : freeNanos / batches,
+                    maxFreeNanos);
+                maxQueueDepth = queueDepth;
+                maxFreeNanos = 0;
+                return stats;
+            }
+        }
+
+        private void drain() {
+            final Map<BatchPeerCleaner, PeerBatch> batch;
+            synchronized (this) {
+                batch = pending;
+                pending = new HashMap<>();
+                queueDepth = 0;
+            }
+
+            for (Map.Entry<BatchPeerCleaner, PeerBatch> peers: batch.entrySet()) {
+                final long[] peerRefs = peers.getValue().toArray();
+
+                final long t = System.nanoTime();
+                try { peers.getKey().disposeAll(peerRefs); }
+                catch (RuntimeException e) { Log.w(LogDomain.DATABASE, "Failed freeing peers", e); }
+                final long elapsed = System.nanoTime() - t;
+
+                synchronized (this) {
+                    batches++;
+                    peersFreed += peerRefs.length;
+                    freeNanos += elapsed;
+                    if (elapsed > maxFreeNanos) { maxFreeNanos = elapsed; }
+                }
+            }
+        }
+    }
+
     // Executor holds 3 threads that expire after 5 minutes
     // Java Executors make it difficult to do what I'd really like to do, here:
     // always have 1 thread available but grow to 3 threads before enqueuing anything.
@@ -172,8 +322,38 @@ public abstract class C4Peer implements AutoCloseable {
     private static final CBLExecutor PEER_DISPOSER
         = new CBLExecutor("peer-free", 3, 3, 60 * 5, new LinkedBlockingQueue<>());
 
+    private static final BatchDisposer BATCH_DISPOSER = new BatchDisposer();
+
     private static final AtomicReference<Cleaner> CLEANER = new AtomicReference<>();
 
+    private static final AtomicInteger CLEANER_THREADS = new AtomicInteger(1);
+
+    /**
+     * Set the number of threads that clean up unreachable peers.
+     * Use more than one if finalized peers are piling up under heavy GC.
+     *
+     * @param count the number of cleaner threads
+     */
+    public static void setCleanerThreads(int count) {
+        CLEANER_THREADS.set(Preconditions.assertPositive(count, "thread count"));
+        final Cleaner cleaner = CLEANER.get();
+        if (cleaner != null) { cleaner.setThreadCount(count); }
+    }
+
+    @NonNull
+    public static DisposerStats getDisposerStats() { return BATCH_DISPOSER.getStats(); }
+
+    /**
+     * Free a finalized peer that does not belong to a C4Peer.
+     * It is freed, on the peer-free thread, in a batch with other peers that share its cleaner.
+     *
+     * @param cleaner the cleaner for the peer
+     * @param peer    the peer to free
+     */
+    static void disposeInBatch(@NonNull BatchPeerCleaner cleaner, long peer) {
+        BATCH_DISPOSER.dispose(cleaner, peer);
+    }
+
     // do this lazily so that it happens after initialization
     // allowing us to log from the cleaner
     @NonNull
@@ -181,7 +361,11 @@ public abstract class C4Peer implements AutoCloseable {
         final Cleaner cleaner = CLEANER.get();
         if (cleaner != null) { return cleaner; }
 
-        CLEANER.compareAndSet(null, new Cleaner("peer"));
+        final Cleaner newCleaner = new Cleaner("peer");
+        if (CLEANER.compareAndSet(null, newCleaner)) {
+            final int threads = CLEANER_THREADS.get();
+            if (threads > 1) { newCleaner.setThreadCount(threads); }
+        }
         return CLEANER.get();
     }
 
@@ -230,6 +414,7 @@ public abstract class C4Peer implements AutoCloseable {
     public final void dumpStats() {
         final Cleaner cleaner = CLEANER.get();
         if (cleaner != null) { Log.w(LogDomain.DATABASE, cleaner.getStats().toString()); }
+        Log.w(LogDomain.DATABASE, BATCH_DISPOSER.getStats().toString());
         PEER_DISPOSER.dumpState();
     }
 
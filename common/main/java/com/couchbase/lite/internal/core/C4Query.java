@@ -91,9 +91,12 @@ public final class C4Query extends C4Peer {
     @Nullable
     public String explain() { return withPeerOrNull(impl::nExplain); }
 
+    // If params is null, the query is run with the parameters passed to setParameters, if any.
     @Nullable
-    public C4QueryEnumerator run(@NonNull FLSliceResult params) throws LiteCoreException {
-        return withPeerOrNull(peer -> C4QueryEnumerator.create(impl.nRun(peer, params.getBase(), params.getSize())));
+    public C4QueryEnumerator run(@Nullable FLSliceResult params) throws LiteCoreException {
+        final long base = (params == null) ? 0L : params.getBase();
+        final long size = (params == null) ? 0L : params.getSize();
+        return withPeerOrNull(peer -> C4QueryEnumerator.create(impl.nRun(peer, base, size)));
     }
 
     public int getColumnCount() { return withPeerOrDefault(0, impl::nColumnCount); }
@@ -38,13 +38,48 @@ public final class C4QueryEnumerator extends C4NativePeer {
     public interface NativeImpl {
         boolean nNext(long peer) throws LiteCoreException;
         void nFree(long peer);
+        void nFreeAll(@NonNull long[] peers);
         long nGetColumns(long peer);
         long nGetMissingColumns(long peer);
+        int nNextBatch(
+            long peer,
+            int maxRows,
+            @NonNull byte[][] types,
+            @NonNull long[][] values,
+            @NonNull String[][] strings)
+            throws LiteCoreException;
+    }
+
+    // Column types filled in by nextBatch.  These must match the constants in native_c4queryenumerator.cc
+    public static final byte COL_MISSING = 0;
+    public static final byte COL_NULL = 1;
+    public static final byte COL_BOOLEAN = 2;
+    public static final byte COL_INTEGER = 3;
+    public static final byte COL_FLOAT = 4;
+    public static final byte COL_STRING = 5;
+    public static final byte COL_OTHER = 6;
+
+    // All C4QueryEnumerators with the same NativeImpl must share a single instance of this cleaner,
+    // so that, when they are finalized, they can be freed in batches.
+    private static final class QueryEnumCleaner implements C4Peer.BatchPeerCleaner {
+        @NonNull
+        private final NativeImpl impl;
+
+        QueryEnumCleaner(@NonNull NativeImpl impl) { this.impl = impl; }
+
+        @Override
+        public void dispose(long peer) { impl.nFree(peer); }
+
+        @Override
+        public void disposeAll(@NonNull long[] peers) { impl.nFreeAll(peers); }
     }
 
     @NonNull
     private static final NativeImpl NATIVE_IMPL = new NativeC4QueryEnumerator();
 
+    @NonNull
+    private static final C4Peer.BatchPeerCleaner NATIVE_CLEANER = new QueryEnumCleaner(NATIVE_IMPL);
+
     //-------------------------------------------------------------------------
     // Static factory method
     //-------------------------------------------------------------------------
@@ -63,14 +98,19 @@ public final class C4QueryEnumerator extends C4NativePeer {
     @NonNull
     private final NativeImpl impl;
 
+    @NonNull
+    private final C4Peer.BatchPeerCleaner cleaner;
+
     //-------------------------------------------------------------------------
     // Constructor
     //-------------------------------------------------------------------------
 
     @VisibleForTesting
     C4QueryEnumerator(@NonNull NativeImpl impl, long peer) {
-        super(peer);
+        // Results may read the current row from several threads: let them do it concurrently.
+        super(peer, true);
         this.impl = impl;
+        this.cleaner = (impl == NATIVE_IMPL) ? NATIVE_CLEANER : new QueryEnumCleaner(impl);
     }
 
     //-------------------------------------------------------------------------
@@ -86,7 +126,7 @@ public final class C4QueryEnumerator extends C4NativePeer {
      */
     @NonNull
     public FLArrayIterator getColumns() {
-        return withPeerOrThrow(peer -> FLArray.unmanagedIterator(impl.nGetColumns(peer)));
+        return sharedWithPeerOrThrow(peer -> FLArray.unmanagedIterator(impl.nGetColumns(peer)));
     }
 
     /**
@@ -94,7 +134,34 @@ public final class C4QueryEnumerator extends C4NativePeer {
      * This is how you tell a missing property value from a value that is JSON 'null',
      * since the value in the `columns` array will be a Fleece `null` either way.
      */
-    public long getMissingColumns() { return withPeerOrThrow(impl::nGetMissingColumns); }
+    public long getMissingColumns() { return sharedWithPeerOrThrow(impl::nGetMissingColumns); }
+
+    /**
+     * Advance the enumerator up to maxRows rows, in a single native call, reading the rows column-wise.
+     * For each column, types[col][row] is one of the COL_ constants and values[col][row] is:
+     * <ul>
+     * <li>COL_BOOLEAN, COL_INTEGER: the value
+     * <li>COL_FLOAT: the raw bits of the double value
+     * <li>COL_OTHER: the handle to the FLValue: it is valid until the enumerator is freed
+     * </ul>
+     * If a column contains any strings, strings[col] is set to an array with the strings at their row indices.
+     * On return, the enumerator is positioned at the last row read.
+     *
+     * @param maxRows the maximum number of rows to read.
+     * @param types   the column types: an array, for each column, of length at least maxRows
+     * @param values  the column values: an array, for each column, of length at least maxRows
+     * @param strings the string values: a null for each column
+     * @return the number of rows read: fewer than maxRows only if there are no more rows
+     * @throws LiteCoreException on failure
+     */
+    public int nextBatch(
+        int maxRows,
+        @NonNull byte[][] types,
+        @NonNull long[][] values,
+        @NonNull String[][] strings)
+        throws LiteCoreException {
+        return withPeerOrThrow(peer -> impl.nNextBatch(peer, maxRows, types, values, strings));
+    }
 
     @Override
     public void close() { closePeer(null); }
@@ -114,12 +181,13 @@ public final class C4QueryEnumerator extends C4NativePeer {
     // Private methods
     //-------------------------------------------------------------------------
 
+    // A finalized enumerator is freed later, in a batch with others.
     private void closePeer(@Nullable LogDomain domain) {
         releasePeer(
             domain,
             (peer) -> {
-                final NativeImpl nativeImpl = impl;
-                if (nativeImpl != null) { nativeImpl.nFree(peer); }
+                if (domain == null) { cleaner.dispose(peer); }
+                else { C4Peer.disposeInBatch(cleaner, peer); }
             });
     }
 }
@@ -19,6 +19,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -68,6 +69,7 @@ public final class C4Socket extends C4Peer implements SocketToCore {
         void nGotHTTPResponse(long peer, int httpStatus, @Nullable byte[] responseHeadersFleece);
         void nCompletedWrite(long peer, long byteCount);
         void nReceived(long peer, byte[] data);
+        void nReceivedBuffer(long peer, ByteBuffer data, int offset, int len);
         void nCloseRequested(long peer, int status, @Nullable String message);
         void nClosed(long peer, int errorDomain, int errorCode, String message);
 
@@ -375,6 +377,24 @@ public final class C4Socket extends C4Peer implements SocketToCore {
         voidWithPeerOrThrow(peer -> impl.nReceived(peer, data));
     }
 
+    // Passes the remaining bytes in the buffer to core and advances its position to its limit.
+    // The contents of a direct buffer are not copied.
+    public void writeToCore(@NonNull ByteBuffer data) {
+        final int len = data.remaining();
+        Log.d(LOG_DOMAIN, "%s.sendToCore(%d)", this, len);
+
+        if (!data.isDirect()) {
+            final byte[] bytes = new byte[len];
+            data.get(bytes);
+            writeToCore(bytes);
+            return;
+        }
+
+        final int pos = data.position();
+        voidWithPeerOrThrow(peer -> impl.nReceivedBuffer(peer, data, pos, len));
+        data.position(pos + len);
+    }
+
     @Override
     public void requestCoreClose(@NonNull CloseStatus status) {
         Log.d(LOG_DOMAIN, "%s.requestCoreClose(%d): '%s'", this, status.code, status.message);
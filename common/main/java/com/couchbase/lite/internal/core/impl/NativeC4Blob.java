@@ -18,6 +18,8 @@ package com.couchbase.lite.internal.core.impl;
 import androidx.annotation.GuardedBy;
 import androidx.annotation.Nullable;
 
+import java.nio.ByteBuffer;
+
 import com.couchbase.lite.LiteCoreException;
 import com.couchbase.lite.internal.core.C4BlobKey;
 import com.couchbase.lite.internal.core.C4BlobStore;
@@ -74,6 +76,11 @@ public final class NativeC4Blob implements C4BlobKey.NativeImpl, C4BlobStore.Nat
     @GuardedBy("writeStreamLock")
     public void nWrite(long peer, byte[] data, int len) throws LiteCoreException { write(peer, data, len); }
 
+    @GuardedBy("writeStreamLock")
+    public void nWriteBuffer(long peer, ByteBuffer data, int offset, int len) throws LiteCoreException {
+        writeBuffer(peer, data, offset, len);
+    }
+
     @GuardedBy("writeStreamLock")
     public long nComputeBlobKey(long peer) throws LiteCoreException { return computeBlobKey(peer); }
 
@@ -135,6 +142,9 @@ public final class NativeC4Blob implements C4BlobKey.NativeImpl, C4BlobStore.Nat
     @GuardedBy("writeStreamLock")
     private static native void write(long peer, byte[] bytes, int len) throws LiteCoreException;
 
+    @GuardedBy("writeStreamLock")
+    private static native void writeBuffer(long peer, ByteBuffer bytes, int offset, int len) throws LiteCoreException;
+
     @GuardedBy("writeStreamLock")
     private static native long computeBlobKey(long peer) throws LiteCoreException;
 
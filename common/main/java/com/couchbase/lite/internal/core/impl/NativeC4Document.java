@@ -19,8 +19,11 @@ import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.nio.ByteBuffer;
+
 import com.couchbase.lite.LiteCoreException;
 import com.couchbase.lite.internal.core.C4Document;
+import com.couchbase.lite.internal.fleece.FLSliceResult;
 
 
 @SuppressWarnings("PMD.TooManyMethods")
@@ -33,6 +36,13 @@ public final class NativeC4Document implements C4Document.NativeImpl {
         return getFromCollection(coll, docID, mustExist, getAllRevs);
     }
 
+    @GuardedBy("dbLock")
+    @Override
+    @NonNull
+    public long[] nGetAllFromCollection(long coll, @NonNull String[] docIDs) throws LiteCoreException {
+        return getAllFromCollection(coll, docIDs);
+    }
+
     @GuardedBy("dbLock")
     @Override
     public long nCreateFromSlice(long coll, String docID, long bodyPtr, long bodySize, int flags)
@@ -40,6 +50,20 @@ public final class NativeC4Document implements C4Document.NativeImpl {
         return createFromSlice(coll, docID, bodyPtr, bodySize, flags);
     }
 
+    @GuardedBy("dbLock")
+    @Override
+    @NonNull
+    public long[] nSaveAll(
+        long coll,
+        @NonNull String[] docIDs,
+        @NonNull String[] parentRevIDs,
+        @NonNull long[] bodyPtrs,
+        @NonNull long[] bodySizes,
+        @NonNull int[] flags)
+        throws LiteCoreException {
+        return saveAll(coll, docIDs, parentRevIDs, bodyPtrs, bodySizes, flags);
+    }
+
     //// Properties
     @Override
     public int nGetFlags(long doc) { return getFlags(doc); }
@@ -102,6 +126,13 @@ public final class NativeC4Document implements C4Document.NativeImpl {
         return update2(doc, bodyPtr, bodySize, flags);
     }
 
+    @GuardedBy("dbLock&docLock")
+    @Override
+    public long nUpdateFromBuffer(long doc, ByteBuffer body, int offset, int len, int flags)
+        throws LiteCoreException {
+        return updateFromBuffer(doc, body, offset, len, flags);
+    }
+
     @GuardedBy("dbLock&docLock")
     @Override
     public void nSave(long doc, int maxRevTreeDepth) throws LiteCoreException { save(doc, maxRevTreeDepth); }
@@ -114,10 +145,20 @@ public final class NativeC4Document implements C4Document.NativeImpl {
         return bodyAsJSON(doc, canonical);
     }
 
+    @GuardedBy("dbLock")
+    @Override
+    @NonNull
+    public FLSliceResult nBodyAsJSONSlice(long doc, boolean canonical) throws LiteCoreException {
+        return bodyAsJSONSlice(doc, canonical);
+    }
+
     //// Lifecycle
     @Override
     public void nFree(long doc) { free(doc); }
 
+    @Override
+    public void nFreeAll(@NonNull long[] docs) { freeAll(docs); }
+
 
     //-------------------------------------------------------------------------
     // Native methods
@@ -132,10 +173,25 @@ public final class NativeC4Document implements C4Document.NativeImpl {
     private static native long getFromCollection(long peer, String docID, boolean mustExist, boolean getAllRevs)
         throws LiteCoreException;
 
+    @GuardedBy("dbLock")
+    @NonNull
+    private static native long[] getAllFromCollection(long peer, @NonNull String[] docIDs) throws LiteCoreException;
+
     @GuardedBy("dbLock")
     private static native long createFromSlice(long peer, String docID, long bodyPtr, long bodySize, int flags)
         throws LiteCoreException;
 
+    @GuardedBy("dbLock")
+    @NonNull
+    private static native long[] saveAll(
+        long peer,
+        @NonNull String[] docIDs,
+        @NonNull String[] parentRevIDs,
+        @NonNull long[] bodyPtrs,
+        @NonNull long[] bodySizes,
+        @NonNull int[] flags)
+        throws LiteCoreException;
+
     //// Properties
     private static native int getFlags(long peer);
 
@@ -178,6 +234,10 @@ public final class NativeC4Document implements C4Document.NativeImpl {
     @GuardedBy("dbLock&docLock")
     private static native long update2(long peer, long body, long bodySize, int flags) throws LiteCoreException;
 
+    @GuardedBy("dbLock&docLock")
+    private static native long updateFromBuffer(long peer, ByteBuffer body, int offset, int len, int flags)
+        throws LiteCoreException;
+
     @GuardedBy("dbLock&docLock")
     private static native void save(long peer, int maxRevTreeDepth) throws LiteCoreException;
 
@@ -186,6 +246,12 @@ public final class NativeC4Document implements C4Document.NativeImpl {
     @NonNull
     private static native String bodyAsJSON(long peer, boolean canonical) throws LiteCoreException;
 
+    @GuardedBy("dbLock")
+    @NonNull
+    private static native FLSliceResult bodyAsJSONSlice(long peer, boolean canonical) throws LiteCoreException;
+
     //// Lifecycle
     private static native void free(long peer);
+
+    private static native void freeAll(@NonNull long[] peers);
 }
@@ -15,6 +15,8 @@
 //
 package com.couchbase.lite.internal.core.impl;
 
+import androidx.annotation.NonNull;
+
 import com.couchbase.lite.LiteCoreException;
 import com.couchbase.lite.internal.core.C4QueryEnumerator;
 
@@ -27,12 +29,26 @@ public final class NativeC4QueryEnumerator implements C4QueryEnumerator.NativeIm
     @Override
     public void nFree(long peer) { free(peer); }
 
+    @Override
+    public void nFreeAll(@NonNull long[] peers) { freeAll(peers); }
+
     @Override
     public long nGetColumns(long peer) { return getColumns(peer); }
 
     @Override
     public long nGetMissingColumns(long peer) { return getMissingColumns(peer); }
 
+    @Override
+    public int nNextBatch(
+        long peer,
+        int maxRows,
+        @NonNull byte[][] types,
+        @NonNull long[][] values,
+        @NonNull String[][] strings)
+        throws LiteCoreException {
+        return nextBatch(peer, maxRows, types, values, strings);
+    }
+
 
     //-------------------------------------------------------------------------
     // Native methods
@@ -48,4 +64,14 @@ public final class NativeC4QueryEnumerator implements C4QueryEnumerator.NativeIm
     private static native long getMissingColumns(long peer);
 
     private static native void free(long peer);
+
+    private static native void freeAll(@NonNull long[] peers);
+
+    private static native int nextBatch(
+        long peer,
+        int maxRows,
+        @NonNull byte[][] types,
+        @NonNull long[][] values,
+        @NonNull String[][] strings)
+        throws LiteCoreException;
 }
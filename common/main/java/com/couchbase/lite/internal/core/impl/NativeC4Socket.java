@@ -18,6 +18,8 @@ package com.couchbase.lite.internal.core.impl;
 import androidx.annotation.GuardedBy;
 import androidx.annotation.Nullable;
 
+import java.nio.ByteBuffer;
+
 import com.couchbase.lite.internal.core.C4Socket;
 
 
@@ -49,6 +51,11 @@ public final class NativeC4Socket implements C4Socket.NativeImpl {
     @Override
     public void nReceived(long peer, byte[] data) { received(peer, data); }
 
+    @Override
+    public void nReceivedBuffer(long peer, ByteBuffer data, int offset, int len) {
+        receivedBuffer(peer, data, offset, len);
+    }
+
     @Override
     public void nCloseRequested(long peer, int status, @Nullable String message) {
         closeRequested(peer, status, message);
@@ -95,6 +102,8 @@ public final class NativeC4Socket implements C4Socket.NativeImpl {
     @GuardedBy("socLock")
     private static native void received(long peer, byte[] data);
 
+    private static native void receivedBuffer(long peer, ByteBuffer data, int offset, int len);
+
     @GuardedBy("socLock")
     private static native void closeRequested(long peer, int status, @Nullable String message);
 
@@ -18,8 +18,11 @@ package com.couchbase.lite.internal.exec;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import com.couchbase.lite.LogDomain;
 import com.couchbase.lite.internal.logging.Log;
@@ -80,16 +83,30 @@ public abstract class AbstractExecutionService implements ExecutionService {
     // Instance members
     //---------------------------------------------
     @NonNull
-    private final ThreadPoolExecutor baseExecutor;
+    private final ExecutorService baseExecutor;
     @NonNull
     private final ConcurrentExecutor concurrentExecutor;
+    @NonNull
+    private final ConcurrentExecutor workStealingExecutor;
+    @NonNull
+    private final ExecutorStats serialStats = new ExecutorStats("serial");
+    @NonNull
+    private final ExecutorStats concurrentStats = new ExecutorStats("concurrent");
+    @NonNull
+    private final ExecutorStats workStealingStats = new ExecutorStats("work-stealing");
 
     //---------------------------------------------
     // Constructor
     //---------------------------------------------
-    protected AbstractExecutionService(@NonNull ThreadPoolExecutor baseExecutor) {
+    // The base executor is usually a CBLExecutor but, on some platforms, may be, e.g., a virtual thread executor
+    protected AbstractExecutionService(@NonNull ExecutorService baseExecutor) {
         this.baseExecutor = baseExecutor;
-        concurrentExecutor = new ConcurrentExecutor(baseExecutor);
+        concurrentExecutor = new ConcurrentExecutor(baseExecutor, concurrentStats);
+        // the pool starts no threads until it is used
+        workStealingExecutor = new ConcurrentExecutor(
+            "CBL work-stealing executor",
+            ExecutorUtils.createWorkStealingPool("CBL fork-join worker", CBLExecutor.POOL_SIZE),
+            workStealingStats);
     }
 
     //---------------------------------------------
@@ -97,12 +114,32 @@ public abstract class AbstractExecutionService implements ExecutionService {
     //---------------------------------------------
     @NonNull
     @Override
-    public CloseableExecutor getSerialExecutor() { return new SerialExecutor(baseExecutor); }
+    public CloseableExecutor getSerialExecutor() { return new SerialExecutor(baseExecutor, serialStats); }
+
+    // By default, listeners share the default executor
+    @NonNull
+    @Override
+    public Executor getListenerExecutor() { return getDefaultExecutor(); }
 
     @NonNull
     @Override
     public CloseableExecutor getConcurrentExecutor() { return concurrentExecutor; }
 
+    @NonNull
+    @Override
+    public CloseableExecutor getWorkStealingExecutor() { return workStealingExecutor; }
+
+    @NonNull
+    @Override
+    public List<ExecutorStats> getExecutorStats() {
+        final List<ExecutorStats> stats = new ArrayList<>();
+        stats.add(serialStats);
+        stats.add(concurrentStats);
+        stats.add(workStealingStats);
+        if (baseExecutor instanceof CBLExecutor) { stats.add(((CBLExecutor) baseExecutor).getExecutorStats()); }
+        return stats;
+    }
+
     @Override
     public void cancelDelayedTask(@NonNull Cancellable cancellableTask) {
         Preconditions.assertNotNull(cancellableTask, "cancellableTask");
@@ -111,5 +148,15 @@ public abstract class AbstractExecutionService implements ExecutionService {
 
     @VisibleForTesting
     public void dumpState() { concurrentExecutor.dumpState(null); }
+
+    //---------------------------------------------
+    // Protected methods
+    //---------------------------------------------
+
+    // Get a new serial executor that runs its tasks on the passed executor, instead of on the base executor
+    @NonNull
+    protected CloseableExecutor getSerialExecutor(@NonNull Executor executor, @NonNull ExecutorStats stats) {
+        return new SerialExecutor(executor, stats);
+    }
 }
 
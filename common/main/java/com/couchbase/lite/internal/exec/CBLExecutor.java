@@ -17,11 +17,13 @@ package com.couchbase.lite.internal.exec;
 
 import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +37,13 @@ public class CBLExecutor extends ThreadPoolExecutor {
     public static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
     public static final int POOL_SIZE = Math.max(4, CPU_COUNT - 1);
 
+    // A pool thread: it holds the start time of the task it is running, so that timing the task allocates nothing.
+    private static final class PoolThread extends Thread {
+        long taskStartedAt;
+
+        PoolThread(@NonNull Runnable r, @NonNull String name) { super(r, name); }
+    }
+
     public static class Stats {
         public final boolean isShutdown;
         public final boolean isTerminating;
@@ -85,6 +94,9 @@ public class CBLExecutor extends ThreadPoolExecutor {
     @NonNull
     private final String name;
 
+    @NonNull
+    private final ExecutorStats executorStats;
+
     @GuardedBy("name")
     private long n;
     @GuardedBy("name")
@@ -120,7 +132,7 @@ public class CBLExecutor extends ThreadPoolExecutor {
                 public Thread newThread(@NonNull Runnable r) {
                     final int id = threadId.incrementAndGet();
 
-                    final Thread thread = new Thread(r, threadName + id);
+                    final Thread thread = new PoolThread(r, threadName + id);
                     thread.setDaemon(true);
                     thread.setUncaughtExceptionHandler((t, e) ->
                         Log.e(LogDomain.DATABASE, "Uncaught exception on thread %s", e, thread.getName()));
@@ -133,11 +145,19 @@ public class CBLExecutor extends ThreadPoolExecutor {
         allowCoreThreadTimeOut(false);
 
         this.name = name;
+        this.executorStats = new ExecutorStats(name);
     }
 
+    // Tasks scheduled by the serial and concurrent executors are timed by those executors.
+    // Other tasks are timed by beforeExecute and afterExecute; a sample of them is stamped for queue wait.
     @Override
     public void execute(@NonNull Runnable task) {
-        try { super.execute(task); }
+        final boolean stamp = !(task instanceof ExecutorStats.TrackedTask) && ExecutorStats.sampleQueueWait();
+        try { super.execute((!stamp) ? task : new ExecutorStats.StampedTask(task)); }
+        catch (RejectedExecutionException e) {
+            executorStats.recordRejected();
+            throw e;
+        }
         finally { computeQueueStats(); }
     }
 
@@ -173,7 +193,8 @@ public class CBLExecutor extends ThreadPoolExecutor {
 
         final List<Runnable> waiting = new ArrayList<>(getQueue());
         int n = 0;
-        for (Runnable r: waiting) {
+        for (Runnable task: waiting) {
+            final Runnable r = ExecutorStats.unstamped(task);
             Log.w(
                 LogDomain.DATABASE,
                 "@%d: %s",
@@ -183,6 +204,10 @@ public class CBLExecutor extends ThreadPoolExecutor {
         }
     }
 
+    // Queue wait and run time statistics, for tasks run on this pool that are not timed by another executor
+    @NonNull
+    public ExecutorStats getExecutorStats() { return executorStats; }
+
     @NonNull
     public Stats getStats() {
         final int max;
@@ -201,6 +226,24 @@ public class CBLExecutor extends ThreadPoolExecutor {
             getQueue().size(), max, mean, Math.sqrt(variance));
     }
 
+    @Override
+    protected void beforeExecute(@NonNull Thread thread, @NonNull Runnable task) {
+        super.beforeExecute(thread, task);
+        if ((task instanceof ExecutorStats.TrackedTask) || (!(thread instanceof PoolThread))) { return; }
+        final long startedAt = System.nanoTime();
+        executorStats.startTask(task, startedAt);
+        ((PoolThread) thread).taskStartedAt = startedAt;
+    }
+
+    @Override
+    protected void afterExecute(@NonNull Runnable task, @Nullable Throwable err) {
+        super.afterExecute(task, err);
+        if (task instanceof ExecutorStats.TrackedTask) { return; }
+        final Thread thread = Thread.currentThread();
+        if (!(thread instanceof PoolThread)) { return; }
+        executorStats.recordRunTime(System.nanoTime() - ((PoolThread) thread).taskStartedAt);
+    }
+
     private void computeQueueStats() {
         final int qSize = getQueue().size();
         synchronized (name) {
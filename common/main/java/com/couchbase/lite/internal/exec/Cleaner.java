@@ -22,17 +22,18 @@ import androidx.annotation.VisibleForTesting;
 
 import java.lang.ref.PhantomReference;
 import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.couchbase.lite.CouchbaseLiteError;
 import com.couchbase.lite.LogDomain;
 import com.couchbase.lite.internal.logging.Log;
-import com.couchbase.lite.internal.utils.ClassUtils;
-import com.couchbase.lite.internal.utils.Fn;
+import com.couchbase.lite.internal.utils.Preconditions;
 
 
 /**
@@ -44,7 +45,9 @@ import com.couchbase.lite.internal.utils.Fn;
  * The code here packages the Cleaner.Cleanable and the cleanable object in a CleanableRef.
  * A cleanable ref is a  PhantomReference.  It is, itself, subject to garbage collection:
  * somebody has to hold a reference to it!  Since we are the ones that created it
- * I guess it has to be us.  That's the alive set.
+ * I guess it has to be us.  That's the alive set.  Every C4Peer registers with the Cleaner
+ * and removes itself when it is closed, so the alive set is a very busy place: it is
+ * striped, each stripe with its own lock, to reduce contention.
  * <p>
  * So: the state after the call to Cleaner.register is:
  * <ul>
@@ -68,6 +71,11 @@ import com.couchbase.lite.internal.utils.Fn;
  * It is useful because when a Cleaner is stopped, its cleaner threads will not notice until
  * they are awakened by a zombie or by the timeout.
  * <p>
+ * A Cleaner may have more than one CleanerThread, all draining the same zombies queue.  Once awakened
+ * by a zombie, a CleanerThread drains as many as MAX_BATCH zombies from the queue, without waiting,
+ * before it waits again.  A Cleaner's thread count may be changed while it is running: surplus threads
+ * exit when they time out waiting for a zombie.
+ * <p>
  * Cleaners clean themselves: this is sole reason for the existence of CleanerImpl, separate from
  * Cleaner. A Cleaner will clean up its own resources when it becomes unreachable.  A Cleaner
  * registers itself with the CleanerImpl that actually does the cleaning.  When the Cleaner
@@ -88,6 +96,14 @@ import com.couchbase.lite.internal.utils.Fn;
 class CleanerImpl {
     private static final LogDomain LOG = LogDomain.DATABASE;
 
+    // The number of stripes in the alive set: a power of two, about twice the number of processors.
+    @VisibleForTesting
+    static final int STRIPES = Math.min(64, Integer.highestOneBit((CBLExecutor.CPU_COUNT * 2) - 1) << 1);
+
+    // The maximum number of zombies a CleanerThread will drain from the queue, once it is awakened.
+    @VisibleForTesting
+    static final int MAX_BATCH = 64;
+
     private final class CleanerThread extends Thread {
         private final AtomicLong runtime = new AtomicLong();
 
@@ -115,22 +131,32 @@ class CleanerImpl {
             boolean stopping = shouldStop.get();
             try {
                 while (!stopping) {
-                    final Cleaner.Cleanable ref = getNextZombie();
+                    Cleaner.Cleanable ref = getNextZombie();
                     stopping = shouldStop.get();
-                    if (ref == null) { continue; }
+                    if (ref == null) {
+                        stopping = stopping || isSurplus(this);
+                        continue;
+                    }
 
                     final long t = System.nanoTime();
-                    // Except in testing, "ref" is actually a CleanableRef: this is a call to CleanableRef.clean
-                    ref.clean(true);
+                    int n = 0;
+                    do {
+                        // Except in testing, "ref" is actually a CleanableRef: this is a call to CleanableRef.clean
+                        ref.clean(true);
+                        if (++n >= MAX_BATCH) { break; }
+                        ref = pollZombie();
+                    }
+                    while (ref != null);
                     runtime.getAndAdd(System.nanoTime() - t);
                 }
             }
             catch (Exception e) { err = e; }
             finally {
                 synchronized (lock) {
-                    if (this.equals(cleanerThread)) {
-                        if (stopping) { cleanerThread = null; }
-                        else { startCleaner(); }
+                    final int idx = cleanerThreads.indexOf(this);
+                    if (idx >= 0) {
+                        if (stopping) { cleanerThreads.remove(idx); }
+                        else { cleanerThreads.set(idx, startThread()); }
                     }
                 }
                 Log.w(LOG, "Cleaner thread exiting: %s", err, getName());
@@ -143,8 +169,10 @@ class CleanerImpl {
     private final class CleanableRef extends PhantomReference<Object> implements Cleaner.Cleanable {
         @NonNull
         private final Cleaner.Cleanable cleanable;
+        // The name is used only for logging: it is built from these two, only when needed.
         @NonNull
-        private final String name;
+        private final Class<?> referentClass;
+        private final int referentId;
         private final long ts;
 
 
@@ -153,7 +181,8 @@ class CleanerImpl {
             @NonNull Cleaner.Cleanable cleanable) {
             super(referent, zombies);
             this.cleanable = cleanable;
-            this.name = referent.getClass().getSimpleName() + ClassUtils.objId(referent);
+            this.referentClass = referent.getClass();
+            this.referentId = System.identityHashCode(referent);
             this.ts = System.currentTimeMillis();
         }
 
@@ -163,17 +192,10 @@ class CleanerImpl {
             // because this ref is about to become unreachable, anyway.
             clear();
 
-            final boolean removed;
-            synchronized (alive) {
-                removed = alive.remove(this);
-                final int curSize = alive.size();
-                if (curSize < minSize) { minSize = curSize; }
-            }
-
-            if (!removed) { Log.w(LOG, "%s was not alive at attempt to clean", this); }
+            if (!removeAlive(this)) { Log.w(LOG, "%s was not alive at attempt to clean", this); }
 
             try { cleanable.clean(finalizing); }
-            catch (Exception e) { Log.w(LOG, "Failed cleaning: %s%s", e, name, ((finalizing) ? "!" : "")); }
+            catch (Exception e) { Log.w(LOG, "Failed cleaning: %s%s", e, getName(), ((finalizing) ? "!" : "")); }
         }
 
         // Two CleanableRefs are equal if their cleanables are equal.
@@ -188,7 +210,12 @@ class CleanerImpl {
 
         @Override
         @NonNull
-        public String toString() { return "CleanableRef{" + name + ", " + cleanable + "}"; }
+        public String toString() { return "CleanableRef{" + getName() + ", " + cleanable + "}"; }
+
+        @NonNull
+        private String getName() {
+            return referentClass.getSimpleName() + "@0x" + Integer.toHexString(referentId);
+        }
     }
 
     private final Object lock = new Object();
@@ -196,32 +223,43 @@ class CleanerImpl {
     @NonNull
     private final AtomicBoolean shouldStop = new AtomicBoolean();
 
-    @GuardedBy("alive")
+    // Each stripe is guarded by its own monitor
     @NonNull
-    private final Set<CleanableRef> alive = new HashSet<>();
+    private final List<Set<CleanableRef>> alive = new ArrayList<>(STRIPES);
+    @NonNull
+    private final AtomicInteger aliveSize = new AtomicInteger();
 
     @NonNull
     private final ReferenceQueue<Object> zombies = new ReferenceQueue<>();
 
     @GuardedBy("lock")
-    @Nullable
-    private CleanerThread cleanerThread;
+    @NonNull
+    private final List<CleanerThread> cleanerThreads = new ArrayList<>();
+    @GuardedBy("lock")
+    private int threadCount;
     @GuardedBy("lock")
     private int threadId;
 
+    // Set once the threads have been started, so that registration needn't seize the lock
+    private volatile boolean started;
+
     private final int timeoutMs;
 
-    @GuardedBy("alive")
-    private int minSize;
-    @GuardedBy("alive")
-    private int maxSize;
+    @NonNull
+    private final AtomicInteger minSize = new AtomicInteger();
+    @NonNull
+    private final AtomicInteger maxSize = new AtomicInteger();
 
     @NonNull
     private final String cleanerName;
 
-    CleanerImpl(@NonNull String cleanerName, int timeoutMs) {
+    CleanerImpl(@NonNull String cleanerName, int timeoutMs) { this(cleanerName, timeoutMs, 1); }
+
+    CleanerImpl(@NonNull String cleanerName, int timeoutMs, int threadCount) {
         this.cleanerName = cleanerName;
         this.timeoutMs = timeoutMs;
+        this.threadCount = Preconditions.assertPositive(threadCount, "thread count");
+        for (int i = 0; i < STRIPES; i++) { alive.add(new HashSet<>()); }
     }
 
     @NonNull
@@ -229,24 +267,31 @@ class CleanerImpl {
         if (shouldStop.get()) { throw new CouchbaseLiteError("Attempt to register with a closed cleaner"); }
 
         final CleanableRef ref = new CleanableRef(obj, cleanable);
-        synchronized (alive) {
-            if (!alive.add(ref)) { throw new CouchbaseLiteError("Attempt to register a duplicate CleanableRef"); }
-            final int curSize = alive.size();
-            if (curSize > maxSize) { maxSize = curSize; }
-        }
+        if (!addAlive(ref)) { throw new CouchbaseLiteError("Attempt to register a duplicate CleanableRef"); }
 
-        synchronized (lock) {
-            if (cleanerThread == null) { startCleaner(); }
+        if (!started) {
+            synchronized (lock) {
+                if (cleanerThreads.isEmpty()) { startCleaner(); }
+            }
         }
 
         return ref;
     }
 
+    final void setThreadCount(int count) {
+        Preconditions.assertPositive(count, "thread count");
+        synchronized (lock) {
+            threadCount = count;
+            if (started) { startCleaner(); }
+        }
+    }
+
+    // Start threads until there are threadCount of them
     @GuardedBy("lock")
     @VisibleForTesting
     final void startCleaner() {
-        cleanerThread = new CleanerThread(cleanerName + "-thread-" + ++threadId);
-        cleanerThread.start();
+        while (cleanerThreads.size() < threadCount) { cleanerThreads.add(startThread()); }
+        started = true;
     }
 
     @VisibleForTesting
@@ -257,32 +302,91 @@ class CleanerImpl {
         return null;
     }
 
+    @VisibleForTesting
+    @Nullable
+    Cleaner.Cleanable pollZombie() { return (Cleaner.Cleanable) zombies.poll(); }
+
     @VisibleForTesting
     final void stopCleaner() { shouldStop.set(true); }
 
     final boolean isStopped() {
-        synchronized (lock) { return shouldStop.get() && (cleanerThread == null); }
+        synchronized (lock) { return shouldStop.get() && cleanerThreads.isEmpty(); }
     }
 
 
     // Instrumentation
+    // The stripes are visited one at a time so the list of timestamps is not an atomic snapshot.
     @NonNull
     final Cleaner.Stats getStats() {
-        synchronized (alive) {
-            final Cleaner.Stats stats = new Cleaner.Stats(
-                (cleanerThread == null) ? 0 : cleanerThread.getRuntimeNanos(),
-                minSize,
-                maxSize,
-                Fn.mapToList(alive, ref -> ref.ts)
-            );
-
-            final int curSize = alive.size();
-            minSize = curSize;
-            maxSize = curSize;
-
-            return stats;
+        final List<Long> timestamps = new ArrayList<>();
+        for (Set<CleanableRef> stripe: alive) {
+            synchronized (stripe) {
+                for (CleanableRef ref: stripe) { timestamps.add(ref.ts); }
+            }
+        }
+
+        long runtime = 0;
+        synchronized (lock) {
+            for (CleanerThread thread: cleanerThreads) { runtime += thread.getRuntimeNanos(); }
+        }
+
+        final int curSize = aliveSize.get();
+        return new Cleaner.Stats(
+            runtime,
+            minSize.getAndSet(curSize),
+            maxSize.getAndSet(curSize),
+            timestamps);
+    }
+
+    private boolean addAlive(@NonNull CleanableRef ref) {
+        final Set<CleanableRef> stripe = getStripe(ref);
+        synchronized (stripe) {
+            if (!stripe.add(ref)) { return false; }
+        }
+
+        final int curSize = aliveSize.incrementAndGet();
+        while (true) {
+            final int max = maxSize.get();
+            if ((curSize <= max) || maxSize.compareAndSet(max, curSize)) { return true; }
+        }
+    }
+
+    private boolean removeAlive(@NonNull CleanableRef ref) {
+        final Set<CleanableRef> stripe = getStripe(ref);
+        synchronized (stripe) {
+            if (!stripe.remove(ref)) { return false; }
+        }
+
+        final int curSize = aliveSize.decrementAndGet();
+        while (true) {
+            final int min = minSize.get();
+            if ((curSize >= min) || minSize.compareAndSet(min, curSize)) { return true; }
         }
     }
+
+    @GuardedBy("lock")
+    @NonNull
+    private CleanerThread startThread() {
+        final CleanerThread thread = new CleanerThread(cleanerName + "-thread-" + ++threadId);
+        thread.start();
+        return thread;
+    }
+
+    // If there are more threads than are wanted, retire the caller.
+    private boolean isSurplus(@NonNull CleanerThread thread) {
+        synchronized (lock) {
+            if (cleanerThreads.size() <= threadCount) { return false; }
+            cleanerThreads.remove(thread);
+            return true;
+        }
+    }
+
+    // Equal refs must land in the same stripe: equal refs have equal hash codes.
+    @NonNull
+    private Set<CleanableRef> getStripe(@NonNull CleanableRef ref) {
+        final int h = ref.hashCode();
+        return alive.get((h ^ (h >>> 16)) & (STRIPES - 1));
+    }
 }
 
 public final class Cleaner {
@@ -337,6 +441,14 @@ public final class Cleaner {
     @NonNull
     public Cleanable register(@NonNull Object obj, @NonNull Cleanable cleaner) { return impl.register(obj, cleaner); }
 
+    /**
+     * Set the number of threads that drain this Cleaner's queue.
+     * Additional threads are started immediately.  Surplus threads exit once they are idle.
+     *
+     * @param count the number of cleaner threads: must be positive
+     */
+    public void setThreadCount(int count) { impl.setThreadCount(count); }
+
     // This is quite expensive: don't use it in production.
     @NonNull
     public Stats getStats() { return impl.getStats(); }
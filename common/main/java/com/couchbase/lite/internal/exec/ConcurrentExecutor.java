@@ -15,14 +15,17 @@
 //
 package com.couchbase.lite.internal.exec;
 
-import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.couchbase.lite.LogDomain;
 import com.couchbase.lite.internal.logging.Log;
@@ -30,39 +33,95 @@ import com.couchbase.lite.internal.utils.Preconditions;
 
 
 /**
- * This executor schedules tasks on an underlying thread pool executor
+ * This executor schedules tasks on an underlying executor: a thread pool, a virtual thread executor
+ * or a work-stealing fork-join pool.
  * <br>
+ * Scheduling a task takes no locks: the count of running tasks and the stop flag are atomics.
+ * Each task is wrapped once, to mark the thread as inside this executor, to time it and to count it as finished.
  */
 class ConcurrentExecutor implements ExecutionService.CloseableExecutor {
     private static final LogDomain DOMAIN = LogDomain.DATABASE;
 
+    // A task scheduled by this executor.
+    // If the task is sampled for queue wait, it carries the time at which it was queued; otherwise 0.
+    private final class ConcurrentTask implements ExecutorStats.TrackedTask {
+        @NonNull
+        final Runnable task;
+        private final long queuedAt;
+
+        ConcurrentTask(@NonNull Runnable task) {
+            this.task = task;
+            this.queuedAt = (!ExecutorStats.sampleQueueWait()) ? 0L : System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            final long startedAt = System.nanoTime();
+            if (queuedAt != 0L) { stats.recordQueueWait(startedAt - queuedAt); }
+            insideExecutor.set(true);
+            try { task.run(); }
+            finally {
+                insideExecutor.remove();
+                stats.recordRunTime(System.nanoTime() - startedAt);
+                finishTask();
+            }
+        }
+
+        @NonNull
+        @Override
+        public String toString() { return task.toString(); }
+    }
+
+
     @NonNull
-    private final ThreadPoolExecutor executor;
+    private final String name;
+
+    @NonNull
+    private final Executor executor;
+
+    @NonNull
+    private final ExecutorStats stats;
 
     // a non-null stop latch is the flag that this executor has been stopped
-    @GuardedBy("this")
-    @Nullable
-    private CountDownLatch stopLatch;
+    @NonNull
+    private final AtomicReference<CountDownLatch> stopLatch = new AtomicReference<>();
 
     // "running" includes tasks that are not actually running
-    // but are enqueued to run on the underlying executor
-    @GuardedBy("this")
-    private int running;
+    // but are enqueued to run on the underlying executor.
+    // A task is counted before the stop flag is checked, so that stop() cannot miss it.
+    @NonNull
+    private final AtomicInteger running = new AtomicInteger();
 
     @NonNull
     private final ThreadLocal<Boolean> insideExecutor = new ThreadLocal<>();
 
-    ConcurrentExecutor(@NonNull ThreadPoolExecutor executor) {
+    ConcurrentExecutor(@NonNull Executor executor, @NonNull ExecutorStats stats) {
+        this("CBL concurrent executor", executor, stats);
+    }
+
+    ConcurrentExecutor(@NonNull String name, @NonNull Executor executor, @NonNull ExecutorStats stats) {
         Preconditions.assertNotNull(executor, "executor");
+        this.name = name;
         this.executor = executor;
+        this.stats = stats;
     }
 
     /**
      * Get the number of tasks awaiting execution.
      *
+     * An executor that is not a pool (e.g., one that starts a virtual thread for each task)
+     * does not queue tasks.
+     *
      * @return the number of tasks awaiting execution.
      */
-    public int getPending() { return executor.getQueue().size(); }
+    public int getPending() {
+        if (executor instanceof ThreadPoolExecutor) { return ((ThreadPoolExecutor) executor).getQueue().size(); }
+        if (executor instanceof ForkJoinPool) {
+            final ForkJoinPool pool = (ForkJoinPool) executor;
+            return (int) Math.min(Integer.MAX_VALUE, pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount());
+        }
+        return 0;
+    }
 
     /**
      * Schedule a task for concurrent execution.
@@ -75,10 +134,15 @@ class ConcurrentExecutor implements ExecutionService.CloseableExecutor {
     @Override
     public void execute(@NonNull Runnable task) {
         Preconditions.assertNotNull(task, "task");
-        synchronized (this) {
-            if (stopLatch != null) { throw new ExecutorClosedException("Executor has been stopped"); }
-            executeTask(new InstrumentedTask(wrapTask(task), this::finishTask));
+
+        running.incrementAndGet();
+        if (stopLatch.get() != null) {
+            finishTask();
+            stats.recordRejected();
+            throw new ExecutorClosedException("Executor has been stopped");
         }
+
+        executeTask(new ConcurrentTask((!InstrumentedTask.isEnabled()) ? task : new InstrumentedTask(task, null)));
     }
 
     /**
@@ -94,13 +158,10 @@ class ConcurrentExecutor implements ExecutionService.CloseableExecutor {
         Preconditions.assertNotNegative(timeout, "timeout");
         Preconditions.assertNotNull(unit, "time unit");
 
-        final CountDownLatch latch;
-        synchronized (this) {
-            if (stopLatch == null) { stopLatch = new CountDownLatch(1); }
-            if (running <= 0) { return true; }
-            latch = stopLatch;
-        }
+        stopLatch.compareAndSet(null, new CountDownLatch(1));
+        if (running.get() <= 0) { return true; }
 
+        final CountDownLatch latch = stopLatch.get();
         try { return latch.await(timeout, unit); }
         catch (InterruptedException ignore) { }
 
@@ -112,56 +173,39 @@ class ConcurrentExecutor implements ExecutionService.CloseableExecutor {
 
     @NonNull
     @Override
-    public String toString() { return "CBL concurrent executor"; }
+    public String toString() { return name; }
 
-    public void dumpState(@Nullable InstrumentedTask rejected) {
-        final int nowRunning;
-        synchronized (this) { nowRunning = running; }
-        Log.w(DOMAIN, "==== Concurrent Executor (" + nowRunning + ")");
+    public void dumpState(@Nullable Runnable rejected) {
+        Log.w(DOMAIN, "==== Concurrent Executor: " + name + " (" + running.get() + ")");
 
-        if (rejected != null) { Log.w(DOMAIN, "== Rejected task: " + rejected, rejected.origin); }
+        if (rejected != null) { Log.w(DOMAIN, "== Rejected task: " + rejected, getOrigin(rejected)); }
 
         if (executor instanceof CBLExecutor) { ((CBLExecutor) executor).dumpState(); }
+        else if (executor instanceof ForkJoinPool) { Log.w(DOMAIN, "== Pool: " + executor); }
 
         AbstractExecutionService.dumpThreads();
     }
 
     void finishTask() {
-        final CountDownLatch latch;
-        synchronized (this) {
-            if (--running > 0) { return; }
-            latch = stopLatch;
-        }
-
+        if (running.decrementAndGet() > 0) { return; }
+        final CountDownLatch latch = stopLatch.get();
         if (latch != null) { latch.countDown(); }
     }
 
-    @NonNull
-    private Runnable wrapTask(@NonNull Runnable task) {
-        return new Runnable() {
-            @Override
-            public void run() {
-                insideExecutor.set(true);
-                try { task.run(); }
-                finally { insideExecutor.remove(); }
-            }
-
-            @NonNull
-            @Override
-            public String toString() { return task.toString(); }
-        };
-    }
-
-    @GuardedBy("this")
-    private void executeTask(@NonNull InstrumentedTask newTask) {
-        try {
-            executor.execute(newTask);
-            running++;
-        }
+    private void executeTask(@NonNull ConcurrentTask newTask) {
+        try { executor.execute(newTask); }
         catch (RuntimeException e) {
+            finishTask();
+            stats.recordRejected();
             Log.w(LogDomain.DATABASE, "Catastrophic executor failure (Concurrent Executor)!", e);
             if (!AbstractExecutionService.throttled()) { dumpState(newTask); }
             throw e;
         }
     }
+
+    @Nullable
+    private Exception getOrigin(@NonNull Runnable task) {
+        final Runnable t = (!(task instanceof ConcurrentTask)) ? task : ((ConcurrentTask) task).task;
+        return (!(t instanceof InstrumentedTask)) ? null : ((InstrumentedTask) t).origin;
+    }
 }
@@ -18,6 +18,7 @@ package com.couchbase.lite.internal.exec;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -85,6 +86,16 @@ public interface ExecutionService {
     @NonNull
     Executor getDefaultExecutor();
 
+    /**
+     * Get an executor for a listener that was registered without one.  Tasks on it run in order.
+     * Each call may return a new executor, so that a listener that blocks does not hold up other listeners:
+     * a listener should get one executor and keep it.
+     *
+     * @return an executor for a listener.
+     */
+    @NonNull
+    Executor getListenerExecutor();
+
     /**
      * Get a new, serial executor.  Not a single thread but does guarantee serial execution.
      * Suitable for heavyweight that must be executed in order.  That is most of them.
@@ -103,6 +114,16 @@ public interface ExecutionService {
     @NonNull
     CloseableExecutor getConcurrentExecutor();
 
+    /**
+     * Get the work-stealing execution service.  Executes tasks on a fork-join pool in which each
+     * worker has its own queue, so that scheduling tasks does not contend on a single queue lock.
+     * Suitable for fanning out many short, independent tasks.  There is no guarantee for order of execution.
+     *
+     * @return the work-stealing executor.
+     */
+    @NonNull
+    CloseableExecutor getWorkStealingExecutor();
+
     /**
      * Run the passed task on the passed executor, after a delay
      *
@@ -120,4 +141,15 @@ public interface ExecutionService {
      * @param future object returned by a previous call to postDelayedOnExecutor.
      */
     void cancelDelayedTask(@NonNull Cancellable future);
+
+    /**
+     * Get performance statistics for this service's executors: queue wait and run times, and rejected tasks.
+     * There is one entry for all of the serial executors, together, one each for the concurrent
+     * and work-stealing executors and, if there is one, one for the thread pool on which the serial
+     * and concurrent executors run.
+     *
+     * @return executor statistics.
+     */
+    @NonNull
+    List<ExecutorStats> getExecutorStats();
 }
@@ -0,0 +1,114 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.exec;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Always-on performance statistics for an executor (or a family of executors):
+ * how long tasks wait in the queue, how long they run, and how many were rejected.
+ * <p>
+ * Executors time their tasks where they already have a hook: the serial executor's drain loop,
+ * the concurrent executor's task wrapper and the base pool's before/after execute callbacks.
+ * Timing a task's run costs one or two reads of the nanosecond clock and allocates nothing.
+ * Queue wait is sampled: one task in QUEUE_WAIT_SAMPLE_INTERVAL is stamped with the time at which it was queued.
+ */
+public final class ExecutorStats {
+    // Sample the queue wait of one task in this many
+    static final int QUEUE_WAIT_SAMPLE_INTERVAL = 16;
+
+    // A task whose executor records its statistics: an underlying executor should not record them again.
+    interface TrackedTask extends Runnable { }
+
+    // A task that is sampled for queue wait, with the time at which it was queued.
+    static final class StampedTask implements Runnable {
+        @NonNull
+        final Runnable task;
+        final long queuedAt = System.nanoTime();
+
+        StampedTask(@NonNull Runnable task) { this.task = task; }
+
+        @Override
+        public void run() { task.run(); }
+
+        @NonNull
+        @Override
+        public String toString() { return task.toString(); }
+    }
+
+    // The task wrapped by a stamped task, or the task itself
+    @NonNull
+    static Runnable unstamped(@NonNull Runnable task) {
+        return (!(task instanceof StampedTask)) ? task : ((StampedTask) task).task;
+    }
+
+    // True if the next task should be sampled for queue wait
+    static boolean sampleQueueWait() { return ThreadLocalRandom.current().nextInt(QUEUE_WAIT_SAMPLE_INTERVAL) == 0; }
+
+
+    @NonNull
+    private final String name;
+    @NonNull
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    @NonNull
+    private final LatencyHistogram runTime = new LatencyHistogram();
+    @NonNull
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ExecutorStats(@NonNull String name) { this.name = name; }
+
+    @NonNull
+    public String getName() { return name; }
+
+    // Time from when a task is queued to when it starts running: a sample of the tasks
+    @NonNull
+    public LatencyHistogram.Snapshot getQueueWait() { return queueWait.getSnapshot(); }
+
+    // Time a task runs: its count is the number of completed tasks
+    @NonNull
+    public LatencyHistogram.Snapshot getRunTime() { return runTime.getSnapshot(); }
+
+    // Number of tasks that the executor refused, including those refused because it was stopped
+    public long getRejectedCount() { return rejected.get(); }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "ExecutorStats{" + name
+            + ", rejected=" + rejected.get()
+            + ", wait=" + queueWait.getSnapshot()
+            + ", run=" + runTime.getSnapshot() + "}";
+    }
+
+    // Time a task that was stamped when it was queued: returns the task to run
+    @NonNull
+    Runnable startTask(@NonNull Runnable task, long startedAt) {
+        if (!(task instanceof StampedTask)) { return task; }
+        final StampedTask stampedTask = (StampedTask) task;
+        queueWait.record(startedAt - stampedTask.queuedAt);
+        return stampedTask.task;
+    }
+
+    void recordRunTime(long nanos) { runTime.record(nanos); }
+
+    void recordQueueWait(long nanos) { queueWait.record(nanos); }
+
+    void recordRejected() { rejected.incrementAndGet(); }
+}
@@ -3,7 +3,10 @@ package com.couchbase.lite.internal.exec;
 import androidx.annotation.NonNull;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.couchbase.lite.LogDomain;
 import com.couchbase.lite.internal.logging.Log;
@@ -11,6 +14,24 @@ import com.couchbase.lite.internal.logging.Log;
 public final class ExecutorUtils {
     private ExecutorUtils() {}
 
+    // A work-stealing pool with nicely named daemon threads.
+    // In async mode each worker runs the tasks in its deque in FIFO order:
+    // that is appropriate for event-style tasks that are never joined.
+    @NonNull
+    public static ForkJoinPool createWorkStealingPool(@NonNull String name, int parallelism) {
+        final String threadName = name + " #";
+        final AtomicInteger threadId = new AtomicInteger(0);
+        return new ForkJoinPool(
+            parallelism,
+            pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(threadName + threadId.incrementAndGet());
+                return thread;
+            },
+            (t, e) -> Log.e(LogDomain.DATABASE, "Uncaught exception on thread %s", e, t.getName()),
+            true);
+    }
+
     public static void shutdownAndAwaitTermination(
             @NonNull ExecutorService pool,
             int timeoutSeconds,
@@ -0,0 +1,141 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.exec;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A fixed size, lock-free histogram of durations, in nanoseconds.
+ * <p>
+ * Like an HDR histogram, buckets are log-linear: each power of two is split into 8 equal buckets
+ * so that a recorded value is never more than 12.5% away from the bucket that holds it.
+ * Recording a value is a few bit operations and an atomic increment.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // values with a highest bit from SUB_BUCKET_BITS to 62 each have SUB_BUCKETS buckets
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /**
+     * An immutable copy of a histogram.
+     */
+    public static final class Snapshot {
+        @NonNull
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(@NonNull long[] counts, long sum, long max) {
+            long n = 0;
+            for (long c: counts) { n += c; }
+            this.counts = counts;
+            this.count = n;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() { return count; }
+
+        public long getMaxNanos() { return max; }
+
+        public double getMeanNanos() { return (count <= 0) ? 0.0 : ((double) sum) / count; }
+
+        /**
+         * Get the (upper bound of the bucket holding the) value below which the given percentage of values fall.
+         *
+         * @param percentile a percentage, 0 - 100
+         * @return the value at the percentile, in nanoseconds
+         */
+        public long getNanosAtPercentile(double percentile) {
+            if (count <= 0) { return 0; }
+            final long target = Math.max(1, (long) Math.ceil((Math.min(percentile, 100.0) / 100.0) * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) { return Math.min(max, bucketUpperBound(i)); }
+            }
+            return max;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(
+                Locale.ENGLISH,
+                "{n=%d, mean=%.1fus, p50=%.1fus, p99=%.1fus, max=%.1fus}",
+                count,
+                getMeanNanos() / 1000.0,
+                getNanosAtPercentile(50) / 1000.0,
+                getNanosAtPercentile(99) / 1000.0,
+                max / 1000.0);
+        }
+    }
+
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) { return (int) Math.max(0, value); }
+        final int exp = 63 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS) + sub;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) { return index; }
+        final int exp = (index / SUB_BUCKETS) + SUB_BUCKET_BITS - 1;
+        final long sub = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (exp - SUB_BUCKET_BITS);
+    }
+
+    static long bucketUpperBound(int index) {
+        return (index >= BUCKETS - 1) ? Long.MAX_VALUE : bucketLowerBound(index + 1) - 1;
+    }
+
+
+    @NonNull
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    @NonNull
+    private final AtomicLong sum = new AtomicLong();
+    @NonNull
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(value));
+        sum.addAndGet(value);
+
+        long prev = max.get();
+        while ((value > prev) && !max.compareAndSet(prev, value)) { prev = max.get(); }
+    }
+
+    // The snapshot is not atomic: values recorded while it is being taken may or may not be included.
+    @NonNull
+    public Snapshot getSnapshot() {
+        final long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) { snapshot[i] = counts.get(i); }
+        return new Snapshot(snapshot, sum.get(), max.get());
+    }
+
+    @NonNull
+    @Override
+    public String toString() { return "LatencyHistogram" + getSnapshot(); }
+}
@@ -15,18 +15,20 @@
 //
 package com.couchbase.lite.internal.exec;
 
-import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.couchbase.lite.LogDomain;
 import com.couchbase.lite.internal.logging.Log;
@@ -34,35 +36,59 @@ import com.couchbase.lite.internal.utils.Preconditions;
 
 
 /**
- * Serial execution, patterned after AsyncTask's executor.
- * Tasks are queued on an unbounded queue and executed one at a time
- * on an underlying executor: the head of the queue is the currently running task.
- * Since this executor can have at most two tasks scheduled on the underlying
- * executor, ensuring space on that executor makes it unlikely that
- * a serial executor will refuse a task for execution.
+ * Serial execution, in the style of an actor's mailbox.
+ * Tasks are queued on an unbounded, lock-free queue.  Any number of threads may add tasks to the queue
+ * but at most one drain task, scheduled on the underlying executor, runs them.  An atomic "running" flag
+ * decides which thread schedules the drain task: there are no locks on the execute path.
+ * Since this executor has at most one task scheduled on the underlying executor,
+ * ensuring space on that executor makes it unlikely that a serial executor will refuse a task for execution.
+ * <p>
+ * When task instrumentation is enabled (see InstrumentedTask.setEnabled), each task is wrapped
+ * in an InstrumentedTask, for the diagnostic dump.  Otherwise, queuing a task allocates only a queue node,
+ * except for the occasional task that is stamped to sample queue wait.  The drain loop times each task's run.
  */
 class SerialExecutor implements ExecutionService.CloseableExecutor {
     private static final LogDomain DOMAIN = LogDomain.DATABASE;
 
+    // The drain task gives up its thread after this many tasks, so that a busy serial executor
+    // cannot monopolize a thread in a shared pool.
+    private static final int MAX_TASKS_PER_DRAIN = 32;
+
+    @NonNull
+    private final Executor executor;
+
+    // Shared by all of the serial executors belonging to an execution service
+    @NonNull
+    private final ExecutorStats stats;
+
+    @NonNull
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+    // Number of tasks that have been queued but have not completed.
+    // ConcurrentLinkedQueue.size() is O(n).
     @NonNull
-    private final ThreadPoolExecutor executor;
+    private final AtomicInteger pending = new AtomicInteger();
 
-    @GuardedBy("this")
+    // True while the drain task is scheduled or running
     @NonNull
-    private final Deque<InstrumentedTask> pendingTasks = new LinkedList<>();
+    private final AtomicBoolean running = new AtomicBoolean();
 
     // a non-null stop latch is the flag that this executor has been stopped
-    @GuardedBy("this")
-    @Nullable
-    private CountDownLatch stopLatch;
+    @NonNull
+    private final AtomicReference<CountDownLatch> stopLatch = new AtomicReference<>();
 
     // Id of the pool thread currently running a task for this executor
     @NonNull
     private final AtomicLong currentThread = new AtomicLong(-1);
 
-    SerialExecutor(@NonNull ThreadPoolExecutor executor) {
+    // The drain task times the tasks it runs: the underlying executor need not time it.
+    @NonNull
+    private final ExecutorStats.TrackedTask drainTask = this::drain;
+
+    SerialExecutor(@NonNull Executor executor, @NonNull ExecutorStats stats) {
         Preconditions.assertNotNull(executor, "executor");
         this.executor = executor;
+        this.stats = stats;
     }
 
     /**
@@ -70,9 +96,7 @@ class SerialExecutor implements ExecutionService.CloseableExecutor {
      *
      * @return the number of tasks awaiting execution.
      */
-    public int getPending() {
-        synchronized (this) { return pendingTasks.size(); }
-    }
+    public int getPending() { return pending.get(); }
 
     /**
      * Schedule a task for in-order execution.
@@ -85,13 +109,19 @@ class SerialExecutor implements ExecutionService.CloseableExecutor {
     public void execute(@NonNull Runnable task) {
         Preconditions.assertNotNull(task, "task");
 
-        synchronized (this) {
-            if (stopLatch != null) { throw new ExecutorClosedException("Executor has been stopped"); }
+        // Count the task before checking the stop flag, so that a concurrent stop() cannot miss it.
+        pending.incrementAndGet();
+        if (stopLatch.get() != null) {
+            // A stop() that saw this task may be waiting for it.
+            if (pending.decrementAndGet() <= 0) { stopLatch.get().countDown(); }
+            stats.recordRejected();
+            throw new ExecutorClosedException("Executor has been stopped");
+        }
 
-            pendingTasks.add(new InstrumentedTask(task, this::scheduleNext));
+        final Runnable queuedTask = (!InstrumentedTask.isEnabled()) ? task : new InstrumentedTask(task, null);
+        pendingTasks.add((!ExecutorStats.sampleQueueWait()) ? queuedTask : new ExecutorStats.StampedTask(queuedTask));
 
-            if (pendingTasks.size() == 1) { executeTask(null); }
-        }
+        scheduleDrain(null);
     }
 
     /**
@@ -108,13 +138,10 @@ class SerialExecutor implements ExecutionService.CloseableExecutor {
         Preconditions.assertNotNegative(timeout, "timeout");
         Preconditions.assertNotNull(unit, "time unit");
 
-        final CountDownLatch latch;
-        synchronized (this) {
-            if (stopLatch == null) { stopLatch = new CountDownLatch(1); }
-            if (pendingTasks.size() <= 0) { return true; }
-            latch = stopLatch;
-        }
+        stopLatch.compareAndSet(null, new CountDownLatch(1));
+        if (pending.get() <= 0) { return true; }
 
+        final CountDownLatch latch = stopLatch.get();
         try { return latch.await(timeout, unit); }
         catch (InterruptedException ignore) { }
 
@@ -130,18 +157,17 @@ class SerialExecutor implements ExecutionService.CloseableExecutor {
     @Override
     public String toString() { return "CBL serial executor"; }
 
-    public void dumpState(@Nullable InstrumentedTask prev) {
+    public void dumpState(@Nullable Runnable prev) {
         Log.w(DOMAIN, "==== Serial Executor");
 
-        if (prev != null) { Log.w(DOMAIN, "== Previous task: " + prev, prev.origin); }
+        if (prev != null) { Log.w(DOMAIN, "== Previous task: " + prev, getOrigin(prev)); }
 
-        final ArrayList<InstrumentedTask> waiting;
-        synchronized (this) { waiting = new ArrayList<>(pendingTasks); }
+        final ArrayList<Runnable> waiting = new ArrayList<>(pendingTasks);
         if (waiting.isEmpty()) { Log.w(DOMAIN, "== Queue is empty"); }
         else {
             Log.w(DOMAIN, "== Queued tasks (" + waiting.size() + ")");
             int n = 0;
-            for (InstrumentedTask t: waiting) { Log.w(DOMAIN, "@" + (n++) + ": " + t, t.origin); }
+            for (Runnable t: waiting) { Log.w(DOMAIN, "@" + (n++) + ": " + t, getOrigin(t)); }
         }
 
         if (executor instanceof CBLExecutor) { ((CBLExecutor) executor).dumpState(); }
@@ -150,35 +176,71 @@ class SerialExecutor implements ExecutionService.CloseableExecutor {
     }
 
 
-    // Called on completion of the task at the head of the pending queue.
-    private void scheduleNext() {
-        final CountDownLatch latch;
-        synchronized (this) {
-            executeTask(pendingTasks.remove());
-            latch = (!pendingTasks.isEmpty()) ? null : stopLatch;
-        }
-
-        if (latch != null) { latch.countDown(); }
-    }
+    // Schedule the drain task, unless it is already scheduled.
+    // This is the only place that the running flag is set: a thread that sets it
+    // must either schedule the drain task or clear the flag.
+    private void scheduleDrain(@Nullable Runnable prevTask) {
+        if (!running.compareAndSet(false, true)) { return; }
 
-    @GuardedBy("this")
-    private void executeTask(@Nullable InstrumentedTask prevTask) {
-        final InstrumentedTask nextTask = pendingTasks.peek();
-        if (nextTask == null) { return; }
-
-        try { executor.execute(() -> {
-            final long tid = Thread.currentThread().getId();
-            currentThread.set(tid);
-            try { nextTask.run(); }
-            finally {
-                // Clear only if unchanged: the next task may already have claimed it.
-                currentThread.compareAndSet(tid, -1);
-            }
-        }); }
+        try { executor.execute(drainTask); }
         catch (RuntimeException e) {
+            running.set(false);
+            stats.recordRejected();
             Log.w(LogDomain.DATABASE, "Catastrophic executor failure (Serial Executor)!", e);
             if (!AbstractExecutionService.throttled()) { dumpState(prevTask); }
             throw e;
         }
     }
+
+    // Run queued tasks, in order.
+    // If a task throws, the exception propagates to the underlying executor, after the next drain is scheduled.
+    private void drain() {
+        final long tid = Thread.currentThread().getId();
+        currentThread.set(tid);
+
+        Runnable prev = null;
+        try {
+            // The time at which one task finishes is the time at which the next one starts
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < MAX_TASKS_PER_DRAIN; i++) {
+                final Runnable task = pendingTasks.poll();
+                if (task == null) { break; }
+                prev = task;
+                try { stats.startTask(task, startedAt).run(); }
+                finally {
+                    pending.decrementAndGet();
+                    final long finishedAt = System.nanoTime();
+                    stats.recordRunTime(finishedAt - startedAt);
+                    startedAt = finishedAt;
+                }
+            }
+        }
+        finally {
+            // Clear only if unchanged: the next drain may already have claimed it.
+            currentThread.compareAndSet(tid, -1);
+            running.set(false);
+            finishDrain(prev);
+        }
+    }
+
+    // A task that is queued after the running flag is cleared will schedule its own drain.
+    // A task that was queued before that must be scheduled here.
+    private void finishDrain(@Nullable Runnable prevTask) {
+        if (!pendingTasks.isEmpty()) {
+            try { scheduleDrain(prevTask); }
+            catch (RuntimeException ignore) {
+                // already logged: there is no one to whom to report the failure
+            }
+            return;
+        }
+
+        final CountDownLatch latch = stopLatch.get();
+        if ((latch != null) && (pending.get() <= 0)) { latch.countDown(); }
+    }
+
+    @Nullable
+    private Exception getOrigin(@NonNull Runnable task) {
+        final Runnable t = ExecutorStats.unstamped(task);
+        return (!(t instanceof InstrumentedTask)) ? null : ((InstrumentedTask) t).origin;
+    }
 }
@@ -32,6 +32,11 @@ public class FLDict {
         long nCount(long dict);
         long nGet(long dict, @NonNull byte[] keyString);
 
+        // Pre-encoded keys
+        long nInitKey(@NonNull byte[] keyString);
+        long nGetWithKey(long dict, long key);
+        void nFreeKey(long key);
+
         // Iterator
         long nInit(long dict);
         long nGetCount(long itr);
@@ -42,7 +47,7 @@ public class FLDict {
         void nFree(long itr);
     }
 
-    private static final NativeImpl NATIVE_IMPL = new NativeFLDict();
+    static final NativeImpl NATIVE_IMPL = new NativeFLDict();
 
     @NonNull
     public static FLDict create(long peer) { return new FLDict(NATIVE_IMPL, peer); }
@@ -82,6 +87,13 @@ public class FLDict {
         return hValue == 0L ? null : FLValue.getFLValue(hValue);
     }
 
+    // Much faster than get(String), for a key that is used repeatedly.
+    @Nullable
+    public FLValue get(@NonNull FLDictKey key) {
+        final long hValue = key.lookup(peer);
+        return hValue == 0L ? null : FLValue.getFLValue(hValue);
+    }
+
     @NonNull
     public <K, V> Map<K, V> asMap(@NonNull Class<K> keyClass, @NonNull Class<V> valueClass) {
         final Map<K, V> results = new HashMap<>();
@@ -95,6 +107,12 @@ public class FLDict {
         return results;
     }
 
+    // Converts this dictionary to a Map in a single native call, or returns null if it
+    // contains anything that a Document represents as a Blob.
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public Map<String, Object> toMapUnlessBlobs() { return (Map<String, Object>) toFLValue().toJavaUnlessBlobs(); }
+
     @NonNull
     public FLDictIterator iterator() { return new FLDictIterator(impl, this); }
 
@@ -0,0 +1,97 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.fleece;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+
+import com.couchbase.lite.LogDomain;
+import com.couchbase.lite.internal.core.C4NativePeer;
+
+
+/**
+ * A dictionary key, encoded once, for repeated lookups.
+ * <p>
+ * FLDict.get(String) converts its key to UTF-8 on every call.  An FLDictKey holds
+ * the UTF-8 key in native memory and, once it has been used with a dictionary
+ * that uses shared keys, caches the shared-key id as well.
+ * The native key object is not thread safe: lookups are serialized on this object.
+ * A key that is used on a hot path by many threads should be per-thread, to avoid contention.
+ */
+public final class FLDictKey extends C4NativePeer {
+    @NonNull
+    public static FLDictKey create(@NonNull String key) { return new FLDictKey(FLDict.NATIVE_IMPL, key); }
+
+
+    //-------------------------------------------------------------------------
+    // Fields
+    //-------------------------------------------------------------------------
+
+    @NonNull
+    private final FLDict.NativeImpl impl;
+    @NonNull
+    private final String key;
+
+    //-------------------------------------------------------------------------
+    // Constructor
+    //-------------------------------------------------------------------------
+
+    FLDictKey(@NonNull FLDict.NativeImpl impl, @NonNull String key) {
+        super(impl.nInitKey(key.getBytes(StandardCharsets.UTF_8)));
+        this.impl = impl;
+        this.key = key;
+    }
+
+    //-------------------------------------------------------------------------
+    // public methods
+    //-------------------------------------------------------------------------
+
+    @NonNull
+    public String getKey() { return key; }
+
+    @NonNull
+    @Override
+    public String toString() { return "FLDictKey{" + key + "}"; }
+
+    @Override
+    public void close() { closePeer(null); }
+
+    //-------------------------------------------------------------------------
+    // protected methods
+    //-------------------------------------------------------------------------
+
+    @SuppressWarnings("NoFinalizer")
+    @Override
+    protected void finalize() throws Throwable {
+        try { closePeer(LogDomain.DATABASE); }
+        finally { super.finalize(); }
+    }
+
+    //-------------------------------------------------------------------------
+    // package methods
+    //-------------------------------------------------------------------------
+
+    // Returns the handle of the value for this key in the dict, or 0.
+    long lookup(long dict) { return withPeerOrDefault(0L, peer -> impl.nGetWithKey(dict, peer)); }
+
+    //-------------------------------------------------------------------------
+    // Private methods
+    //-------------------------------------------------------------------------
+
+    private void closePeer(@Nullable LogDomain domain) { releasePeer(domain, impl::nFreeKey); }
+}
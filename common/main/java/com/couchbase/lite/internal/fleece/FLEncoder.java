@@ -21,6 +21,7 @@ import androidx.annotation.Nullable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.couchbase.lite.CouchbaseLiteError;
 import com.couchbase.lite.LiteCoreException;
@@ -50,7 +51,10 @@ public abstract class FLEncoder extends C4NativePeer {
         boolean nWriteString(long peer, @NonNull String value);
         boolean nWriteStringChars(long peer, @NonNull char[] value);
         boolean nWriteData(long peer, @NonNull byte[] value);
+        boolean nConvertJSON(long peer, @NonNull byte[] json);
         boolean nWriteValue(long peer, long value /*FLValue*/);
+        boolean nWriteArrayRange(long peer, long array /*FLArray*/, long start, long count);
+        boolean nWriteDictExcept(long peer, long dict /*FLDict*/, @NonNull String[] skipKeys);
         boolean nBeginArray(long peer, long reserve);
         boolean nEndArray(long peer);
         boolean nBeginDict(long peer, long reserve);
@@ -82,11 +86,34 @@ public abstract class FLEncoder extends C4NativePeer {
     }
 
     // managed: Java code is responsible for freeing it
+    // If the encoder belongs to a pool, closing it resets it and returns it to the pool, instead.
     static class ManagedFLEncoder extends FLEncoder {
-        ManagedFLEncoder(@NonNull NativeImpl impl, long peer) { super(impl, peer); }
+        @Nullable
+        private final FLEncoderPool pool;
+        private final AtomicBoolean checkedOut = new AtomicBoolean(true);
+
+        ManagedFLEncoder(@NonNull NativeImpl impl, long peer) { this(impl, peer, null); }
+
+        ManagedFLEncoder(@NonNull NativeImpl impl, long peer, @Nullable FLEncoderPool pool) {
+            super(impl, peer);
+            this.pool = pool;
+        }
 
         @Override
-        public void close() { closePeer(null); }
+        public void close() {
+            if (pool == null) {
+                closePeer(null);
+                return;
+            }
+
+            // closing a pooled encoder twice must not put it in the pool twice
+            if (!checkedOut.compareAndSet(true, false)) { return; }
+
+            synchronized (arguments) { arguments.clear(); }
+            withPeer(impl::nReset);
+
+            if (!pool.release(this)) { closePeer(null); }
+        }
 
         @SuppressWarnings("NoFinalizer")
         @Override
@@ -103,15 +130,23 @@ public abstract class FLEncoder extends C4NativePeer {
                     if (nativeImpl != null) { nativeImpl.nFree(peer); }
                 });
         }
+
+        void checkOut() { checkedOut.set(true); }
     }
 
     // special managed flencoder for JSON
     public static final class JSONEncoder extends ManagedFLEncoder {
-        private JSONEncoder(@NonNull NativeImpl impl, long peer) { super(impl, peer); }
+        private JSONEncoder(@NonNull NativeImpl impl, long peer, @Nullable FLEncoderPool pool) {
+            super(impl, peer, pool);
+        }
 
         @NonNull
         public String finishJSON() throws LiteCoreException { return withPeerOrThrow(impl::nFinishJSON); }
 
+        // The UTF-8 JSON, in native memory.  The caller must close the returned slice.
+        @NonNull
+        public FLSliceResult finishJSONSlice() throws LiteCoreException { return withPeerOrThrow(impl::nFinish2); }
+
         @Override
         @NonNull
         public byte[] finish() {
@@ -125,9 +160,22 @@ public abstract class FLEncoder extends C4NativePeer {
         }
     }
 
+    // Encoders are pooled per format.  These are the number of idle encoders each pool holds.
+    private static final int FLEECE_POOL_SIZE = 8;
+    private static final int JSON_POOL_SIZE = 4;
+
     @NonNull
     private static final NativeImpl NATIVE_IMPL = new NativeFLEncoder();
 
+    @NonNull
+    private static final FLEncoderPool FLEECE_POOL = createEncoderPool("Fleece", FLEECE_POOL_SIZE);
+
+    @NonNull
+    private static final FLEncoderPool JSON_POOL = new FLEncoderPool(
+        "JSON",
+        JSON_POOL_SIZE,
+        pool -> new JSONEncoder(NATIVE_IMPL, NATIVE_IMPL.nCreateJSONEncoder(), pool));
+
     @NonNull
     public static FLEncoder getSharedEncoder(long peer) { return new SharedFLEncoder(NATIVE_IMPL, peer); }
 
@@ -138,14 +186,38 @@ public abstract class FLEncoder extends C4NativePeer {
 
     @NonNull
     public static JSONEncoder getJSONEncoder() {
-        return new JSONEncoder(NATIVE_IMPL, NATIVE_IMPL.nCreateJSONEncoder());
+        return new JSONEncoder(NATIVE_IMPL, NATIVE_IMPL.nCreateJSONEncoder(), null);
+    }
+
+    // Get an encoder from the pool.  Closing it returns it to the pool:
+    // it must not be used after it is closed.
+    @NonNull
+    public static FLEncoder getPooledEncoder() { return FLEECE_POOL.acquire(); }
+
+    // Get a JSON encoder from the pool.  Closing it returns it to the pool:
+    // it must not be used after it is closed.
+    @NonNull
+    public static JSONEncoder getPooledJSONEncoder() { return (JSONEncoder) JSON_POOL.acquire(); }
+
+    @NonNull
+    public static FLEncoderPool getEncoderPool() { return FLEECE_POOL; }
+
+    @NonNull
+    public static FLEncoderPool getJSONEncoderPool() { return JSON_POOL; }
+
+    @NonNull
+    static FLEncoderPool createEncoderPool(@NonNull String name, int size) {
+        return new FLEncoderPool(
+            name,
+            size,
+            pool -> new ManagedFLEncoder(NATIVE_IMPL, NATIVE_IMPL.nCreateFleeceEncoder(), pool));
     }
 
     @Nullable
     public static byte[] encodeMap(@Nullable Map<String, Object> options) {
         if ((options == null) || options.isEmpty()) { return null; }
 
-        try (FLEncoder enc = FLEncoder.getManagedEncoder()) {
+        try (FLEncoder enc = getPooledEncoder()) {
             enc.write(options);
             return enc.finish();
         }
@@ -221,6 +293,11 @@ public abstract class FLEncoder extends C4NativePeer {
         return this.<Boolean, CouchbaseLiteError>withPeerOrThrow(p -> impl.nWriteData(p, value));
     }
 
+    // Parses the UTF-8 JSON and writes it as a single value, without creating any Java objects.
+    public boolean convertJSON(@NonNull byte[] json) {
+        return this.<Boolean, CouchbaseLiteError>withPeerOrThrow(p -> impl.nConvertJSON(p, json));
+    }
+
     public boolean beginDict(long reserve) {
         return this.<Boolean, CouchbaseLiteError>withPeerOrThrow(p -> impl.nBeginDict(p, reserve));
     }
@@ -332,6 +409,21 @@ public abstract class FLEncoder extends C4NativePeer {
 
     public boolean write(long hdl) { return withPeerOrThrow(peer -> impl.nWriteValue(peer, hdl)); }
 
+    // Write the elements [start, start + count) of the array, without creating an FLValue for each.
+    public boolean writeArrayRange(@NonNull FLArray array, long start, long count) {
+        if (count <= 0) { return true; }
+        final Boolean ok = withPeerOrThrow(
+            peer -> array.withContent(hdl -> impl.nWriteArrayRange(peer, hdl, start, count)));
+        return (ok != null) && ok;
+    }
+
+    // Write the entries of the dict, except those with the passed keys, without converting them to Java.
+    public boolean writeDictExcept(@NonNull FLDict dict, @NonNull String[] skipKeys) {
+        final Boolean ok = withPeerOrThrow(
+            peer -> dict.withContent(hdl -> impl.nWriteDictExcept(peer, hdl, skipKeys)));
+        return (ok != null) && ok;
+    }
+
     public void reset() { impl.nReset(getPeer()); }
 
     @NonNull
@@ -0,0 +1,138 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.fleece;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.couchbase.lite.internal.utils.Fn;
+import com.couchbase.lite.internal.utils.Preconditions;
+
+
+/**
+ * A bounded pool of idle managed encoders.
+ * <p>
+ * Creating a native encoder allocates its buffers: encoders that are used briefly and often
+ * should come from a pool.  Closing a pooled encoder resets it and returns it to its pool.
+ * If the pool is full, the encoder is freed.
+ * <p>
+ * The pool is a fixed array of slots.  A thread looks first in the slot picked by its id
+ * so that, usually, a thread gets back the encoder (and the warm buffers) that it used last.
+ * Slots are claimed with atomic operations: there are no locks.
+ */
+public final class FLEncoderPool {
+    @NonNull
+    private final String name;
+    @NonNull
+    private final Fn.NonNullFunction<FLEncoderPool, FLEncoder.ManagedFLEncoder> factory;
+    @NonNull
+    private final AtomicReferenceArray<FLEncoder.ManagedFLEncoder> idle;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong discards = new AtomicLong();
+
+    FLEncoderPool(
+        @NonNull String name,
+        int size,
+        @NonNull Fn.NonNullFunction<FLEncoderPool, FLEncoder.ManagedFLEncoder> factory) {
+        this.name = name;
+        this.factory = factory;
+        this.idle = new AtomicReferenceArray<>(Preconditions.assertPositive(size, "size"));
+    }
+
+    //-------------------------------------------------------------------------
+    // Public methods
+    //-------------------------------------------------------------------------
+
+    @NonNull
+    public String getName() { return name; }
+
+    public int getSize() { return idle.length(); }
+
+    // Number of requests served with an idle encoder
+    public long getHits() { return hits.get(); }
+
+    // Number of requests that required a new encoder
+    public long getMisses() { return misses.get(); }
+
+    // Number of encoders freed because the pool was full, when they were closed
+    public long getDiscards() { return discards.get(); }
+
+    public double getHitRate() {
+        final long h = hits.get();
+        final long total = h + misses.get();
+        return (total <= 0) ? 0.0 : ((double) h) / total;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ENGLISH,
+            "FLEncoderPool{%s: %d slots, %d hits, %d misses, %d discards}",
+            name,
+            idle.length(),
+            hits.get(),
+            misses.get(),
+            discards.get());
+    }
+
+    //-------------------------------------------------------------------------
+    // Package methods
+    //-------------------------------------------------------------------------
+
+    @NonNull
+    FLEncoder.ManagedFLEncoder acquire() {
+        final int n = idle.length();
+        final int home = homeSlot(n);
+        for (int i = 0; i < n; i++) {
+            final int slot = (home + i) % n;
+            if (idle.get(slot) == null) { continue; }
+            final FLEncoder.ManagedFLEncoder encoder = idle.getAndSet(slot, null);
+            if (encoder != null) {
+                hits.incrementAndGet();
+                encoder.checkOut();
+                return encoder;
+            }
+        }
+
+        misses.incrementAndGet();
+        return factory.apply(this);
+    }
+
+    // Called with an encoder that has been reset.
+    // Returns false if the pool has no room for the encoder: the caller must free it.
+    boolean release(@NonNull FLEncoder.ManagedFLEncoder encoder) {
+        final int n = idle.length();
+        final int home = homeSlot(n);
+        for (int i = 0; i < n; i++) {
+            if (idle.compareAndSet((home + i) % n, null, encoder)) { return true; }
+        }
+
+        discards.incrementAndGet();
+        return false;
+    }
+
+    //-------------------------------------------------------------------------
+    // Private methods
+    //-------------------------------------------------------------------------
+
+    private int homeSlot(int n) { return (int) ((Thread.currentThread().getId() & Long.MAX_VALUE) % n); }
+}
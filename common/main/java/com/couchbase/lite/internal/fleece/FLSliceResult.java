@@ -20,6 +20,11 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
 import com.couchbase.lite.CouchbaseLiteError;
 import com.couchbase.lite.internal.fleece.impl.NativeFLSliceResult;
 import com.couchbase.lite.internal.utils.ClassUtils;
@@ -33,9 +38,13 @@ import com.couchbase.lite.internal.utils.Preconditions;
  * (or its alias, C4SliceResult).
  */
 public final class FLSliceResult implements AutoCloseable {
+    private static final int WRITE_CHUNK_SIZE = 8 * 1024;
+
     public interface NativeImpl {
         @Nullable
         byte[] nGetBuf(long base, long size);
+        @Nullable
+        ByteBuffer nGetByteBuffer(long base, long size);
         void nRelease(long base, long size);
     }
 
@@ -94,6 +103,32 @@ public final class FLSliceResult implements AutoCloseable {
         synchronized (this) { return getValidImpl().nGetBuf(base, size); }
     }
 
+    // This returns a read-only view of the data, without copying it.
+    // The view is valid only until this slice is closed: using it after that may crash the VM.
+    @NonNull
+    public ByteBuffer asByteBuffer() {
+        final ByteBuffer buf;
+        synchronized (this) { buf = getValidImpl().nGetByteBuffer(base, size); }
+        return (buf == null) ? ByteBuffer.allocateDirect(0) : buf.asReadOnlyBuffer();
+    }
+
+    // Copies the data to the stream a chunk at a time: the Java heap never holds all of it.
+    public void writeTo(@NonNull OutputStream out) throws IOException {
+        final ByteBuffer buf = asByteBuffer();
+        final byte[] chunk = new byte[Math.min(buf.remaining(), WRITE_CHUNK_SIZE)];
+        while (buf.hasRemaining()) {
+            final int n = Math.min(buf.remaining(), chunk.length);
+            buf.get(chunk, 0, n);
+            out.write(chunk, 0, n);
+        }
+    }
+
+    // Writes the data directly from native memory to a (blocking) channel.
+    public void writeTo(@NonNull WritableByteChannel out) throws IOException {
+        final ByteBuffer buf = asByteBuffer();
+        while (buf.hasRemaining()) { out.write(buf); }
+    }
+
     @NonNull
     @Override
     public String toString() {
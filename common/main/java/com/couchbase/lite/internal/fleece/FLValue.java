@@ -19,6 +19,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -68,6 +69,10 @@ public class FLValue {
         String nToJSON5(long handle);
         @NonNull
         byte[] nAsByteArray(long value);
+        @Nullable
+        ByteBuffer nAsByteBuffer(long value);
+        @Nullable
+        Object nToJava(long value, boolean failOnBlob);
         boolean nAsBool(long value);
         long nAsUnsigned(long value);
         long nAsInt(long value);
@@ -75,6 +80,7 @@ public class FLValue {
         double nAsDouble(long value);
         @Nullable
         String nAsString(long value);
+        int nAsChars(long value, @NonNull char[] buf);
         long nAsArray(long value);
         long nAsDict(long value);
         @Nullable
@@ -227,6 +233,19 @@ public class FLValue {
     @NonNull
     public byte[] asByteArray() { return impl.nAsByteArray(peer); }
 
+    /**
+     * Returns a read-only view of the contents of a data value, or null for all other types.
+     * The contents are not copied: the view is valid only as long as the memory that contains
+     * this value (the document or slice from which it came) is valid.
+     *
+     * @return a direct ByteBuffer
+     */
+    @Nullable
+    public ByteBuffer asByteBuffer() {
+        final ByteBuffer buf = impl.nAsByteBuffer(peer);
+        return (buf == null) ? null : buf.asReadOnlyBuffer();
+    }
+
     /**
      * Returns a value coerced to boolean.
      *
@@ -272,6 +291,15 @@ public class FLValue {
     @Nullable
     public String asString() { return impl.nAsString(peer); }
 
+    /**
+     * Copies the UTF-16 contents of a string value into the passed buffer, without creating a String.
+     * If the buffer is too small, nothing is copied and the return value is the negative of the required size.
+     *
+     * @param buf the buffer into which to copy the chars.
+     * @return the number of chars copied, 0 if the value is not a string, or -(the required size).
+     */
+    public int asChars(@NonNull char[] buf) { return impl.nAsChars(peer, buf); }
+
     @NonNull
     public <T> List<T> asList(@NonNull Class<T> klass) { return asFLArray().asList(klass); }
 
@@ -295,31 +323,22 @@ public class FLValue {
 
     /**
      * Return a Java object of the appropriate type.
+     * Arrays and dictionaries are converted, in their entirety, in a single native call:
+     * Boolean, Long, Float, Double, String, byte[], ArrayList, HashMap or null.
      *
      * @return Object
      */
     @Nullable
-    public Object toJava() {
-        switch (impl.nGetType(peer)) {
-            case BOOLEAN:
-                return Boolean.valueOf(asBool());
-            case NUMBER:
-                if (isInteger()) { return (isUnsigned()) ? Long.valueOf(asUnsigned()) : Long.valueOf(asInt()); }
-                if (isDouble()) { return Double.valueOf(asDouble()); }
-                return Float.valueOf(asFloat());
-            case STRING:
-                return asString();
-            case DATA:
-                return asByteArray();
-            case ARRAY:
-                return asList(Object.class);
-            case DICT:
-                return asMap(String.class, Object.class);
-            case NULL:
-            default:
-                return null;
-        }
-    }
+    public Object toJava() { return impl.nToJava(peer, false); }
+
+    /**
+     * Like toJava, except that it returns null if this value is, or contains,
+     * anything that a Document represents as a Blob: data or a blob dictionary.
+     *
+     * @return Object
+     */
+    @Nullable
+    public Object toJavaUnlessBlobs() { return impl.nToJava(peer, true); }
 
     @Nullable
     <T> T withContent(@NonNull Fn.NonNullFunction<Long, T> fn) { return fn.apply(peer); }
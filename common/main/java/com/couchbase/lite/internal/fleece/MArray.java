@@ -23,17 +23,38 @@ import java.util.List;
 
 import com.couchbase.lite.CouchbaseLiteError;
 import com.couchbase.lite.internal.utils.MathUtils;
+import com.couchbase.lite.internal.utils.Preconditions;
 
 
 /**
  * Please see the comments in MValue
+ * <p>
+ * Until it is edited in the middle, an MArray is sparse: the first baseCount elements are those
+ * of the baseArray and MValues are created (and cached, in fixed size chunks) only for the elements
+ * that are actually referenced.  Elements appended to the array are kept in the values list.
+ * Inserting or removing elements in the base range converts the array to dense form,
+ * in which all elements are in the values list and baseCount is 0.
  */
 public final class MArray extends MCollection {
-    @NonNull
-    private final List<MValue> values = new ArrayList<>();
+    private static final int CHUNK_SHIFT = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
     @Nullable
     private final FLArray baseArray;
 
+    // The number of leading elements that are elements of the baseArray
+    private int baseCount;
+
+    // Cache of MValues for elements [0, baseCount): allocated as needed.
+    // A non-null entry may be an element that has been replaced by set().
+    @Nullable
+    private MValue[][] chunks;
+
+    // Elements [baseCount, count)
+    @NonNull
+    private final List<MValue> values = new ArrayList<>();
+
     //---------------------------------------------
     // Constructors
     //---------------------------------------------
@@ -48,10 +69,24 @@ public final class MArray extends MCollection {
     public MArray(@NonNull MArray array, boolean isMutable) {
         super(array, isMutable);
 
-        values.addAll(array.values);
         baseArray = array.baseArray;
-
-        resize();
+        baseCount = array.baseCount;
+        for (MValue val: array.values) { values.add((val == null) ? null : val.copy()); }
+
+        final MValue[][] srcChunks = array.chunks;
+        if (srcChunks != null) {
+            final MValue[][] dstChunks = new MValue[srcChunks.length][];
+            for (int i = 0; i < srcChunks.length; i++) {
+                final MValue[] srcChunk = srcChunks[i];
+                if (srcChunk == null) { continue; }
+                final MValue[] dstChunk = new MValue[srcChunk.length];
+                for (int j = 0; j < srcChunk.length; j++) {
+                    if (srcChunk[j] != null) { dstChunk[j] = srcChunk[j].copy(); }
+                }
+                dstChunks[i] = dstChunk;
+            }
+            chunks = dstChunks;
+        }
     }
 
     // Slot(??) constructor
@@ -66,7 +101,8 @@ public final class MArray extends MCollection {
 
         baseArray = value.asFLArray();
 
-        resize();
+        assertOpen();
+        baseCount = Math.max(MathUtils.asUnsignedInt(baseArray.count()), 0);
     }
 
     //---------------------------------------------
@@ -79,7 +115,7 @@ public final class MArray extends MCollection {
      * @return array size
      */
     @Override
-    public int count() { return values.size(); }
+    public int count() { return baseCount + values.size(); }
 
     /**
      * Returns a reference to the MValue of the item at the given index.
@@ -89,13 +125,17 @@ public final class MArray extends MCollection {
     public MValue get(long index) {
         assertOpen();
 
-        final int idx = checkBounds(values.size(), index);
+        final int idx = checkBounds(count(), index);
         if (idx < 0) { return MValue.EMPTY; }
 
-        MValue value = values.get(idx);
-        if (value.isEmpty() && (baseArray != null)) {
-            value = new MValue(baseArray.get(index));
-            values.set(idx, value);
+        if (idx >= baseCount) { return values.get(idx - baseCount); }
+
+        final MValue[] chunk = getChunk(idx);
+        final int off = idx & CHUNK_MASK;
+        MValue value = chunk[off];
+        if (value == null) {
+            value = new MValue(Preconditions.assertNotNull(baseArray, "base array").get(idx));
+            chunk[off] = value;
         }
 
         return value;
@@ -114,7 +154,8 @@ public final class MArray extends MCollection {
         if (idx < 0) { return false; }
 
         mutate();
-        values.set(idx, new MValue(value));
+        if (idx >= baseCount) { values.set(idx - baseCount, new MValue(value)); }
+        else { getChunk(idx)[idx & CHUNK_MASK] = new MValue(value); }
 
         return true;
     }
@@ -123,15 +164,13 @@ public final class MArray extends MCollection {
         if (!isMutable()) { throw new CouchbaseLiteError("Cannot insert items in a non-mutable MArray"); }
         assertOpen();
 
-        final int count = count();
-
-        final int idx = checkBounds(count + 1, index);
+        final int idx = checkBounds(count() + 1, index);
         if (idx < 0) { return false; }
 
-        if (idx < count) { populateValues(); }
+        if (idx < baseCount) { populateValues(); }
 
         mutate();
-        values.add(idx, new MValue(value));
+        values.add(idx - baseCount, new MValue(value));
 
         return true;
     }
@@ -144,12 +183,20 @@ public final class MArray extends MCollection {
         if (end <= start) { return end == start; }
 
         final int count = count();
-
         if (end > count) { return false; }
-        if (end < count) { populateValues(); }
 
         mutate();
-        values.subList(start, end).clear();
+
+        // removing from the end of the array: just truncate it
+        if ((start < baseCount) && (end == count)) {
+            values.clear();
+            baseCount = start;
+            return true;
+        }
+
+        if (start < baseCount) { populateValues(); }
+
+        values.subList(start - baseCount, end - baseCount).clear();
 
         return true;
     }
@@ -158,9 +205,11 @@ public final class MArray extends MCollection {
         if (!isMutable()) { throw new CouchbaseLiteError("Cannot clear items in a non-mutable MArray"); }
         assertOpen();
 
-        if (values.isEmpty()) { return; }
+        if (count() <= 0) { return; }
 
         mutate();
+        baseCount = 0;
+        chunks = null;
         values.clear();
     }
 
@@ -179,39 +228,63 @@ public final class MArray extends MCollection {
             return;
         }
 
-        long i = 0;
-        enc.beginArray(values.size());
-        for (MValue value: values) {
-            if (!value.isEmpty()) { value.encodeTo(enc); }
-            else if (baseArray != null) { enc.writeValue(baseArray.get(i)); }
-            i++;
-        }
-        enc.endArray();
-    }
+        enc.beginArray(count());
 
-    private void resize() {
-        assertOpen();
-        if (baseArray == null) { return; }
-        final int newSize = MathUtils.asUnsignedInt(baseArray.count());
-        if (newSize < 0) { return; }
-        final int count = values.size();
-        if (newSize < count) { values.subList(newSize, count).clear(); }
-        else if (newSize > count) {
-            for (int i = 0; i < newSize - count; i++) { values.add(MValue.EMPTY); }
+        // Write runs of untouched base elements straight from the base array
+        if ((baseArray != null) && (baseCount > 0)) {
+            final MValue[][] cache = chunks;
+            int runStart = 0;
+            for (int i = 0; i < baseCount; i++) {
+                final MValue[] chunk = (cache == null) ? null : cache[i >> CHUNK_SHIFT];
+                final MValue value = (chunk == null) ? null : chunk[i & CHUNK_MASK];
+                if ((value == null) || !value.isMutated()) { continue; }
+
+                enc.writeArrayRange(baseArray, runStart, i - runStart);
+                value.encodeTo(enc);
+                runStart = i + 1;
+            }
+            enc.writeArrayRange(baseArray, runStart, baseCount - runStart);
         }
+
+        for (MValue value: values) { value.encodeTo(enc); }
+
+        enc.endArray();
     }
 
     //---------------------------------------------
     // Private
     //---------------------------------------------
 
-    private void populateValues() {
-        if (baseArray == null) { return; }
+    @NonNull
+    private MValue[] getChunk(int idx) {
+        MValue[][] cache = chunks;
+        if (cache == null) {
+            cache = new MValue[((baseCount - 1) >> CHUNK_SHIFT) + 1][];
+            chunks = cache;
+        }
 
-        final int size = values.size();
-        for (int i = 0; i < size; i++) {
-            if (values.get(i).isEmpty()) { values.set(i, new MValue(baseArray.get(i))); }
+        final int n = idx >> CHUNK_SHIFT;
+        MValue[] chunk = cache[n];
+        if (chunk == null) {
+            chunk = new MValue[CHUNK_SIZE];
+            cache[n] = chunk;
         }
+
+        return chunk;
+    }
+
+    // Convert the array to dense form: all elements in the values list.
+    private void populateValues() {
+        if (baseCount <= 0) { return; }
+
+        final List<MValue> dense = new ArrayList<>(count());
+        for (int i = 0; i < baseCount; i++) { dense.add(get(i)); }
+        dense.addAll(values);
+
+        baseCount = 0;
+        chunks = null;
+        values.clear();
+        values.addAll(dense);
     }
 
     private int checkBounds(long upperBound, long index) {
@@ -17,11 +17,10 @@ package com.couchbase.lite.internal.fleece;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import com.couchbase.lite.CouchbaseLiteError;
 import com.couchbase.lite.internal.utils.MathUtils;
@@ -31,8 +30,10 @@ import com.couchbase.lite.internal.utils.MathUtils;
  * Please see the comments in MValue
  */
 public final class MDict extends MCollection {
+    // Collections read from baseDict, and values set in this dict: see MValueMap.
+    // Other values read from an unchanged key are served straight from baseDict and are never cached.
     @NonNull
-    private final Map<String, MValue> values = new HashMap<>();
+    private final MValueMap values;
     @Nullable
     private final FLDict baseDict;
 
@@ -45,13 +46,14 @@ public final class MDict extends MCollection {
     // Construct a new empty MDict
     public MDict() {
         super(MContext.NULL, true);
+        values = new MValueMap();
         baseDict = null;
     }
 
     // Copy constructor
     public MDict(@NonNull MDict dict, boolean isMutable) {
         super(dict, isMutable);
-        values.putAll(dict.values);
+        values = new MValueMap(dict.values);
         baseDict = dict.baseDict;
         valCount = dict.valCount;
     }
@@ -59,6 +61,7 @@ public final class MDict extends MCollection {
     // Slot(??) constructor
     public MDict(@NonNull MValue val, @Nullable MCollection parent) {
         super(val, parent, parent != null && parent.hasMutableChildren());
+        values = new MValueMap();
 
         final FLValue value = val.getFLValue();
         if (value == null) {
@@ -102,9 +105,13 @@ public final class MDict extends MCollection {
     public List<String> getKeys() {
         assertOpen();
 
-        final List<String> keys = new ArrayList<>();
-        for (Map.Entry<String, MValue> entry: values.entrySet()) {
-            if (!entry.getValue().isEmpty()) { keys.add(entry.getKey()); }
+        final List<String> keys = new ArrayList<>(count());
+        final int n = values.capacity();
+        for (int i = 0; i < n; i++) {
+            final String key = values.keyAt(i);
+            if (key == null) { continue; }
+            final MValue value = values.valueAt(i);
+            if ((value != null) && !value.isEmpty()) { keys.add(key); }
         }
 
         if ((baseDict != null) && (baseDict.count() > 0)) {
@@ -120,6 +127,13 @@ public final class MDict extends MCollection {
         return keys;
     }
 
+    /**
+     * Get the MValue for the passed key.
+     * A collection read from the baseDict is cached, so that it keeps its identity and so that
+     * its mutations are visible to this dict.  Any other value read from the baseDict is not.
+     *
+     * @return the MValue for the key: MValue.EMPTY if there is none
+     */
     @NonNull
     public MValue get(@NonNull String key) {
         assertOpen();
@@ -131,11 +145,45 @@ public final class MDict extends MCollection {
         if (flValue == null) { return MValue.EMPTY; }
 
         mValue = new MValue(flValue);
-        values.put(key, mValue);
+        if (MValue.isCollection(flValue)) { values.put(key, mValue); }
 
         return mValue;
     }
 
+    /**
+     * Get the Java value for the passed key.
+     * Reading a value that is not a collection, from a key that has not been set, allocates no MValue.
+     *
+     * @return the value for the key: null if there is none
+     */
+    @Nullable
+    public Object getJFleece(@NonNull String key) {
+        assertOpen();
+
+        final MValue mValue = values.get(key);
+        if (mValue != null) { return mValue.toJFleece(this); }
+
+        final FLValue flValue = (baseDict == null) ? null : baseDict.get(key);
+        if (flValue == null) { return null; }
+
+        return (!MValue.isCollection(flValue)) ? MValue.toJava(flValue) : get(key).toJFleece(this);
+    }
+
+    /**
+     * Get the Fleece value for the passed key, if the key has not been changed in this dict.
+     *
+     * @return the unchanged Fleece value: null if there is none or if the key has been set or removed.
+     */
+    @Nullable
+    public FLValue getFLValue(@NonNull String key) {
+        assertOpen();
+
+        final MValue mValue = values.get(key);
+        if (mValue != null) { return mValue.getFLValue(); }
+
+        return (baseDict == null) ? null : baseDict.get(key);
+    }
+
     @SuppressWarnings("PMD.CognitiveComplexity")
     public void set(String key, @NonNull MValue value) {
         if (!isMutable()) { throw new CouchbaseLiteError("Cannot set items in a non-mutable MDict"); }
@@ -198,6 +246,9 @@ public final class MDict extends MCollection {
         valCount = 0;
     }
 
+    @VisibleForTesting
+    int getCachedCount() { return values.size(); }
+
     /* Encodable */
 
     @Override
@@ -215,26 +266,26 @@ public final class MDict extends MCollection {
             return;
         }
 
+        // Write only the changed entries from Java.  Unchanged entries,
+        // even those that have been read, are copied natively from the baseDict.
         enc.beginDict(valCount);
-        for (Map.Entry<String, MValue> entry: values.entrySet()) {
-            final MValue value = entry.getValue();
+        final List<String> changed = new ArrayList<>();
+        final int n = values.capacity();
+        for (int i = 0; i < n; i++) {
+            final String key = values.keyAt(i);
+            if (key == null) { continue; }
+            final MValue value = values.valueAt(i);
+            if ((value == null) || ((baseDict != null) && !value.isMutated())) { continue; }
+
+            changed.add(key);
             if (!value.isEmpty()) {
-                enc.writeKey(entry.getKey());
+                enc.writeKey(key);
                 value.encodeTo(enc);
             }
         }
 
         if ((baseDict != null) && (baseDict.count() > 0)) {
-            try (FLDictIterator itr = baseDict.iterator()) {
-                String key;
-                while ((key = itr.getKey()) != null) {
-                    if (!values.containsKey(key)) {
-                        enc.writeKey(key);
-                        enc.writeValue(itr.getValue());
-                    }
-                    itr.next();
-                }
-            }
+            enc.writeDictExcept(baseDict, changed.toArray(new String[0]));
         }
 
         enc.endDict();
@@ -57,6 +57,26 @@ import com.couchbase.lite.internal.utils.Preconditions;
  * There are more notes on my attempts to tame this code in &lt;root&gt;/docs/FixFleece.md
  */
 public class MValue extends BaseMValue implements FleeceEncodable {
+    // Keys used to recognize blobs, in every nested dictionary.
+    // A lookup with an FLDictKey updates its cache and is serialized on the key:
+    // each thread has its own keys so that readers never contend for them.
+    // In a holder class so that they are not created until the native library has been loaded.
+    private static final class BlobKeys {
+        private static final ThreadLocal<BlobKeys> KEYS = new ThreadLocal<BlobKeys>() {
+            @NonNull
+            @Override
+            protected BlobKeys initialValue() { return new BlobKeys(); }
+        };
+
+        @NonNull
+        static BlobKeys get() { return KEYS.get(); }
+
+        final FLDictKey type = FLDictKey.create(META_PROP_TYPE);
+        final FLDictKey digest = FLDictKey.create(PROP_DIGEST);
+        final FLDictKey length = FLDictKey.create(PROP_LENGTH);
+        final FLDictKey stub = FLDictKey.create(PROP_STUB);
+        final FLDictKey revpos = FLDictKey.create(PROP_REVPOS);
+    }
 
     //-------------------------------------------------------------------------
     // Static members
@@ -93,6 +113,12 @@ public class MValue extends BaseMValue implements FleeceEncodable {
     // Public methods
     //-------------------------------------------------------------------------
 
+    // A copy for a copied collection.  The copy must not share MValues with the original:
+    // the two may be guarded by different locks, and MValues cache their Java values lazily.
+    // Call this while holding the original collection's lock.
+    @NonNull
+    public MValue copy() { return (isEmpty()) ? this : new MValue(cachedValue, flValue); }
+
     @Nullable
     public FLValue getFLValue() { return flValue; }
 
@@ -125,13 +151,29 @@ public class MValue extends BaseMValue implements FleeceEncodable {
             case FLValue.ARRAY:
                 cachedValue = getArray(this, parent);
                 return cachedValue;
-            case FLValue.DATA:
-                return new Blob("application/octet-stream", flValue.asByteArray());
             default:
-                return flValue.toJava();
+                return toJava(flValue);
         }
     }
 
+    //-------------------------------------------------------------------------
+    // Package methods
+    //-------------------------------------------------------------------------
+
+    // Collections must be cached in an MValue: they keep their identity and propagate their mutations to it.
+    static boolean isCollection(@NonNull FLValue value) {
+        final int type = value.getType();
+        return (type == FLValue.DICT) || (type == FLValue.ARRAY);
+    }
+
+    // Convert a value that is not a collection.  The conversion is not cached.
+    @Nullable
+    static Object toJava(@NonNull FLValue value) {
+        return (value.getType() != FLValue.DATA)
+            ? value.toJava()
+            : new Blob("application/octet-stream", value.asByteArray());
+    }
+
     //-------------------------------------------------------------------------
     // Private methods
     //-------------------------------------------------------------------------
@@ -140,10 +182,11 @@ public class MValue extends BaseMValue implements FleeceEncodable {
     private Object toDictionary(@Nullable MCollection parent) {
         final FLDict flDict = Preconditions.assertNotNull(flValue, "MValue").asFLDict();
 
-        final FLValue flType = flDict.get(META_PROP_TYPE);
+        final BlobKeys keys = BlobKeys.get();
+        final FLValue flType = flDict.get(keys.type);
         final String type = (flType == null) ? null : flType.asString();
 
-        if (TYPE_BLOB.equals(type) || isOldAttachment(type, flDict)) {
+        if (TYPE_BLOB.equals(type) || isOldAttachment(type, flDict, keys)) {
             final MContext ctxt = Preconditions.assertNotNull(parent, "parent").getContext();
             if (!(ctxt instanceof DbContext)) { throw new CouchbaseLiteError("Context is not DbContext: " + ctxt); }
             return getBlob((DbContext) ctxt, flDict);
@@ -159,11 +202,11 @@ public class MValue extends BaseMValue implements FleeceEncodable {
     // The SG stores them as dictionaries at the top level of the document in a dictionary
     // at the key "_attachments".  We, apparently,support clients use of either method of
     // managing their blobs.  Feh.  There is an extended discussion in <root>/docs/FixFleece.md
-    private boolean isOldAttachment(@Nullable String type, @NonNull FLDict flDict) {
+    private boolean isOldAttachment(@Nullable String type, @NonNull FLDict flDict, @NonNull BlobKeys keys) {
         return (type == null)
-            && (flDict.get(PROP_DIGEST) != null)
-            && (flDict.get(PROP_LENGTH) != null)
-            && (flDict.get(PROP_STUB) != null)
-            && (flDict.get(PROP_REVPOS) != null);
+            && (flDict.get(keys.digest) != null)
+            && (flDict.get(keys.length) != null)
+            && (flDict.get(keys.stub) != null)
+            && (flDict.get(keys.revpos) != null);
     }
 }
@@ -0,0 +1,142 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.fleece;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+
+/**
+ * A compact map of String keys to MValues, used by MDict.
+ * <p>
+ * Keys and values are kept in parallel, open-addressed (linear probing) arrays
+ * that are not allocated until the first entry is added.  A dictionary from
+ * which nothing is read costs nothing and each entry costs two array slots:
+ * there is no per-entry node as there is in a HashMap.
+ * <p>
+ * Entries are never removed individually: MDict marks a removed key with MValue.EMPTY.
+ * Iterate over the entries by slot: slots whose key is null are empty.
+ * This class is not thread safe.
+ */
+final class MValueMap {
+    private static final int MIN_CAPACITY = 8;
+
+    @Nullable
+    private String[] keys;
+    @Nullable
+    private MValue[] values;
+    private int size;
+
+    MValueMap() { }
+
+    MValueMap(@NonNull MValueMap other) {
+        if ((other.keys == null) || (other.values == null)) { return; }
+        keys = other.keys.clone();
+        final MValue[] vs = other.values.clone();
+        for (int i = 0; i < vs.length; i++) {
+            if (vs[i] != null) { vs[i] = vs[i].copy(); }
+        }
+        values = vs;
+        size = other.size;
+    }
+
+    int size() { return size; }
+
+    boolean containsKey(@NonNull String key) { return get(key) != null; }
+
+    @Nullable
+    MValue get(@NonNull String key) {
+        final String[] ks = keys;
+        final MValue[] vs = values;
+        if ((ks == null) || (vs == null)) { return null; }
+
+        final int mask = ks.length - 1;
+        for (int i = slotFor(key, mask); ; i = (i + 1) & mask) {
+            final String k = ks[i];
+            if (k == null) { return null; }
+            if (k.equals(key)) { return vs[i]; }
+        }
+    }
+
+    void put(@NonNull String key, @NonNull MValue value) {
+        if (keys == null) { resize(MIN_CAPACITY); }
+        else if ((size + 1) * 4 > keys.length * 3) { resize(keys.length * 2); }
+
+        if (insert(keys, values, key, value)) { size++; }
+    }
+
+    void clear() {
+        keys = null;
+        values = null;
+        size = 0;
+    }
+
+    // the number of slots: valid slot indices are 0 <= i < capacity()
+    int capacity() { return (keys == null) ? 0 : keys.length; }
+
+    // the key in the slot, or null if the slot is empty
+    @Nullable
+    String keyAt(int slot) { return (keys == null) ? null : keys[slot]; }
+
+    // the value in the slot, or null if the slot is empty
+    @Nullable
+    MValue valueAt(int slot) { return (values == null) ? null : values[slot]; }
+
+    private void resize(int capacity) {
+        final String[] oldKeys = keys;
+        final MValue[] oldValues = values;
+
+        final String[] newKeys = new String[capacity];
+        final MValue[] newValues = new MValue[capacity];
+        if ((oldKeys != null) && (oldValues != null)) {
+            for (int i = 0; i < oldKeys.length; i++) {
+                final String k = oldKeys[i];
+                if (k != null) { insert(newKeys, newValues, k, oldValues[i]); }
+            }
+        }
+
+        keys = newKeys;
+        values = newValues;
+    }
+
+    // return true if the key was not already in the map
+    private static boolean insert(
+        @NonNull String[] ks,
+        @NonNull MValue[] vs,
+        @NonNull String key,
+        @NonNull MValue value) {
+        final int mask = ks.length - 1;
+        int i = slotFor(key, mask);
+        while (true) {
+            final String k = ks[i];
+            if (k == null) {
+                ks[i] = key;
+                vs[i] = value;
+                return true;
+            }
+            if (k.equals(key)) {
+                vs[i] = value;
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private static int slotFor(@NonNull String key, int mask) {
+        final int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
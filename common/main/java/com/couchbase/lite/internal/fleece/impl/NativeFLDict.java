@@ -13,6 +13,17 @@ public final class NativeFLDict implements FLDict.NativeImpl {
     @Override
     public long nGet(long dict, @NonNull byte[] keyString) { return get(dict, keyString); }
 
+    // Pre-encoded keys
+
+    @Override
+    public long nInitKey(@NonNull byte[] keyString) { return initKey(keyString); }
+
+    @Override
+    public long nGetWithKey(long dict, long key) { return getWithKey(dict, key); }
+
+    @Override
+    public void nFreeKey(long key) { freeKey(key); }
+
     // Iterator
 
     @Override
@@ -43,6 +54,14 @@ public final class NativeFLDict implements FLDict.NativeImpl {
 
     private static native long get(long dict, @NonNull byte[] keyString);
 
+    // Pre-encoded keys
+
+    private static native long initKey(@NonNull byte[] keyString);
+
+    private static native long getWithKey(long dict, long key);
+
+    private static native void freeKey(long key);
+
     // Iterator
 
     private static native long init(long dict);
@@ -54,9 +54,22 @@ public final class NativeFLEncoder implements FLEncoder.NativeImpl {
     @Override
     public boolean nWriteData(long peer, @NonNull byte[] value) { return writeData(peer, value); }
 
+    @Override
+    public boolean nConvertJSON(long peer, @NonNull byte[] json) { return convertJSON(peer, json); }
+
     @Override
     public boolean nWriteValue(long peer, long value) { return writeValue(peer, value); }
 
+    @Override
+    public boolean nWriteArrayRange(long peer, long array, long start, long count) {
+        return writeArrayRange(peer, array, start, count);
+    }
+
+    @Override
+    public boolean nWriteDictExcept(long peer, long dict, @NonNull String[] skipKeys) {
+        return writeDictExcept(peer, dict, skipKeys);
+    }
+
     @Override
     public boolean nBeginArray(long peer, long reserve) { return beginArray(peer, reserve); }
 
@@ -123,8 +136,14 @@ public final class NativeFLEncoder implements FLEncoder.NativeImpl {
 
     private static native boolean writeData(long peer, @NonNull byte[] value);
 
+    private static native boolean convertJSON(long peer, @NonNull byte[] json);
+
     private static native boolean writeValue(long peer, long value /*FLValue*/);
 
+    private static native boolean writeArrayRange(long peer, long array /*FLArray*/, long start, long count);
+
+    private static native boolean writeDictExcept(long peer, long dict /*FLDict*/, @NonNull String[] skipKeys);
+
     private static native boolean beginArray(long peer, long reserve);
 
     private static native boolean endArray(long peer);
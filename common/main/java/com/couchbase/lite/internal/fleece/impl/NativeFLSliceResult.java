@@ -17,6 +17,8 @@ package com.couchbase.lite.internal.fleece.impl;
 
 import androidx.annotation.Nullable;
 
+import java.nio.ByteBuffer;
+
 import com.couchbase.lite.internal.fleece.FLSliceResult;
 
 
@@ -26,6 +28,10 @@ public final class NativeFLSliceResult implements FLSliceResult.NativeImpl {
     @Nullable
     public byte[] nGetBuf(long base, long size) { return getBuf(base, size); }
 
+    @Override
+    @Nullable
+    public ByteBuffer nGetByteBuffer(long base, long size) { return getByteBuffer(base, size); }
+
     @Override
     public void nRelease(long base, long size) { release(base, size); }
 
@@ -36,5 +42,8 @@ public final class NativeFLSliceResult implements FLSliceResult.NativeImpl {
     @Nullable
     private static native byte[] getBuf(long base, long size);
 
+    @Nullable
+    private static native ByteBuffer getByteBuffer(long base, long size);
+
     private static native void release(long base, long size);
 }
@@ -18,6 +18,8 @@ package com.couchbase.lite.internal.fleece.impl;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.nio.ByteBuffer;
+
 import com.couchbase.lite.LiteCoreException;
 import com.couchbase.lite.internal.fleece.FLValue;
 
@@ -56,6 +58,14 @@ public final class NativeFLValue implements FLValue.NativeImpl {
     @NonNull
     public byte[] nAsByteArray(long value) { return asData(value); }
 
+    @Override
+    @Nullable
+    public ByteBuffer nAsByteBuffer(long value) { return asDataBuffer(value); }
+
+    @Override
+    @Nullable
+    public Object nToJava(long value, boolean failOnBlob) { return toJava(value, failOnBlob); }
+
     @Override
     public boolean nAsBool(long value) { return asBool(value); }
 
@@ -75,6 +85,9 @@ public final class NativeFLValue implements FLValue.NativeImpl {
     @NonNull
     public String nAsString(long value) { return asString(value); }
 
+    @Override
+    public int nAsChars(long value, @NonNull char[] buf) { return asChars(value, buf); }
+
     @Override
     public long nAsArray(long value) { return asArray(value); }
 
@@ -113,6 +126,12 @@ public final class NativeFLValue implements FLValue.NativeImpl {
     @NonNull
     private static native byte[] asData(long value);
 
+    @Nullable
+    private static native ByteBuffer asDataBuffer(long value);
+
+    @Nullable
+    private static native Object toJava(long value, boolean failOnBlob);
+
     private static native boolean asBool(long value);
 
     private static native long asUnsigned(long value);
@@ -126,6 +145,8 @@ public final class NativeFLValue implements FLValue.NativeImpl {
     @NonNull
     private static native String asString(long value);
 
+    private static native int asChars(long value, @NonNull char[] buf);
+
     private static native long asArray(long value);
 
     private static native long asDict(long value);
@@ -15,6 +15,7 @@
 //
 package com.couchbase.lite.internal.listener;
 
+import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -26,7 +27,31 @@ import com.couchbase.lite.internal.utils.Fn;
 import com.couchbase.lite.internal.utils.Preconditions;
 
 
+/**
+ * A token that delivers changes to a listener on its executor.
+ * <p>
+ * By default, each change is delivered by a separate task.  A token with a coalescer, though,
+ * never has more than one delivery queued or running: changes that arrive in the meantime
+ * are accumulated, in place, into a single pending change.  A slow listener gets fewer, larger changes,
+ * instead of an ever-growing backlog.
+ */
 public class ChangeListenerToken<T> extends ListenerToken {
+    // Changes that have not yet been delivered
+    public interface Accumulator<T1> {
+        // Add a newer change
+        void add(@NonNull T1 change);
+
+        // The single change to deliver: called once, at delivery
+        @NonNull
+        T1 getChange();
+    }
+
+    // Starts accumulating changes, with the first one to arrive while no delivery is pending
+    public interface Coalescer<T1> {
+        @NonNull
+        Accumulator<T1> start(@NonNull T1 change);
+    }
+
     public static final ChangeListenerToken<Void> DUMMY = new ChangeListenerToken<Void>(change -> {}, null, t -> {}) {
         @NonNull
         @Override
@@ -38,14 +63,32 @@ public class ChangeListenerToken<T> extends ListenerToken {
     @NonNull
     private final ChangeListener<T> listener;
     @Nullable
+    private final Coalescer<T> coalescer;
+    @Nullable
     private String key;
 
+    @GuardedBy("this")
+    @Nullable
+    private Accumulator<T> pendingChanges;
+    // true from the time a delivery is scheduled until there is nothing left to deliver
+    @GuardedBy("this")
+    private boolean delivering;
+
     public ChangeListenerToken(
         @NonNull ChangeListener<T> listener,
         @Nullable Executor executor,
         @NonNull Fn.Consumer<ListenerToken> onRemove) {
+        this(listener, executor, null, onRemove);
+    }
+
+    public ChangeListenerToken(
+        @NonNull ChangeListener<T> listener,
+        @Nullable Executor executor,
+        @Nullable Coalescer<T> coalescer,
+        @NonNull Fn.Consumer<ListenerToken> onRemove) {
         super(executor, onRemove);
         this.listener = Preconditions.assertNotNull(listener, "listener");
+        this.coalescer = coalescer;
     }
 
     @NonNull
@@ -57,5 +100,51 @@ public class ChangeListenerToken<T> extends ListenerToken {
 
     public void setKey(@Nullable String key) { this.key = key; }
 
-    public void postChange(@NonNull T change) { send(() -> listener.changed(change)); }
+    public boolean isCoalescing() { return coalescer != null; }
+
+    public void postChange(@NonNull T change) {
+        final Coalescer<T> merger = coalescer;
+        if (merger == null) {
+            send(() -> listener.changed(change));
+            return;
+        }
+
+        synchronized (this) {
+            if (pendingChanges == null) { pendingChanges = merger.start(change); }
+            else { pendingChanges.add(change); }
+            if (delivering) { return; }
+            delivering = true;
+        }
+
+        scheduleDelivery();
+    }
+
+    private void deliver() {
+        final Accumulator<T> changes;
+        synchronized (this) {
+            changes = pendingChanges;
+            pendingChanges = null;
+        }
+
+        try {
+            if (changes != null) { listener.changed(changes.getChange()); }
+        }
+        finally {
+            final boolean more;
+            synchronized (this) {
+                more = pendingChanges != null;
+                if (!more) { delivering = false; }
+            }
+            // Reschedule, rather than loop, so that other tasks on the executor get a turn.
+            if (more) { scheduleDelivery(); }
+        }
+    }
+
+    private void scheduleDelivery() {
+        try { send(this::deliver); }
+        catch (RuntimeException e) {
+            synchronized (this) { delivering = false; }
+            throw e;
+        }
+    }
 }
@@ -19,9 +19,9 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executor;
 
 import com.couchbase.lite.ChangeListener;
@@ -61,8 +61,11 @@ public abstract class ChangeNotifier<T> {
 
     @NonNull
     private final Object lock = new Object();
+    // Listeners are added and removed rarely but notified often: posting a change
+    // iterates over a snapshot of this set, without locking or copying it.
+    // The lock makes removing a listener and checking for the last one atomic.
     @NonNull
-    private final Set<ChangeListenerToken<T>> listeners = new HashSet<>();
+    private final Set<ChangeListenerToken<T>> listeners = new CopyOnWriteArraySet<>();
 
     @SuppressWarnings("CheckFunctionalParameters")
     @NonNull
@@ -70,17 +73,26 @@ public abstract class ChangeNotifier<T> {
         @Nullable Executor executor,
         @NonNull ChangeListener<T> listener,
         @NonNull Fn.Consumer<ListenerToken> onRemove) {
+        return addChangeListener(executor, listener, null, onRemove);
+    }
+
+    // A listener with a coalescer gets changes merged while an earlier delivery is pending
+    @SuppressWarnings("CheckFunctionalParameters")
+    @NonNull
+    public final ChangeListenerToken<T> addChangeListener(
+        @Nullable Executor executor,
+        @NonNull ChangeListener<T> listener,
+        @Nullable ChangeListenerToken.Coalescer<T> coalescer,
+        @NonNull Fn.Consumer<ListenerToken> onRemove) {
         synchronized (lock) {
-            final ChangeListenerToken<T> token = new ChangeListenerToken<>(listener, executor, onRemove);
+            final ChangeListenerToken<T> token = new ChangeListenerToken<>(listener, executor, coalescer, onRemove);
             listeners.add(token);
             return token;
         }
     }
 
     public final void postChange(@NonNull T change) {
-        final Set<ChangeListenerToken<T>> localListeners;
-        synchronized (lock) { localListeners = new HashSet<>(listeners); }
-        for (ChangeListenerToken<T> token: localListeners) { token.postChange(change); }
+        for (ChangeListenerToken<T> token: listeners) { token.postChange(change); }
     }
 
     public final boolean removeChangeListener(@NonNull ListenerToken token) {
@@ -603,7 +603,7 @@ public abstract class AbstractCBLWebSocket implements SocketFromCore, SocketFrom
 
     @Nullable
     private byte[] encodeHeaders(@Nullable Map<String, Object> headers) {
-        try (FLEncoder enc = FLEncoder.getManagedEncoder()) {
+        try (FLEncoder enc = FLEncoder.getPooledEncoder()) {
             enc.write(headers);
             return enc.finish();
         }
@@ -0,0 +1,207 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+/**
+ * Splits a stream of JSON into its top-level objects, without parsing them.
+ * <p>
+ * The stream may be newline delimited JSON, a sequence of (possibly pretty-printed) objects,
+ * or a single JSON array of objects.  Each call to next() returns the UTF-8 bytes of the next object:
+ * this class only tracks nesting, strings and escapes.  Checking that the object is valid JSON
+ * is the job of whoever parses it.
+ */
+public final class JSONObjectReader implements Closeable {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    // Encodes the characters from a Reader as UTF-8
+    private static final class UTF8InputStream extends InputStream {
+        @NonNull
+        private final Reader reader;
+        @NonNull
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        @NonNull
+        private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+        // big enough to hold the encoding of a full char buffer
+        @NonNull
+        private final ByteBuffer bytes = ByteBuffer.allocate(3 * BUFFER_SIZE);
+        private boolean eof;
+        private boolean done;
+
+        UTF8InputStream(@NonNull Reader reader) {
+            this.reader = reader;
+            chars.flip();
+            bytes.flip();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return (read(b, 0, 1) < 0) ? -1 : (b[0] & 0xff);
+        }
+
+        @Override
+        public int read(@NonNull byte[] buf, int off, int len) throws IOException {
+            if (!bytes.hasRemaining() && !fill()) { return -1; }
+            final int n = Math.min(len, bytes.remaining());
+            bytes.get(buf, off, n);
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException { reader.close(); }
+
+        // A surrogate pair split across two reads is left in the char buffer until the next read.
+        private boolean fill() throws IOException {
+            bytes.clear();
+            while ((bytes.position() <= 0) && !done) {
+                if (!eof) {
+                    chars.compact();
+                    eof = reader.read(chars) < 0;
+                    chars.flip();
+                }
+                final CoderResult result = encoder.encode(chars, bytes, eof);
+                if (result.isError()) { result.throwException(); }
+                if (eof) {
+                    encoder.flush(bytes);
+                    done = true;
+                }
+            }
+            bytes.flip();
+            return bytes.hasRemaining();
+        }
+    }
+
+
+    @NonNull
+    private final InputStream in;
+    @NonNull
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+
+    @NonNull
+    private byte[] obj = new byte[BUFFER_SIZE];
+    private int objLen;
+
+    public JSONObjectReader(@NonNull InputStream in) { this.in = Preconditions.assertNotNull(in, "input stream"); }
+
+    public JSONObjectReader(@NonNull Reader in) {
+        this(new UTF8InputStream(Preconditions.assertNotNull(in, "reader")));
+    }
+
+    /**
+     * Get the next top-level object from the stream.
+     *
+     * @return the UTF-8 JSON for the object, or null at the end of the stream.
+     * @throws IOException on a read failure or if the stream is not a sequence of objects.
+     */
+    @Nullable
+    public byte[] next() throws IOException {
+        objLen = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+
+        int c;
+        while ((c = read()) >= 0) {
+            if (depth <= 0) {
+                if (c == '{') {
+                    append(c);
+                    depth = 1;
+                    continue;
+                }
+                if (isTopLevelSeparator(c)) { continue; }
+                throw new IOException("Unexpected character in JSON stream: 0x" + Integer.toHexString(c));
+            }
+
+            append(c);
+
+            if (inString) {
+                if (escaped) { escaped = false; }
+                else if (c == '\\') { escaped = true; }
+                else if (c == '"') { inString = false; }
+                continue;
+            }
+
+            switch (c) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (--depth <= 0) { return Arrays.copyOf(obj, objLen); }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (depth > 0) { throw new IOException("JSON stream ends in the middle of an object"); }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException { in.close(); }
+
+    private int read() throws IOException {
+        if (pos >= limit) {
+            limit = in.read(buf, 0, buf.length);
+            pos = 0;
+            if (limit <= 0) { return -1; }
+        }
+        return buf[pos++] & 0xff;
+    }
+
+    private void append(int c) {
+        if (objLen >= obj.length) { obj = Arrays.copyOf(obj, obj.length * 2); }
+        obj[objLen++] = (byte) c;
+    }
+
+    // whitespace, and the punctuation of an enclosing array
+    private boolean isTopLevelSeparator(int c) {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case ',':
+            case '[':
+            case ']':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
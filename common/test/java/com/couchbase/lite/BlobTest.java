@@ -21,6 +21,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -338,6 +339,21 @@ public class BlobTest extends BaseDbTest {
         verifyBlob(new JSONObject(blob.toJSON()));
     }
 
+    @Test
+    public void testBlobWriteJSON() throws IOException {
+        Blob blob = makeBlob();
+        getTestDatabase().saveBlob(blob);
+        final byte[] expected = blob.toJSON().getBytes(StandardCharsets.UTF_8);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        blob.writeJSON(out);
+        Assert.assertArrayEquals(expected, out.toByteArray());
+
+        out.reset();
+        blob.writeJSON(Channels.newChannel(out));
+        Assert.assertArrayEquals(expected, out.toByteArray());
+    }
+
     // 3.1.b
     @Test
     public void testDbGetBlob() {
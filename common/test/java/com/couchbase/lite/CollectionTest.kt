@@ -52,6 +52,36 @@ class CollectionTest : BaseDbTest() {
         }
     }
 
+    // get several docs, some of which don't exist
+    @Test
+    fun testGetDocuments() {
+        val mDocs = createDocsInCollection(3)
+        val deleted = createDocInCollection()
+        testCollection.delete(deleted)
+
+        val ids = listOf(mDocs[0].id, "doesnt-exist", mDocs[1].id, deleted.id, mDocs[2].id)
+        val docs = testCollection.getDocuments(ids)
+
+        Assert.assertEquals(ids.size, docs.size)
+        assertSameContent(mDocs[0], docs[0])
+        Assert.assertNull(docs[1])
+        assertSameContent(mDocs[1], docs[2])
+        Assert.assertNull(docs[3])
+        assertSameContent(mDocs[2], docs[4])
+    }
+
+    // getting docs from collection in a closed db causes CBL Exception
+    @Test
+    fun testGetDocumentsFromCollectionInClosedDB() {
+        val doc = createDocInCollection()
+
+        closeDb(testDatabase)
+
+        assertThrowsCBLException(CBLError.Domain.CBLITE, CBLError.Code.NOT_OPEN) {
+            testCollection.getDocuments(listOf(doc.id))
+        }
+    }
+
     // getting doc from deleted collection causes CBL exception
     @Test
     fun testGetDocFromDeletedCollection() {
@@ -1024,6 +1054,174 @@ class CollectionTest : BaseDbTest() {
         Assert.assertEquals(2, doc1a.sequence)
     }
 
+    //---------------------------------------------
+    //  Batch Save
+    //---------------------------------------------
+
+    @Test
+    fun testSaveAll() {
+        val mDocs = (1..10).map { createTestDoc() }
+
+        val outcomes = testCollection.saveAll(mDocs, ConcurrencyControl.FAIL_ON_CONFLICT)
+
+        Assert.assertEquals(List(10) { SaveOutcome.SAVED }, outcomes)
+        Assert.assertEquals(10, testCollection.count)
+        mDocs.forEach { assertSameContent(it, testCollection.getDocument(it.id)) }
+    }
+
+    @Test
+    fun testSaveAllUpdate() {
+        val mDoc = createDocInCollection()
+
+        val doc = testCollection.getDocument(mDoc.id)!!.toMutable()
+        doc.setString("firstName", "Scott")
+        val newDoc = createTestDoc()
+
+        val outcomes = testCollection.saveAll(listOf(doc, newDoc), ConcurrencyControl.FAIL_ON_CONFLICT)
+
+        Assert.assertEquals(listOf(SaveOutcome.SAVED, SaveOutcome.SAVED), outcomes)
+        Assert.assertEquals(2, doc.sequence)
+        assertSameContent(doc, testCollection.getDocument(doc.id))
+        assertSameContent(newDoc, testCollection.getDocument(newDoc.id))
+    }
+
+    @Test
+    fun testSaveAllWithConflictFailOnConflict() {
+        val mDoc = createDocInCollection()
+
+        val doc1a = testCollection.getDocument(mDoc.id)!!.toMutable()
+        val doc1b = testCollection.getDocument(mDoc.id)!!.toMutable()
+
+        doc1a.setString("firstName", "Scott")
+        testCollection.save(doc1a)
+
+        // doc1b is in conflict: newDoc should be saved anyway
+        doc1b.setString("lastName", "Ernest")
+        val newDoc = createTestDoc()
+
+        val outcomes = testCollection.saveAll(listOf(doc1b, newDoc), ConcurrencyControl.FAIL_ON_CONFLICT)
+
+        Assert.assertEquals(listOf(SaveOutcome.CONFLICTED, SaveOutcome.SAVED), outcomes)
+        assertSameContent(doc1a, testCollection.getDocument(mDoc.id))
+        assertSameContent(newDoc, testCollection.getDocument(newDoc.id))
+    }
+
+    @Test
+    fun testSaveAllWithConflictLastWriteWins() {
+        val mDoc = createDocInCollection()
+
+        val doc1a = testCollection.getDocument(mDoc.id)!!.toMutable()
+        val doc1b = testCollection.getDocument(mDoc.id)!!.toMutable()
+
+        doc1a.setString("firstName", "Scott")
+        testCollection.save(doc1a)
+
+        doc1b.setString("lastName", "Ernest")
+
+        val outcomes = testCollection.saveAll(listOf(doc1b), ConcurrencyControl.LAST_WRITE_WINS)
+
+        Assert.assertEquals(listOf(SaveOutcome.SAVED), outcomes)
+        val doc = testCollection.getDocument(mDoc.id)
+        assertSameContent(doc1b, doc)
+        Assert.assertEquals(3, doc!!.sequence)
+    }
+
+    @Test
+    fun testSaveAllInClosedDB() {
+        val mDoc = createTestDoc()
+
+        closeDb(testDatabase)
+
+        assertThrowsCBLException(CBLError.Domain.CBLITE, CBLError.Code.NOT_OPEN) {
+            testCollection.saveAll(listOf(mDoc), ConcurrencyControl.LAST_WRITE_WINS)
+        }
+    }
+
+    @Test
+    fun testImportNDJSON() {
+        val json = "{\"_id\": \"doc-1\", \"name\": \"one\"}\n{\"_id\": \"doc-2\", \"n\": 2}\n{\"s\": \"}{\\\"\"}\n"
+
+        Assert.assertEquals(3L, testCollection.importJSON(json.byteInputStream()))
+
+        Assert.assertEquals(3, testCollection.count)
+        Assert.assertEquals(mapOf("name" to "one"), testCollection.getDocument("doc-1")!!.toMap())
+        Assert.assertEquals(mapOf("n" to 2L), testCollection.getDocument("doc-2")!!.toMap())
+        val ids = QueryBuilder.select(SelectResult.expression(Meta.id))
+            .from(DataSource.collection(testCollection))
+            .execute().use { rs -> rs.allResults().map { it.getString(0) } }
+        val newId = ids.first { it != "doc-1" && it != "doc-2" }
+        Assert.assertEquals(mapOf("s" to "}{\""), testCollection.getDocument(newId!!)!!.toMap())
+    }
+
+    @Test
+    fun testImportJSONArray() {
+        val json = """
+            [
+                {
+                    "_id": "doc-1",
+                    "nested": {"list": [1, 2, {"a": "]"}]}
+                },
+                {"_id": "doc-2", "flag": true}
+            ]
+            """.trimIndent()
+
+        Assert.assertEquals(2L, testCollection.importJSON(json.reader()))
+
+        Assert.assertEquals(
+            mapOf("nested" to mapOf("list" to listOf(1L, 2L, mapOf("a" to "]")))),
+            testCollection.getDocument("doc-1")!!.toMap()
+        )
+        Assert.assertEquals(mapOf("flag" to true), testCollection.getDocument("doc-2")!!.toMap())
+    }
+
+    // The last copy of a document wins, even when several copies are in the same batch
+    @Test
+    fun testImportJSONOverwrites() {
+        val mDoc = createDocInCollection()
+        val json = "{\"_id\": \"${mDoc.id}\", \"v\": 1}{\"_id\": \"${mDoc.id}\", \"v\": 2}"
+
+        Assert.assertEquals(2L, testCollection.importJSON(json.byteInputStream()))
+
+        Assert.assertEquals(1, testCollection.count)
+        Assert.assertEquals(mapOf("v" to 2L), testCollection.getDocument(mDoc.id)!!.toMap())
+    }
+
+    @Test
+    fun testImportJSONManyBatches() {
+        val n = (Collection.IMPORT_BATCH_SIZE * 2) + 7
+        val json = (1..n).joinToString("\n") { "{\"_id\": \"doc-$it\", \"i\": $it}" }
+
+        Assert.assertEquals(n.toLong(), testCollection.importJSON(json.byteInputStream()))
+
+        Assert.assertEquals(n.toLong(), testCollection.count)
+        Assert.assertEquals(mapOf("i" to n.toLong()), testCollection.getDocument("doc-$n")!!.toMap())
+    }
+
+    @Test
+    fun testImportBadJSON() {
+        assertThrowsCBLException(CBLError.Domain.CBLITE, CBLError.Code.INVALID_PARAMETER) {
+            testCollection.importJSON("{\"_id\": 42}".byteInputStream())
+        }
+        Assert.assertThrows(java.io.IOException::class.java) {
+            testCollection.importJSON("{\"_id\": \"doc-1\"} 42".byteInputStream())
+        }
+        Assert.assertThrows(java.io.IOException::class.java) {
+            testCollection.importJSON("{\"_id\": \"doc-1\"".byteInputStream())
+        }
+        Assert.assertThrows(CouchbaseLiteException::class.java) {
+            testCollection.importJSON("{\"_id\": \"doc-1\", nope}".byteInputStream())
+        }
+    }
+
+    @Test
+    fun testImportJSONInClosedDB() {
+        closeDb(testDatabase)
+
+        assertThrowsCBLException(CBLError.Domain.CBLITE, CBLError.Code.NOT_OPEN) {
+            testCollection.importJSON("{\"a\": 1}".byteInputStream())
+        }
+    }
+
     // 3.1 TestGetFullNameFromDefaultCollection
     //    Get the default collection from the database.
     //    Get the full-name from the default collection.
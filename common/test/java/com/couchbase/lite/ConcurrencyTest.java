@@ -15,6 +15,7 @@
 //
 package com.couchbase.lite;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -88,6 +89,27 @@ public class ConcurrencyTest extends BaseDbTest {
         runConcurrentCopies(4, id -> readDocs(docIDs, 50));
     }
 
+    // Blob detection uses per-thread keys: blobs and plain dictionaries are recognized on every thread
+    @Test
+    public void testConcurrentBlobReads() throws CouchbaseLiteException, InterruptedException {
+        final MutableDocument mDoc = new MutableDocument();
+        mDoc.setBlob("blob", new Blob("text/plain", "Springfield".getBytes(StandardCharsets.UTF_8)));
+        mDoc.setDictionary("dict", new MutableDictionary().setString("city", "Springfield"));
+        getTestCollection().save(mDoc);
+
+        runConcurrentCopies(
+            4,
+            id -> {
+                for (int i = 0; i < 50; i++) {
+                    final Document doc;
+                    try { doc = getTestCollection().getDocument(mDoc.getId()); }
+                    catch (CouchbaseLiteException e) { throw new AssertionError("Failed reading document", e); }
+                    Assert.assertEquals(11, doc.getBlob("blob").length());
+                    Assert.assertEquals("Springfield", doc.getDictionary("dict").getString("city"));
+                }
+            });
+    }
+
     @Test
     public void testConcurrentReadsInBatch() throws InterruptedException {
         final List<String> docIDs = saveDocs(createComplexTestDocs(5, "TAG@READSBATCH"));
@@ -394,6 +416,38 @@ public class ConcurrencyTest extends BaseDbTest {
         try (ResultSet rs = query.execute()) { return rs.allResults().size(); }
     }
 
+    // Reading a saved document should not need the database lock
+    @Test
+    public void testReadSavedDocWhileDbLocked() throws CouchbaseLiteException, InterruptedException {
+        final MutableDocument mDoc = new MutableDocument();
+        mDoc.setString("name", "Bart");
+        mDoc.setDictionary("address", new MutableDictionary().setString("city", "Springfield"));
+        mDoc.setArray("friends", new MutableArray().addString("Milhouse"));
+        getTestCollection().save(mDoc);
+
+        final Document doc = getTestCollection().getDocument(mDoc.getId());
+        Assert.assertFalse(doc.getContent().usesDbLock());
+        Assert.assertTrue(mDoc.getContent().usesDbLock());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<String> city = new AtomicReference<>();
+        final AtomicReference<String> friend = new AtomicReference<>();
+        synchronized (getTestDatabase().getDbLock()) {
+            final Thread reader = new Thread(() -> {
+                city.set(doc.getDictionary("address").getString("city"));
+                friend.set(doc.getArray("friends").getString(0));
+                latch.countDown();
+            });
+            reader.setDaemon(true);
+            reader.start();
+
+            Assert.assertTrue(latch.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+        }
+
+        Assert.assertEquals("Springfield", city.get());
+        Assert.assertEquals("Milhouse", friend.get());
+    }
+
     private void runConcurrently(String name, Runnable task1, Runnable task2) {
         final CyclicBarrier barrier = new CyclicBarrier(2);
         final CountDownLatch latch = new CountDownLatch(2);
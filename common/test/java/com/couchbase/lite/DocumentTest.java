@@ -16,8 +16,10 @@
 package com.couchbase.lite;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -2742,6 +2744,78 @@ public class DocumentTest extends BaseDbTest {
         Assert.assertFalse(StringUtils.isEmpty(doc.getRevisionHistory()));
     }
 
+    // An immutable document's map is built natively: it must be the same as the one built from its content
+    @Test
+    public void testToMapMatchesContent() throws CouchbaseLiteException {
+        final MutableDocument mDoc = new MutableDocument("doc1");
+        populateData(mDoc);
+        mDoc.remove("blob");
+        mDoc.setValue("big", Long.MAX_VALUE);
+        mDoc.setValue("nested", Arrays.asList(Arrays.asList(1, "two", 3.3), new HashMap<String, Object>()));
+
+        final Collection coll = getTestCollection();
+        coll.save(mDoc);
+        final Document doc = coll.getDocument(mDoc.getId());
+        Assert.assertNotNull(doc);
+
+        Assert.assertEquals(doc.getContent().toMap(), doc.toMap());
+    }
+
+    // Blobs in an immutable document are still Blobs in its map
+    @Test
+    public void testToMapWithBlob() throws CouchbaseLiteException {
+        final MutableDocument mDoc = new MutableDocument("doc1");
+        populateData(mDoc);
+
+        final Collection coll = getTestCollection();
+        coll.save(mDoc);
+        final Document doc = coll.getDocument(mDoc.getId());
+        Assert.assertNotNull(doc);
+
+        final Map<String, Object> map = doc.toMap();
+        Assert.assertTrue(map.get("blob") instanceof Blob);
+        Assert.assertTrue(map.get("dict") instanceof Map);
+    }
+
+    // A multi-megabyte document is streamed as exactly the same JSON that toJSON returns
+    @Test
+    public void testWriteJSON() throws CouchbaseLiteException, IOException {
+        final MutableDocument mDoc = new MutableDocument("doc1");
+        populateData(mDoc);
+        mDoc.remove("blob");
+        final StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 1000; i++) { big.append("\u2603 snowman number ").append(i).append(' '); }
+        for (int i = 0; i < 100; i++) { mDoc.setString("big-" + i, big.toString()); }
+
+        final Collection coll = getTestCollection();
+        coll.save(mDoc);
+        final Document doc = coll.getDocument(mDoc.getId());
+        Assert.assertNotNull(doc);
+        final byte[] expected = doc.toJSON().getBytes(StandardCharsets.UTF_8);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doc.writeJSON(out);
+        Assert.assertArrayEquals(expected, out.toByteArray());
+
+        out.reset();
+        doc.writeJSON(Channels.newChannel(out));
+        Assert.assertArrayEquals(expected, out.toByteArray());
+    }
+
+    // Like toJSON, writeJSON refuses to encode a mutable document, rather than silently dropping unsaved edits
+    @Test
+    public void testWriteJSONMutableDoc() throws CouchbaseLiteException {
+        final MutableDocument mDoc = new MutableDocument("doc1");
+        mDoc.setString("name", "saved");
+        getTestCollection().save(mDoc);
+        mDoc.setString("name", "unsaved");
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assert.assertThrows(CouchbaseLiteError.class, () -> mDoc.writeJSON(out));
+        Assert.assertThrows(CouchbaseLiteError.class, () -> mDoc.writeJSON(Channels.newChannel(out)));
+        Assert.assertEquals(0, out.size());
+    }
+
     // !!! Replace with BaseDbTest.makeDocument
     private void populateData(MutableDocument doc) {
         doc.setValue("true", true);
@@ -182,6 +182,33 @@ class LoadTest : BaseDbTest() {
         Assert.assertEquals(mDoc.getString(TEST_DOC_TAG_KEY), doc.getString(TEST_DOC_TAG_KEY))
     }
 
+    // Small edits to a large (~200KB) document
+    @SlowTest
+    @LoadTest
+    @Test
+    fun testUpdateLargeDoc() {
+        val filler = "x".repeat(100)
+        var mDoc = MutableDocument()
+        for (i in 0 until ITERATIONS) {
+            mDoc.setString("field-${i}", "${i}: ${filler}")
+        }
+        testCollection.save(mDoc)
+
+        timeTest("testUpdateLargeDoc", 100) {
+            for (i in 0 until ITERATIONS / 10) {
+                mDoc = testCollection.getDocument(mDoc.id)!!.toMutable()
+                mDoc.setInt("count", i)
+                testCollection.save(mDoc)
+            }
+        }
+
+        val doc = testCollection.getDocument(mDoc.id)
+        Assert.assertNotNull(doc)
+        Assert.assertEquals(ITERATIONS / 10 - 1, doc!!.getInt("count"))
+        Assert.assertEquals("7: ${filler}", doc.getString("field-7"))
+        Assert.assertEquals(ITERATIONS + 1, doc.count())
+    }
+
     @VerySlowTest
     @LoadTest
     @Test
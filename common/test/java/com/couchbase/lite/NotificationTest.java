@@ -15,10 +15,13 @@
 //
 package com.couchbase.lite;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -277,6 +280,67 @@ public class NotificationTest extends BaseDbTest {
         Assert.assertEquals(0, changeNotifier.getListenerCount());
     }
 
+    // While a coalescing listener is busy, changes are merged into a single notification
+    @Test
+    public void testCoalescingCollectionChangeNotifier() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final List<List<String>> notifications = new ArrayList<>();
+
+        final CollectionChangeNotifier notifier = new CollectionChangeNotifier(getTestCollection());
+        notifier.addChangeListener(
+            getTestSerialExecutor(),
+            change -> {
+                synchronized (notifications) { notifications.add(change.getDocumentIDs()); }
+                started.countDown();
+                try { Assert.assertTrue(release.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS)); }
+                catch (InterruptedException ignore) { }
+                if (change.getDocumentIDs().contains("D")) { done.countDown(); }
+            },
+            CollectionChangeNotifier::coalesceChanges,
+            ign -> { });
+
+        notifier.postChange(new CollectionChange(getTestCollection(), Arrays.asList("A")));
+        Assert.assertTrue(started.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+
+        notifier.postChange(new CollectionChange(getTestCollection(), Arrays.asList("B", "C")));
+        notifier.postChange(new CollectionChange(getTestCollection(), Arrays.asList("C", "D")));
+        release.countDown();
+
+        Assert.assertTrue(done.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+        synchronized (notifications) {
+            Assert.assertEquals(2, notifications.size());
+            Assert.assertEquals(Arrays.asList("A"), notifications.get(0));
+            Assert.assertEquals(Arrays.asList("B", "C", "D"), notifications.get(1));
+        }
+    }
+
+    @Test
+    public void testCoalescingCollectionChange() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Set<String> seen = new HashSet<>();
+
+        try (ListenerToken ignore = getTestCollection().addChangeListener(
+            getTestSerialExecutor(),
+            change -> {
+                Assert.assertEquals(getTestCollection(), change.getCollection());
+                synchronized (seen) {
+                    seen.addAll(change.getDocumentIDs());
+                    if (seen.size() >= 10) { latch.countDown(); }
+                }
+            },
+            true)) {
+            for (int i = 0; i < 10; i++) {
+                MutableDocument doc = new MutableDocument();
+                doc.setValue("type", "demo");
+                saveDocInTestCollection(doc);
+            }
+
+            Assert.assertTrue(latch.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+        }
+    }
+
     // CBL-4989 and CBL-4991: Check a few DocumentChange corner cases:
     // - null is a legal rev id
     // - null is not a legal doc id
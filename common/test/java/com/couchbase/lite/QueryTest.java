@@ -39,6 +39,7 @@ import org.junit.Assert;
 import org.junit.Assume;
 import org.junit.Test;
 
+import com.couchbase.lite.internal.QueryCache;
 import com.couchbase.lite.internal.utils.FlakyTest;
 import com.couchbase.lite.internal.utils.Fn;
 import com.couchbase.lite.internal.utils.MathUtils;
@@ -3368,6 +3369,112 @@ public class QueryTest extends BaseQueryTest {
         return saveDocInTestCollection(doc);
     }
 
+    // Queries with the same SQL++ text should share a compiled query
+    @Test
+    public void testQueryCacheHits() throws CouchbaseLiteException {
+        loadDocuments(10);
+
+        final String sql = "SELECT * FROM " + BaseDbTestKt.getQualifiedName(getTestCollection());
+        final QueryCache.Stats start = getTestDatabase().getQueryCacheStats();
+        for (int i = 0; i < 3; i++) {
+            try (ResultSet rs = getTestDatabase().createQuery(sql).execute()) {
+                Assert.assertEquals(10, rs.allResults().size());
+            }
+        }
+
+        final QueryCache.Stats stats = getTestDatabase().getQueryCacheStats();
+        Assert.assertEquals(1, stats.misses - start.misses);
+        Assert.assertEquals(2, stats.hits - start.hits);
+    }
+
+    // A shared compiled query must bind each query's own parameters
+    @Test
+    public void testQueryCacheParameters() throws CouchbaseLiteException {
+        loadDocuments(10);
+
+        final String sql = "SELECT * FROM " + BaseDbTestKt.getQualifiedName(getTestCollection())
+            + " WHERE " + TEST_DOC_SORT_KEY + " <= $max";
+
+        final Query query1 = getTestDatabase().createQuery(sql);
+        query1.setParameters(new Parameters().setInt("max", 3));
+        final Query query2 = getTestDatabase().createQuery(sql);
+        query2.setParameters(new Parameters().setInt("max", 7));
+
+        try (ResultSet rs = query1.execute()) { Assert.assertEquals(3, rs.allResults().size()); }
+        try (ResultSet rs = query2.execute()) { Assert.assertEquals(7, rs.allResults().size()); }
+        try (ResultSet rs = query1.execute()) { Assert.assertEquals(3, rs.allResults().size()); }
+    }
+
+    // Creating or deleting an index should drop all compiled queries
+    @Test
+    public void testQueryCacheInvalidatedByIndexChange() throws CouchbaseLiteException {
+        loadDocuments(10);
+
+        final String sql = "SELECT * FROM " + BaseDbTestKt.getQualifiedName(getTestCollection())
+            + " WHERE " + TEST_DOC_SORT_KEY + " > 5";
+        try (ResultSet rs = getTestDatabase().createQuery(sql).execute()) {
+            Assert.assertEquals(5, rs.allResults().size());
+        }
+        Assert.assertTrue(getTestDatabase().getQueryCacheStats().size > 0);
+
+        getTestCollection().createIndex("sortIndex", new ValueIndexConfiguration(TEST_DOC_SORT_KEY));
+        Assert.assertEquals(0, getTestDatabase().getQueryCacheStats().size);
+
+        try (ResultSet rs = getTestDatabase().createQuery(sql).execute()) {
+            Assert.assertEquals(5, rs.allResults().size());
+        }
+        Assert.assertTrue(getTestDatabase().getQueryCacheStats().size > 0);
+
+        getTestCollection().deleteIndex("sortIndex");
+        Assert.assertEquals(0, getTestDatabase().getQueryCacheStats().size);
+    }
+
+    // Parameters are encoded once, when set: re-running, resetting and clearing them should all work
+    @Test
+    public void testReuseEncodedParameters() throws CouchbaseLiteException {
+        loadDocuments(10);
+
+        final Query query = QueryBuilder.select(SelectResult.expression(Meta.id))
+            .from(DataSource.collection(getTestCollection()))
+            .where(Expression.property(TEST_DOC_SORT_KEY).lessThanOrEqualTo(Expression.parameter("max")));
+
+        final Parameters params = new Parameters().setInt("max", 3);
+        query.setParameters(params);
+        for (int i = 0; i < 3; i++) {
+            try (ResultSet rs = query.execute()) { Assert.assertEquals(3, rs.allResults().size()); }
+        }
+
+        // changing the original has no effect on the query
+        params.setInt("max", 8);
+        try (ResultSet rs = query.execute()) { Assert.assertEquals(3, rs.allResults().size()); }
+
+        query.setParameters(params);
+        try (ResultSet rs = query.execute()) { Assert.assertEquals(8, rs.allResults().size()); }
+
+        // a query with no parameters runs with no parameters
+        final Query noParams = QueryBuilder.select(SelectResult.expression(Meta.id))
+            .from(DataSource.collection(getTestCollection()));
+        try (ResultSet rs = noParams.execute()) { Assert.assertEquals(10, rs.allResults().size()); }
+    }
+
+    // Clearing a compiled query's parameters must not leave the old ones bound
+    @Test
+    public void testClearParameters() throws CouchbaseLiteException {
+        loadDocuments(10);
+
+        final Query query = QueryBuilder.select(SelectResult.expression(Meta.id))
+            .from(DataSource.collection(getTestCollection()))
+            .where(Expression.property(TEST_DOC_SORT_KEY).lessThanOrEqualTo(Expression.parameter("max")));
+
+        query.setParameters(new Parameters().setInt("max", 3));
+        try (ResultSet rs = query.execute()) { Assert.assertEquals(3, rs.allResults().size()); }
+
+        // with no value for the parameter, nothing matches
+        query.setParameters(null);
+        Assert.assertNull(query.getParameters());
+        try (ResultSet rs = query.execute()) { Assert.assertEquals(0, rs.allResults().size()); }
+    }
+
     private void liveQueryNoUpdate(Fn.Consumer<QueryChange> test) throws InterruptedException {
         loadDocuments(100);
 
@@ -29,7 +29,6 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Test;
 
-import com.couchbase.lite.internal.CouchbaseLiteInternal;
 import com.couchbase.lite.internal.ImmutableReplicatorConfiguration;
 import com.couchbase.lite.internal.core.C4Constants;
 import com.couchbase.lite.internal.core.C4Replicator;
@@ -49,9 +48,11 @@ public class ReplicatorMiscTest extends BaseReplicatorTest {
         try (ReplicatorChangeListenerToken token = new ReplicatorChangeListenerToken(executor, listener, t -> { })) {
             Assert.assertEquals(executor, token.getExecutor());
         }
-        // UI thread Executor
+        // default listener Executor: the token keeps it, so that its notifications run in order
         try (ReplicatorChangeListenerToken token = new ReplicatorChangeListenerToken(null, listener, t -> { })) {
-            Assert.assertEquals(CouchbaseLiteInternal.getExecutionService().getDefaultExecutor(), token.getExecutor());
+            final Executor listenerExecutor = token.getExecutor();
+            Assert.assertNotNull(listenerExecutor);
+            Assert.assertSame(listenerExecutor, token.getExecutor());
         }
     }
 
@@ -15,7 +15,11 @@
 //
 package com.couchbase.lite;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,10 +27,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 
 import com.couchbase.lite.internal.utils.Fn;
@@ -1016,6 +1023,255 @@ public class ResultTest extends BaseQueryTest {
     }
 
 
+    @Test
+    public void testNextBatchTypes() {
+        runTest((query) -> {
+            try (ResultSet rs = query.execute()) {
+                ResultBatch batch = rs.nextBatch(10);
+                Assert.assertNotNull(batch);
+                Assert.assertEquals(1, batch.getRowCount());
+                Assert.assertEquals(13, batch.getColumnCount());
+
+                Assert.assertTrue(batch.isNull(0, 0));
+                Assert.assertEquals(true, batch.getValue(1, 0));
+                Assert.assertEquals(false, batch.getValue(2, 0));
+                Assert.assertEquals("string", batch.getValue(3, 0));
+                Assert.assertEquals(0L, batch.getValue(4, 0));
+                Assert.assertEquals(1L, batch.getValue(5, 0));
+                Assert.assertEquals(-1L, batch.getValue(6, 0));
+                Assert.assertEquals(1.1, batch.getValue(7, 0));
+                Assert.assertEquals(TEST_DATE, batch.getValue(8, 0));
+                Assert.assertTrue(batch.getValue(9, 0) instanceof Dictionary);
+                Assert.assertTrue(batch.getValue(10, 0) instanceof Array);
+                Assert.assertTrue(batch.getValue(11, 0) instanceof Blob);
+                Assert.assertTrue(batch.isNull(12, 0));
+
+                Assert.assertArrayEquals(new long[] {1L}, batch.getLongColumn(1));
+                Assert.assertArrayEquals(new long[] {-1L}, batch.getLongColumn(6));
+                Assert.assertArrayEquals(new long[] {1L}, batch.getLongColumn(7));
+                Assert.assertArrayEquals(new double[] {1.1}, batch.getDoubleColumn(7), 0.0);
+                Assert.assertArrayEquals(new String[] {"string"}, batch.getStringColumn(3));
+                Assert.assertArrayEquals(new String[] {null}, batch.getStringColumn(5));
+
+                Assert.assertEquals(3, batch.getColumnIndex("string"));
+
+                Assert.assertThrows(ArrayIndexOutOfBoundsException.class, () -> batch.getValue(13, 0));
+                Assert.assertThrows(ArrayIndexOutOfBoundsException.class, () -> batch.getValue(0, 1));
+
+                Assert.assertNull(rs.nextBatch(10));
+            }
+            catch (CouchbaseLiteException e) { throw new AssertionError("Query failed", e); }
+        });
+    }
+
+    @Test
+    public void testNextBatchRows() throws CouchbaseLiteException {
+        final int n = 250;
+        for (int i = 0; i < n; i++) {
+            MutableDocument mDoc = new MutableDocument(docId(i));
+            mDoc.setInt("n", i);
+            mDoc.setString("name", "name-" + i);
+            saveDocInTestCollection(mDoc);
+        }
+
+        final List<Integer> batchSizes = new ArrayList<>();
+        int rows = 0;
+        try (ResultSet rs = QueryBuilder.select(SelectResult.property("n"), SelectResult.property("name"))
+            .from(DataSource.collection(getTestCollection()))
+            .orderBy(Ordering.property("n"))
+            .execute()) {
+            ResultBatch batch;
+            while ((batch = rs.nextBatch(100)) != null) {
+                batchSizes.add(batch.getRowCount());
+                final long[] ns = batch.getLongColumn(0);
+                final String[] names = batch.getStringColumn(1);
+                for (int i = 0; i < batch.getRowCount(); i++) {
+                    Assert.assertEquals(rows, ns[i]);
+                    Assert.assertEquals("name-" + rows, names[i]);
+                    rows++;
+                }
+            }
+            Assert.assertNull(rs.next());
+        }
+
+        Assert.assertEquals(n, rows);
+        Assert.assertEquals(Arrays.asList(100, 100, 50), batchSizes);
+    }
+
+    @Test
+    public void testNextBatchAfterClose() throws CouchbaseLiteException {
+        String docID = prepareData(1);
+        final ResultBatch batch;
+        try (ResultSet rs = generateQuery(docID).execute()) {
+            batch = rs.nextBatch(10);
+            Assert.assertNotNull(batch);
+        }
+        Assert.assertThrows(CouchbaseLiteError.class, () -> batch.getValue(1, 0));
+    }
+
+    @Test
+    public void testIteratorIsLazy() throws CouchbaseLiteException {
+        loadDocuments(100);
+
+        int n = 0;
+        try (ResultSet rs = QueryBuilder.select(SelectResult.expression(Meta.id))
+            .from(DataSource.collection(getTestCollection()))
+            .execute()) {
+            for (Result ignore: rs) { if (++n >= 10) { break; } }
+
+            // the iterator should not have read past the tenth row
+            while (rs.next() != null) { n++; }
+        }
+
+        Assert.assertEquals(100, n);
+    }
+
+    @Test
+    public void testIteratorExhausted() throws CouchbaseLiteException {
+        loadDocuments(3);
+
+        try (ResultSet rs = QueryBuilder.select(SelectResult.expression(Meta.id))
+            .from(DataSource.collection(getTestCollection()))
+            .execute()) {
+            final Iterator<Result> itr = rs.iterator();
+            for (int i = 0; i < 3; i++) {
+                Assert.assertTrue(itr.hasNext());
+                Assert.assertTrue(itr.hasNext());
+                Assert.assertNotNull(itr.next());
+            }
+            Assert.assertFalse(itr.hasNext());
+            Assert.assertThrows(NoSuchElementException.class, itr::next);
+        }
+    }
+
+    @Test
+    public void testStream() throws CouchbaseLiteException {
+        Assume.assumeTrue(
+            "Streams require Android API 24",
+            !"Dalvik".equals(System.getProperty("java.vm.name")) || (getVMVersion() >= 24));
+
+        loadDocuments(100);
+
+        final ResultSet rs = QueryBuilder.select(SelectResult.expression(Meta.id))
+            .from(DataSource.collection(getTestCollection()))
+            .execute();
+        try (Stream<Result> results = rs.stream()) {
+            Assert.assertEquals(5, results.limit(5).count());
+
+            // the stream should not have read past the fifth row
+            int n = 0;
+            while (rs.next() != null) { n++; }
+            Assert.assertEquals(95, n);
+        }
+
+        Assert.assertTrue(rs.isClosed());
+    }
+
+    @Test
+    public void testTypedAccessors() {
+        runTest((query) -> {
+            try (ResultSet rs = query.execute()) {
+                final Result r = rs.next();
+                Assert.assertNotNull(r);
+
+                Assert.assertEquals(42L, r.getLongAt(0, 42L));
+                Assert.assertEquals(1L, r.getLongAt(1, 42L));
+                Assert.assertEquals(42L, r.getLongAt(3, 42L));
+                Assert.assertEquals(-1L, r.getLongAt(6, 42L));
+                Assert.assertEquals(1L, r.getLongAt(7, 42L));
+                Assert.assertEquals(42L, r.getLongAt(9, 42L));
+
+                Assert.assertEquals(4.2, r.getDoubleAt(0, 4.2), 0.0);
+                Assert.assertEquals(1.1, r.getDoubleAt(7, 4.2), 0.0);
+                Assert.assertEquals(-1.0, r.getDoubleAt(6, 4.2), 0.0);
+                Assert.assertEquals(4.2, r.getDoubleAt(3, 4.2), 0.0);
+
+                final StringBuilder buf = new StringBuilder("<");
+                Assert.assertTrue(r.getStringAt(3, buf));
+                Assert.assertFalse(r.getStringAt(5, buf));
+                Assert.assertFalse(r.getStringAt(0, buf));
+                Assert.assertEquals("<string", buf.toString());
+
+                Assert.assertThrows(ArrayIndexOutOfBoundsException.class, () -> r.getLongAt(13, 0L));
+            }
+            catch (CouchbaseLiteException e) { throw new AssertionError("Query failed", e); }
+        });
+    }
+
+    @Test
+    public void testGetStringAtNonAscii() throws CouchbaseLiteException {
+        // long enough to grow the scratch buffer
+        final StringBuilder str = new StringBuilder();
+        for (int i = 0; i < 100; i++) { str.append("h\u00e9llo \u2603 \ud83d\ude00 "); }
+        final String expected = str.toString();
+
+        final MutableDocument mDoc = new MutableDocument(docId());
+        mDoc.setString("str", expected);
+        saveDocInCollection(mDoc);
+
+        try (ResultSet rs = QueryBuilder.select(SelectResult.property("str"))
+            .from(DataSource.collection(getTestCollection()))
+            .execute()) {
+            final Result r = rs.next();
+            Assert.assertNotNull(r);
+            final StringBuilder buf = new StringBuilder();
+            Assert.assertTrue(r.getStringAt(0, buf));
+            Assert.assertEquals(expected, buf.toString());
+        }
+    }
+
+    @Test
+    public void testWriteJSON() throws CouchbaseLiteException, IOException {
+        final MutableDocument mDoc = new MutableDocument(docId());
+        mDoc.setString("str", "h\u00e9llo \u2603");
+        mDoc.setLong("n", 42);
+        saveDocInCollection(mDoc);
+
+        try (ResultSet rs = QueryBuilder.select(SelectResult.property("str"), SelectResult.property("n"))
+            .from(DataSource.collection(getTestCollection()))
+            .execute()) {
+            final Result r = rs.next();
+            Assert.assertNotNull(r);
+            final byte[] expected = r.toJSON().getBytes(StandardCharsets.UTF_8);
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            r.writeJSON(out);
+            Assert.assertArrayEquals(expected, out.toByteArray());
+
+            out.reset();
+            r.writeJSON(Channels.newChannel(out));
+            Assert.assertArrayEquals(expected, out.toByteArray());
+        }
+    }
+
+    @Test
+    public void testGetStringAtLargeString() throws CouchbaseLiteException {
+        // larger than the scratch buffer that is kept between calls
+        final StringBuilder str = new StringBuilder();
+        for (int i = 0; i < 2000; i++) { str.append("h\u00e9llo "); }
+        final String large = str.toString();
+
+        final MutableDocument mDoc = new MutableDocument(docId());
+        mDoc.setString("large", large);
+        mDoc.setString("small", "small");
+        saveDocInCollection(mDoc);
+
+        try (ResultSet rs = QueryBuilder.select(SelectResult.property("large"), SelectResult.property("small"))
+            .from(DataSource.collection(getTestCollection()))
+            .execute()) {
+            final Result r = rs.next();
+            Assert.assertNotNull(r);
+
+            final StringBuilder buf = new StringBuilder();
+            Assert.assertTrue(r.getStringAt(0, buf));
+            Assert.assertEquals(large, buf.toString());
+
+            buf.setLength(0);
+            Assert.assertTrue(r.getStringAt(1, buf));
+            Assert.assertEquals("small", buf.toString());
+        }
+    }
+
     /// ////////////  Tooling
 
     // !!! Should be using the standard data tools
@@ -24,6 +24,7 @@ import com.couchbase.lite.internal.exec.ExecutionService
 import com.couchbase.lite.internal.exec.InstrumentedTask
 import com.couchbase.lite.internal.logging.Log
 import org.junit.Assert
+import org.junit.Assume
 import org.junit.Before
 import org.junit.Test
 import java.util.Stack
@@ -125,6 +126,72 @@ class ExecutionServiceTest : BaseTest() {
         Assert.assertTrue(executor.stop(5, TimeUnit.SECONDS)) // everything should be done shortly
     }
 
+    // A serial executor runs tasks in order, even when they come from many threads, with or without instrumentation
+    @Test
+    fun testSerialExecutorManyProducers() {
+        val wasEnabled = InstrumentedTask.isEnabled()
+        try {
+            for (instrumented in listOf(false, true)) {
+                InstrumentedTask.setEnabled(instrumented)
+                val executor = cblService.serialExecutor
+                val n = 1000
+                val latch = CountDownLatch(4 * n)
+                val lastSeen = IntArray(4) { -1 }
+                var outOfOrder = false
+                val producers = (0 until 4).map { p ->
+                    Thread {
+                        for (i in 0 until n) {
+                            executor.execute {
+                                if (lastSeen[p] != i - 1) { outOfOrder = true }
+                                lastSeen[p] = i
+                                latch.countDown()
+                            }
+                        }
+                    }
+                }
+                producers.forEach { it.start() }
+                producers.forEach { it.join() }
+
+                Assert.assertTrue(latch.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+                Assert.assertFalse(outOfOrder)
+                Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+                Assert.assertEquals(0, executor.pending)
+            }
+        } finally {
+            InstrumentedTask.setEnabled(wasEnabled)
+        }
+    }
+
+    // Queuing a task on a serial executor allocates little more than a queue node.
+    // The first task holds the drain task, so that queuing the others does not schedule it.
+    @Test
+    fun testSerialExecutorAllocation() {
+        Assume.assumeTrue(threadAllocatedBytes() >= 0)
+
+        val wasEnabled = InstrumentedTask.isEnabled()
+        InstrumentedTask.setEnabled(false)
+        try {
+            val executor = cblService.serialExecutor
+            val n = 100_000
+            val release = CountDownLatch(1)
+            val latch = CountDownLatch(n)
+            val task = Runnable { latch.countDown() }
+            executor.execute { release.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS) }
+
+            val startBytes = threadAllocatedBytes()
+            for (i in 1..n) { executor.execute(task) }
+            val bytesPerTask = (threadAllocatedBytes() - startBytes) / n
+
+            release.countDown()
+            Assert.assertTrue(latch.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+            Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+
+            Assert.assertTrue("Allocated ${bytesPerTask} bytes/task", bytesPerTask < 64)
+        } finally {
+            InstrumentedTask.setEnabled(wasEnabled)
+        }
+    }
+
     // Concurrent Executor tests
 
     // The concurrent executor can execute out of order.
@@ -210,6 +277,74 @@ class ExecutionServiceTest : BaseTest() {
         Assert.assertTrue(executor.stop(5, TimeUnit.SECONDS)) // everything should be done shortly
     }
 
+    // Stopping an executor while other threads are scheduling tasks:
+    // every task that was accepted has run, by the time stop returns true.
+    @Test
+    fun testStopExecutorWhileScheduling() {
+        val executors = listOf(
+            cblService.serialExecutor,
+            cblService.concurrentExecutor,
+            cblService.workStealingExecutor
+        )
+        for (executor in executors) {
+            val accepted = AtomicLong()
+            val completed = AtomicLong()
+            val barrier = CyclicBarrier(5)
+            val producers = (0 until 4).map {
+                Thread {
+                    barrier.await()
+                    try {
+                        while (true) {
+                            executor.execute { completed.incrementAndGet() }
+                            accepted.incrementAndGet()
+                        }
+                    } catch (ignore: ExecutionService.CloseableExecutor.ExecutorClosedException) {
+                    }
+                }
+            }
+            producers.forEach { it.start() }
+
+            barrier.await()
+            Thread.sleep(10)
+            Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+            producers.forEach { it.join() }
+
+            Assert.assertEquals(accepted.get(), completed.get())
+        }
+    }
+
+    // Work-stealing Executor tests
+
+    // The work-stealing executor runs tasks scheduled from outside and from inside the executor
+    @Test
+    fun testWorkStealingExecutor() {
+        val executor = cblService.workStealingExecutor
+        val n = 100
+        val latch = CountDownLatch(2 * n)
+        var outside = false
+
+        Assert.assertFalse(executor.isInsideExecutor())
+        repeat(n) {
+            executor.execute {
+                if (!executor.isInsideExecutor()) { outside = true }
+                executor.execute {
+                    if (!executor.isInsideExecutor()) { outside = true }
+                    latch.countDown()
+                }
+                latch.countDown()
+            }
+        }
+
+        Assert.assertTrue(latch.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+        Assert.assertFalse(outside)
+        Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+        Assert.assertEquals(0, executor.pending)
+
+        Assert.assertThrows(ExecutionService.CloseableExecutor.ExecutorClosedException::class.java) {
+            executor.execute { Log.d(LogDomain.DATABASE, "This test is about to fail!") }
+        }
+    }
+
     @Test
     fun testInsideSerialExecutor() {
         val executor = cblService.serialExecutor
@@ -432,4 +567,52 @@ class ExecutionServiceTest : BaseTest() {
         executor.execute { latch2.countDown() }
         Assert.assertTrue(latch2.await(2, TimeUnit.SECONDS))
     }
+
+    // Executors time the tasks they run, sample the time tasks wait, and count the tasks they reject
+    @Test
+    fun testExecutorStats() {
+        val serialStats = cblService.executorStats.first { it.name == "serial" }
+        val concurrentStats = cblService.executorStats.first { it.name == "concurrent" }
+
+        val n = 10
+        val executor = cblService.serialExecutor
+        repeat(n) { executor.execute { Thread.sleep(1) } }
+        Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+
+        val runTime = serialStats.runTime
+        Assert.assertEquals(n.toLong(), runTime.count)
+        // queue wait is sampled
+        Assert.assertTrue(serialStats.queueWait.count <= n.toLong())
+        Assert.assertTrue(runTime.maxNanos >= TimeUnit.MILLISECONDS.toNanos(1))
+        Assert.assertTrue(runTime.getNanosAtPercentile(50.0) <= runTime.maxNanos)
+
+        Assert.assertThrows(ExecutionService.CloseableExecutor.ExecutorClosedException::class.java) {
+            executor.execute { }
+        }
+        Assert.assertEquals(1L, serialStats.rejectedCount)
+
+        val concurrentExecutor = cblService.concurrentExecutor
+        Assert.assertTrue(concurrentExecutor.stop(0, TimeUnit.SECONDS))
+        Assert.assertThrows(ExecutionService.CloseableExecutor.ExecutorClosedException::class.java) {
+            concurrentExecutor.execute { }
+        }
+        Assert.assertEquals(1L, concurrentStats.rejectedCount)
+    }
+
+    // Bytes allocated by the current thread, or -1 if the platform cannot count them (e.g., Android).
+    // The JVM's counter is reached through reflection, so that this code compiles for Android.
+    private fun threadAllocatedBytes(): Long {
+        return try {
+            val bean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null)
+            val beanClass = Class.forName("com.sun.management.ThreadMXBean")
+            if (!beanClass.isInstance(bean)) {
+                -1L
+            } else {
+                beanClass.getMethod("getThreadAllocatedBytes", Long::class.javaPrimitiveType)
+                    .invoke(bean, Thread.currentThread().id) as Long
+            }
+        } catch (e: ReflectiveOperationException) {
+            -1L
+        }
+    }
 }
@@ -17,6 +17,7 @@ package com.couchbase.lite.internal.core;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
@@ -246,6 +247,43 @@ public class C4BlobStoreTest extends C4BaseTest {
         }
     }
 
+    // - write a blob from direct and heap buffers
+    @Test
+    public void testWriteBlobWithBuffers() throws LiteCoreException {
+        final byte[] line = "This is a line.\n".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(line.length * 10);
+        final ByteBuffer heap = ByteBuffer.allocate(line.length * 10);
+        for (int i = 0; i < 10; i++) {
+            direct.put(line);
+            heap.put(line);
+        }
+        direct.flip();
+        heap.flip();
+
+        C4BlobKey key = null;
+        try {
+            try (C4BlobWriteStream stream = blobStore.openWriteStream()) {
+                stream.write(direct);
+                Assert.assertEquals(0, direct.remaining());
+                stream.write(heap);
+                Assert.assertEquals(0, heap.remaining());
+
+                key = stream.computeBlobKey();
+                stream.install();
+            }
+
+            final byte[] contents = blobStore.getContents(key);
+            Assert.assertNotNull(contents);
+            Assert.assertEquals(line.length * 20, contents.length);
+            Assert.assertArrayEquals(line, Arrays.copyOfRange(contents, line.length * 15, line.length * 16));
+        }
+        finally {
+            if (key != null) {
+                try { key.close(); }
+                catch (Exception ignore) { }
+            }
+        }
+    }
 
     // - write blobs of many sizes
     @SlowTest
@@ -0,0 +1,150 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+// Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+// Unless required by applicable law or agreed to in writing, software distributed under the
+// License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+// either express or implied. See the License for the specific language governing permissions
+// and limitations under the License.
+//
+package com.couchbase.lite.internal.core
+
+import com.couchbase.lite.BaseTest
+import com.couchbase.lite.CouchbaseLiteError
+import org.junit.Assert
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+
+private const val MOCK_PEER = 0x0cab00d1eL
+
+private class TestPeer(sharedReads: Boolean) : C4NativePeer(MOCK_PEER, sharedReads) {
+    val released = AtomicBoolean(false)
+
+    fun read(fn: (Long) -> Long) = sharedWithPeerOrThrow<Long, RuntimeException> { fn(it) }
+
+    fun write(fn: (Long) -> Long) = withPeerOrThrow<Long, RuntimeException> { fn(it) }
+
+    override fun close() = releasePeer<RuntimeException>(null) { released.set(true) }
+}
+
+class C4NativePeerTest {
+    // Two shared calls on a peer with shared reads should run concurrently
+    @Test
+    fun testSharedReadsConcurrent() {
+        TestPeer(true).use { peer -> Assert.assertTrue(readConcurrently(peer)) }
+    }
+
+    // Without shared reads, shared calls are exclusive
+    @Test
+    fun testSharedReadsExclusive() {
+        TestPeer(false).use { peer -> Assert.assertFalse(readConcurrently(peer)) }
+    }
+
+    // An exclusive call must wait for a shared call in flight
+    @Test
+    fun testWriteWaitsForSharedRead() {
+        val peer = TestPeer(true)
+        val inRead = CountDownLatch(1)
+        val finishRead = CountDownLatch(1)
+        val wrote = CountDownLatch(1)
+
+        val reader = Thread {
+            peer.read {
+                inRead.countDown()
+                finishRead.await(BaseTest.STD_TIMEOUT_SEC, TimeUnit.SECONDS)
+                it
+            }
+        }
+        reader.start()
+        Assert.assertTrue(inRead.await(BaseTest.STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+
+        val writer = Thread {
+            peer.write { it }
+            wrote.countDown()
+        }
+        writer.start()
+
+        Assert.assertFalse(wrote.await(200, TimeUnit.MILLISECONDS))
+
+        finishRead.countDown()
+        Assert.assertTrue(wrote.await(BaseTest.STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+
+        reader.join()
+        writer.join()
+        peer.close()
+    }
+
+    // Releasing the peer must wait for a shared call in flight
+    @Test
+    fun testReleaseWaitsForSharedRead() {
+        val peer = TestPeer(true)
+        val inRead = CountDownLatch(1)
+        val finishRead = CountDownLatch(1)
+
+        val reader = Thread {
+            peer.read {
+                inRead.countDown()
+                finishRead.await(BaseTest.STD_TIMEOUT_SEC, TimeUnit.SECONDS)
+                it
+            }
+        }
+        reader.start()
+        Assert.assertTrue(inRead.await(BaseTest.STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+
+        val closer = Thread { peer.close() }
+        closer.start()
+
+        Thread.sleep(200)
+        Assert.assertFalse(peer.released.get())
+
+        finishRead.countDown()
+        closer.join(BaseTest.STD_TIMEOUT_MS)
+        Assert.assertTrue(peer.released.get())
+
+        reader.join()
+    }
+
+    // A shared call on a closed peer should throw
+    @Test
+    fun testSharedReadAfterClose() {
+        val peer = TestPeer(true)
+        peer.close()
+        Assert.assertThrows(CouchbaseLiteError::class.java) { peer.read { it } }
+    }
+
+    // A shared call nested in an exclusive call should not deadlock
+    @Test
+    fun testSharedReadInsideWrite() {
+        TestPeer(true).use { peer -> Assert.assertEquals(MOCK_PEER, peer.write { peer.read { p -> p } }) }
+    }
+
+    // Returns true if a second shared call can run while the first is in flight
+    private fun readConcurrently(peer: TestPeer): Boolean {
+        val inRead = CountDownLatch(1)
+        val concurrent = CountDownLatch(1)
+
+        val reader = Thread {
+            peer.read {
+                inRead.countDown()
+                concurrent.await(500, TimeUnit.MILLISECONDS)
+                it
+            }
+        }
+        reader.start()
+        Assert.assertTrue(inRead.await(BaseTest.STD_TIMEOUT_SEC, TimeUnit.SECONDS))
+
+        val second = Thread { peer.read { concurrent.countDown(); it } }
+        second.start()
+
+        val ok = concurrent.await(300, TimeUnit.MILLISECONDS)
+
+        reader.join()
+        second.join()
+
+        return ok
+    }
+}
@@ -25,8 +25,16 @@ const val JSON_QUERY =
 val mockMockQueryEnumerator = object : C4QueryEnumerator.NativeImpl {
     override fun nNext(peer: Long) = false
     override fun nFree(peer: Long) = Unit
+    override fun nFreeAll(peers: LongArray) = Unit
     override fun nGetColumns(peer: Long) = 0L
     override fun nGetMissingColumns(peer: Long) = 0L
+    override fun nNextBatch(
+        peer: Long,
+        maxRows: Int,
+        types: Array<ByteArray>,
+        values: Array<LongArray>,
+        strings: Array<Array<String?>?>
+    ) = 0
 }
 
 val mockNativeQueryObserver = object : C4QueryObserver.NativeImpl {
@@ -24,6 +24,7 @@ import org.junit.After
 import org.junit.Assert
 import org.junit.Before
 import org.junit.Test
+import java.nio.ByteBuffer
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 
@@ -70,6 +71,7 @@ open class MockImpl : C4Socket.NativeImpl {
 
     override fun nCompletedWrite(peer: Long, nBytes: Long) = verifyPeer(peer)
     override fun nReceived(peer: Long, data: ByteArray?) = verifyPeer(peer)
+    override fun nReceivedBuffer(peer: Long, data: ByteBuffer?, offset: Int, len: Int) = verifyPeer(peer)
     override fun nCloseRequested(peer: Long, status: Int, message: String?) = verifyPeer(peer)
     override fun nClosed(peer: Long, domain: Int, code: Int, message: String?) {
         verifyPeer(peer)
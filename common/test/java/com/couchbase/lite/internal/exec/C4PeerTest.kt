@@ -22,6 +22,7 @@ import com.couchbase.lite.internal.core.C4Peer.PeerCleaner
 import com.couchbase.lite.internal.exec.Cleaner.Cleanable
 import org.junit.Assert
 import org.junit.Test
+import java.util.Collections
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicBoolean
@@ -41,6 +42,18 @@ class C4PeerTest : BaseTest() {
         // ??? Difficult to verify the removal of the ref, because it happens only after a GC.
     }
 
+    // Verify that concurrent registration and cleaning keep the striped alive set consistent
+    @Test
+    fun testConcurrentCleanerRefs() {
+        val cleaner = Cleaner("concurrentRefsTest", 1000)
+        val keep = registerAndClean(cleaner, 8, 1000)
+        Assert.assertEquals(1 + keep.size, cleaner.stats.alive.size)
+        keep.forEach { it.second.clean(false) }
+        val stats = cleaner.stats
+        Assert.assertEquals(1, stats.alive.size)
+        Assert.assertTrue(stats.maxSize >= stats.minSize)
+    }
+
     // Verify that a ref added to the CleanerImpl's ref queue is cleaned
     // ??? There is no way to add things to a ReferenceQueue, explicitly, though.
 
@@ -95,6 +108,55 @@ class C4PeerTest : BaseTest() {
         }
     }
 
+    // Verify that a cleaner with several threads finalizes peers.
+    // This test will throw an OOM on failure!
+    @Test
+    fun testFinalizePeerMultithreaded() {
+        val cleaner = Cleaner("multithreadedFinalizerTest", 1000)
+        cleaner.setThreadCount(4)
+        val visited = AtomicInteger()
+        try {
+            while (visited.get() < 100) {
+                cleaner.register(Any()) { visited.incrementAndGet() }
+            }
+        } catch (e: OutOfMemoryError) {
+            throw AssertionError("Cleaner did not run")
+        } finally {
+            cleaner.stop()
+        }
+    }
+
+    // Verify that finalized peers that share a BatchPeerCleaner are freed with disposeAll
+    // This test will throw an OOM on failure!
+    @Test
+    fun testFinalizePeerBatched() {
+        val freed = AtomicInteger()
+        val single = AtomicInteger()
+        val batchCleaner = object : C4Peer.BatchPeerCleaner {
+            override fun dispose(peer: Long) {
+                single.incrementAndGet()
+            }
+
+            override fun disposeAll(peers: LongArray) {
+                freed.addAndGet(peers.size)
+            }
+        }
+
+        try {
+            var n = 1L
+            while (freed.get() < 100) {
+                object : C4Peer(n++, batchCleaner, true) {}
+            }
+        } catch (e: OutOfMemoryError) {
+            throw AssertionError("Peers were not freed")
+        }
+
+        Assert.assertEquals(0, single.get())
+        val stats = C4Peer.getDisposerStats()
+        Assert.assertTrue(stats.batches > 0)
+        Assert.assertTrue(stats.peersFreed >= 100)
+    }
+
     // Verify that stopping a cleaner kills its threads within the specified timeout,
     // even if there are no queued cleanables
     @Test
@@ -175,4 +237,29 @@ class C4PeerTest : BaseTest() {
             peerCleaner.stopCleaner()
         }
     }
-}
\ No newline at end of file
+
+    // Each thread registers and then cleans `ops` objects, keeping every 100th.
+    // Returns the kept objects, and their cleanables.
+    private fun registerAndClean(cleaner: Cleaner, threads: Int, ops: Int): List<Pair<Any, Cleanable>> {
+        val kept = Collections.synchronizedList(mutableListOf<Pair<Any, Cleanable>>())
+        val objs = Array(threads) { Array(ops) { Any() } }
+        val start = CountDownLatch(1)
+        val done = CountDownLatch(threads)
+        for (t in 0 until threads) {
+            Thread {
+                start.await()
+                try {
+                    for (i in 0 until ops) {
+                        val ref = cleaner.register(objs[t][i]) { _ -> }
+                        if ((i % 100) == 0) kept.add(objs[t][i] to ref) else ref.clean(false)
+                    }
+                } finally {
+                    done.countDown()
+                }
+            }.start()
+        }
+        start.countDown()
+        Assert.assertTrue(done.await(LONG_TIMEOUT_SEC, TimeUnit.SECONDS))
+        return kept
+    }
+}
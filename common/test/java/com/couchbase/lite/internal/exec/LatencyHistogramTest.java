@@ -0,0 +1,64 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.exec;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.couchbase.lite.BaseTest;
+
+
+public class LatencyHistogramTest extends BaseTest {
+    // Every value falls in the bucket whose bounds contain it, and adjacent buckets don't overlap
+    @Test
+    public void testBuckets() {
+        final long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long v: values) {
+            final int i = LatencyHistogram.bucketIndex(v);
+            Assert.assertTrue(LatencyHistogram.bucketLowerBound(i) <= v);
+            Assert.assertTrue(LatencyHistogram.bucketUpperBound(i) >= v);
+            Assert.assertEquals(LatencyHistogram.bucketUpperBound(i) + 1, LatencyHistogram.bucketLowerBound(i + 1));
+        }
+    }
+
+    @Test
+    public void testEmptySnapshot() {
+        final LatencyHistogram.Snapshot snapshot = new LatencyHistogram().getSnapshot();
+        Assert.assertEquals(0, snapshot.getCount());
+        Assert.assertEquals(0.0, snapshot.getMeanNanos(), 0.0);
+        Assert.assertEquals(0, snapshot.getNanosAtPercentile(99));
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) { histogram.record(i * 1000L); }
+
+        final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(1000, snapshot.getCount());
+        Assert.assertEquals(1_000_000, snapshot.getMaxNanos());
+        Assert.assertEquals(500_500.0, snapshot.getMeanNanos(), 0.001);
+        assertWithin(500_000, snapshot.getNanosAtPercentile(50));
+        assertWithin(990_000, snapshot.getNanosAtPercentile(99));
+        Assert.assertEquals(1_000_000, snapshot.getNanosAtPercentile(100));
+    }
+
+    // Buckets are never more than 1/8 of their lower bound wide
+    private void assertWithin(long expected, long actual) {
+        Assert.assertTrue(actual >= expected);
+        Assert.assertTrue(actual <= expected + (expected / 8));
+    }
+}
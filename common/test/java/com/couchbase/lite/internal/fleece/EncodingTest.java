@@ -18,6 +18,8 @@ package com.couchbase.lite.internal.fleece;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -140,6 +142,72 @@ public class EncodingTest extends BaseTest {
             null);
     }
 
+    // Unchanged entries of a mutated dictionary are copied from the base dictionary
+    @Test
+    public void testEncodeMutatedDict() throws LiteCoreException {
+        final Map<String, Object> nested = new HashMap<>();
+        nested.put("a", 1L);
+        nested.put("b", "bee");
+
+        final Map<String, Object> expected = new HashMap<>();
+        for (int i = 0; i < 20; i++) { expected.put("key-" + i, "value-" + i); }
+        expected.put("nested", nested);
+
+        final byte[] data = FLEncoder.encodeMap(expected);
+        Assert.assertNotNull(data);
+        final MDict dict = new MDict(new MDict(new MValue(FLValue.fromData(data)), null), true);
+
+        // read some, without changing them
+        dict.get("key-1");
+        dict.get("key-2");
+
+        dict.set("key-3", new MValue("changed"));
+        expected.put("key-3", "changed");
+        dict.remove("key-4");
+        expected.remove("key-4");
+        dict.set("new", new MValue(42L));
+        expected.put("new", 42L);
+
+        try (FLEncoder encoder = FLEncoder.getManagedEncoder()) {
+            dict.encodeTo(encoder);
+            Assert.assertEquals(expected, FLValue.fromData(encoder.finish()).toJava());
+        }
+    }
+
+    // A slice's buffer view frames the same bytes as its copied content
+    @Test
+    public void testSliceAsByteBuffer() throws LiteCoreException {
+        final byte[] blob = "Sweet and lovely".getBytes(StandardCharsets.UTF_8);
+        final Map<String, Object> map = new HashMap<>();
+        map.put("data", blob);
+
+        try (FLEncoder encoder = FLEncoder.getManagedEncoder()) {
+            encoder.write(map);
+            try (FLSliceResult slice = encoder.finish2()) {
+                final byte[] content = slice.getContent();
+                Assert.assertNotNull(content);
+
+                final ByteBuffer buf = slice.asByteBuffer();
+                Assert.assertTrue(buf.isDirect());
+                Assert.assertTrue(buf.isReadOnly());
+                Assert.assertEquals(content.length, buf.remaining());
+                final byte[] viewed = new byte[buf.remaining()];
+                buf.get(viewed);
+                Assert.assertArrayEquals(content, viewed);
+
+                final FLValue data = FLValue.fromData(slice).asFLDict().get("data");
+                Assert.assertNotNull(data);
+                final ByteBuffer dataBuf = data.asByteBuffer();
+                Assert.assertNotNull(dataBuf);
+                final byte[] dataBytes = new byte[dataBuf.remaining()];
+                dataBuf.get(dataBytes);
+                Assert.assertArrayEquals(blob, dataBytes);
+
+                Assert.assertNull(FLValue.fromData(slice).asByteBuffer());
+            }
+        }
+    }
+
     private void testRoundTrip(Object item) throws LiteCoreException { testRoundTrip(item, item); }
 
     private void testRoundTrip(Object item, Object expected) throws LiteCoreException {
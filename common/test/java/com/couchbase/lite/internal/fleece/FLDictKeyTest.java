@@ -0,0 +1,71 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.fleece;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.couchbase.lite.BaseTest;
+
+
+public class FLDictKeyTest extends BaseTest {
+    @Test
+    public void testGetWithKey() {
+        final FLDict dict = createDict(10);
+        try (FLDictKey key = FLDictKey.create("key-3"); FLDictKey missing = FLDictKey.create("nope")) {
+            final FLValue val = dict.get(key);
+            Assert.assertNotNull(val);
+            Assert.assertEquals("value-3", val.asString());
+
+            // the second lookup may use the cached shared key
+            final FLValue again = dict.get(key);
+            Assert.assertNotNull(again);
+            Assert.assertEquals("value-3", again.asString());
+
+            Assert.assertNull(dict.get(missing));
+        }
+    }
+
+    @Test
+    public void testKeyUsableWithManyDicts() {
+        try (FLDictKey key = FLDictKey.create("key-0")) {
+            for (int i = 1; i < 10; i++) {
+                final FLValue val = createDict(i).get(key);
+                Assert.assertNotNull(val);
+                Assert.assertEquals("value-0", val.asString());
+            }
+            Assert.assertNull(createDict(0).get(key));
+        }
+    }
+
+    @Test
+    public void testClosedKey() {
+        final FLDictKey key = FLDictKey.create("key-1");
+        key.close();
+        Assert.assertNull(createDict(5).get(key));
+    }
+
+    private FLDict createDict(int n) {
+        final Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < n; i++) { map.put("key-" + i, "value-" + i); }
+        final byte[] data = FLEncoder.encodeMap(map);
+        Assert.assertNotNull(data);
+        return FLValue.fromData(data).asFLDict();
+    }
+}
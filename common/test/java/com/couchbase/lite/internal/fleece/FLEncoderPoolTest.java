@@ -0,0 +1,90 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.fleece;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.couchbase.lite.BaseTest;
+import com.couchbase.lite.LiteCoreException;
+
+
+public class FLEncoderPoolTest extends BaseTest {
+    @Test
+    public void testEncoderIsReused() {
+        final FLEncoderPool pool = FLEncoder.createEncoderPool("test", 2);
+
+        final FLEncoder enc1 = pool.acquire();
+        enc1.close();
+        Assert.assertEquals(0, pool.getHits());
+        Assert.assertEquals(1, pool.getMisses());
+
+        final FLEncoder enc2 = pool.acquire();
+        Assert.assertSame(enc1, enc2);
+        Assert.assertEquals(1, pool.getHits());
+        Assert.assertEquals(0.5, pool.getHitRate(), 0.001);
+        enc2.close();
+    }
+
+    @Test
+    public void testCloseResetsEncoder() throws LiteCoreException {
+        final FLEncoderPool pool = FLEncoder.createEncoderPool("test", 2);
+
+        try (FLEncoder enc = pool.acquire()) {
+            enc.setArg("foo", "bar");
+            enc.beginDict(1);
+            enc.writeKey("abandoned");
+        }
+
+        final Map<String, Object> map = new HashMap<>();
+        map.put("key", "value");
+        try (FLEncoder enc = pool.acquire()) {
+            Assert.assertEquals(1, pool.getHits());
+            Assert.assertNull(enc.getArg("foo"));
+            enc.write(map);
+            Assert.assertEquals(map, FLValue.fromData(enc.finish()).toJava());
+        }
+    }
+
+    @Test
+    public void testCloseTwice() {
+        final FLEncoderPool pool = FLEncoder.createEncoderPool("test", 2);
+
+        final FLEncoder enc = pool.acquire();
+        enc.close();
+        enc.close();
+
+        Assert.assertNotSame(pool.acquire(), pool.acquire());
+        Assert.assertEquals(1, pool.getHits());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        final FLEncoderPool pool = FLEncoder.createEncoderPool("test", 2);
+
+        final List<FLEncoder> encoders = new ArrayList<>();
+        for (int i = 0; i < 5; i++) { encoders.add(pool.acquire()); }
+        for (FLEncoder enc: encoders) { enc.close(); }
+
+        Assert.assertEquals(5, pool.getMisses());
+        Assert.assertEquals(3, pool.getDiscards());
+    }
+}
@@ -0,0 +1,158 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.fleece;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.couchbase.lite.BaseTest;
+import com.couchbase.lite.LiteCoreException;
+
+
+public class MArrayTest extends BaseTest {
+    @Test
+    public void testSparseGet() {
+        final MArray array = createArray(1000);
+        Assert.assertEquals(1000, array.count());
+        Assert.assertEquals(0L, array.get(0).toJFleece(array));
+        Assert.assertEquals(999L, array.get(999).toJFleece(array));
+        Assert.assertSame(array.get(500), array.get(500));
+        Assert.assertTrue(array.get(1000).isEmpty());
+        Assert.assertTrue(array.get(-1).isEmpty());
+    }
+
+    @Test
+    public void testUnmutatedEncode() throws LiteCoreException {
+        final MArray array = new MArray(createArray(100), true);
+        array.get(50);
+        Assert.assertEquals(createList(100), roundTrip(array));
+    }
+
+    @Test
+    public void testSetAndAppend() throws LiteCoreException {
+        final MArray array = new MArray(createArray(200), true);
+        final List<Object> expected = createList(200);
+
+        Assert.assertTrue(array.set(3, "three"));
+        expected.set(3, "three");
+        Assert.assertTrue(array.set(150, "one fifty"));
+        expected.set(150, "one fifty");
+        Assert.assertTrue(array.append("end"));
+        expected.add("end");
+        Assert.assertTrue(array.set(200, "new end"));
+        expected.set(200, "new end");
+        Assert.assertFalse(array.set(201, "nope"));
+
+        Assert.assertEquals(201, array.count());
+        Assert.assertEquals("three", array.get(3).toJFleece(array));
+        Assert.assertEquals(4L, array.get(4).toJFleece(array));
+        Assert.assertEquals(expected, roundTrip(array));
+    }
+
+    @Test
+    public void testInsertAndRemove() throws LiteCoreException {
+        final MArray array = new MArray(createArray(100), true);
+        final List<Object> expected = createList(100);
+
+        array.set(10, "ten");
+        expected.set(10, "ten");
+
+        Assert.assertTrue(array.insert(5, "five"));
+        expected.add(5, "five");
+        Assert.assertEquals(expected, roundTrip(array));
+
+        Assert.assertTrue(array.remove(20, 10));
+        expected.subList(20, 30).clear();
+        Assert.assertEquals(expected, roundTrip(array));
+        Assert.assertEquals(expected.size(), array.count());
+    }
+
+    @Test
+    public void testTruncate() throws LiteCoreException {
+        final MArray array = new MArray(createArray(100), true);
+        array.append("end");
+
+        Assert.assertTrue(array.remove(90, 11));
+        Assert.assertEquals(90, array.count());
+        Assert.assertEquals(createList(90), roundTrip(array));
+
+        Assert.assertTrue(array.append("end"));
+        Assert.assertEquals("end", array.get(90).toJFleece(array));
+        Assert.assertFalse(array.remove(80, 20));
+    }
+
+    @Test
+    public void testClear() throws LiteCoreException {
+        final MArray array = new MArray(createArray(100), true);
+        array.clear();
+        Assert.assertEquals(0, array.count());
+        Assert.assertEquals(new ArrayList<>(), roundTrip(array));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final MArray array = new MArray(createArray(100), true);
+        array.set(1, "one");
+
+        final MArray copy = new MArray(array, true);
+        copy.set(1, "uno");
+        copy.append("end");
+
+        Assert.assertEquals("one", array.get(1).toJFleece(array));
+        Assert.assertEquals(100, array.count());
+        Assert.assertEquals(101, copy.count());
+    }
+
+    // A copy may be guarded by a different lock than its original: it must not share their MValues
+    @Test
+    public void testCopySharesNoValues() {
+        final MArray array = new MArray(createArray(100), true);
+        array.get(3).toJFleece(array);
+        array.set(1, "one");
+
+        final MArray copy = new MArray(array, true);
+        Assert.assertNotSame(array.get(1), copy.get(1));
+        Assert.assertNotSame(array.get(3), copy.get(3));
+        Assert.assertEquals("one", copy.get(1).toJFleece(copy));
+        Assert.assertEquals(array.get(3).toJFleece(array), copy.get(3).toJFleece(copy));
+    }
+
+    private MArray createArray(int n) {
+        final byte[] data;
+        try (FLEncoder enc = FLEncoder.getManagedEncoder()) {
+            enc.write(createList(n));
+            data = enc.finish();
+        }
+        catch (LiteCoreException e) { throw new AssertionError("Failed encoding array", e); }
+        return new MArray(new MValue(FLValue.fromData(data)), null);
+    }
+
+    private List<Object> createList(int n) {
+        final List<Object> list = new ArrayList<>(n);
+        for (long i = 0; i < n; i++) { list.add(i); }
+        return list;
+    }
+
+    private Object roundTrip(MArray array) throws LiteCoreException {
+        try (FLEncoder enc = FLEncoder.getManagedEncoder()) {
+            array.encodeTo(enc);
+            return FLValue.fromData(enc.finish()).toJava();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal.fleece;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.couchbase.lite.BaseTest;
+
+
+public class MValueMapTest extends BaseTest {
+    @Test
+    public void testEmptyMap() {
+        final MValueMap map = new MValueMap();
+        Assert.assertEquals(0, map.size());
+        Assert.assertEquals(0, map.capacity());
+        Assert.assertNull(map.get("foo"));
+        Assert.assertFalse(map.containsKey("foo"));
+    }
+
+    @Test
+    public void testPutGet() {
+        final MValueMap map = new MValueMap();
+        final MValue val1 = new MValue("bar");
+        final MValue val2 = new MValue("baz");
+
+        map.put("foo", val1);
+        Assert.assertEquals(1, map.size());
+        Assert.assertSame(val1, map.get("foo"));
+
+        map.put("foo", val2);
+        Assert.assertEquals(1, map.size());
+        Assert.assertSame(val2, map.get("foo"));
+
+        map.put("bar", MValue.EMPTY);
+        Assert.assertEquals(2, map.size());
+        Assert.assertTrue(map.containsKey("bar"));
+        Assert.assertNull(map.get("baz"));
+    }
+
+    @Test
+    public void testGrowAndIterate() {
+        final MValueMap map = new MValueMap();
+        final Map<String, MValue> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            final MValue val = new MValue(i);
+            map.put("key-" + i, val);
+            expected.put("key-" + i, val);
+        }
+        Assert.assertEquals(1000, map.size());
+
+        int n = 0;
+        for (int i = 0; i < map.capacity(); i++) {
+            final String key = map.keyAt(i);
+            if (key == null) { continue; }
+            Assert.assertSame(expected.get(key), map.valueAt(i));
+            n++;
+        }
+        Assert.assertEquals(1000, n);
+
+        for (Map.Entry<String, MValue> entry: expected.entrySet()) {
+            Assert.assertSame(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final MValueMap map = new MValueMap();
+        map.put("foo", new MValue("bar"));
+
+        final MValueMap copy = new MValueMap(map);
+        copy.put("baz", new MValue("qux"));
+        Assert.assertEquals(2, copy.size());
+        Assert.assertNotNull(copy.get("foo"));
+
+        Assert.assertEquals(1, map.size());
+        Assert.assertNull(map.get("baz"));
+    }
+
+    // A copy may be guarded by a different lock than its original: it must not share their MValues
+    @Test
+    public void testCopySharesNoValues() {
+        final MValueMap map = new MValueMap();
+        map.put("foo", new MValue("bar"));
+        map.put("gone", MValue.EMPTY);
+
+        final MValueMap copy = new MValueMap(map);
+        Assert.assertNotSame(map.get("foo"), copy.get("foo"));
+        Assert.assertEquals("bar", copy.get("foo").toJFleece(null));
+        Assert.assertSame(MValue.EMPTY, copy.get("gone"));
+    }
+
+    @Test
+    public void testClear() {
+        final MValueMap map = new MValueMap();
+        map.put("foo", new MValue("bar"));
+        map.clear();
+        Assert.assertEquals(0, map.size());
+        Assert.assertNull(map.get("foo"));
+
+        map.put("foo", new MValue("baz"));
+        Assert.assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testMDictKeys() {
+        final MDict dict = new MDict(new MValue(createDoc(30, 0)), null);
+        Assert.assertEquals(30, dict.count());
+
+        final List<String> keys = dict.getKeys();
+        Assert.assertEquals(30, keys.size());
+        for (String key: keys) { Assert.assertFalse(dict.get(key).isEmpty()); }
+
+        final Set<String> uniqueKeys = new HashSet<>(dict.getKeys());
+        Assert.assertEquals(30, uniqueKeys.size());
+    }
+
+    // Reading a value that is not a collection, from an unchanged dict, caches nothing
+    @Test
+    public void testMDictScalarReadsAreNotCached() {
+        final MDict dict = new MDict(new MValue(createDoc(30, 0)), null);
+        for (String key: dict.getKeys()) {
+            Assert.assertNotNull(dict.getJFleece(key));
+            Assert.assertNotNull(dict.getFLValue(key));
+            Assert.assertFalse(dict.get(key).isEmpty());
+        }
+        Assert.assertEquals(0, dict.getCachedCount());
+    }
+
+    // A collection is cached when it is read: it must keep its identity
+    @Test
+    public void testMDictCollectionReadsAreCached() {
+        final MDict dict = new MDict(new MValue(createDoc(3, 1)), null);
+        final Object child = dict.getJFleece("field-1");
+        Assert.assertNotNull(child);
+        Assert.assertSame(child, dict.getJFleece("field-1"));
+        Assert.assertEquals(1, dict.getCachedCount());
+    }
+
+    private FLValue createDoc(int fields, int depth) {
+        final byte[] data = FLEncoder.encodeMap(createMap(fields, depth));
+        Assert.assertNotNull(data);
+        return FLValue.fromData(data);
+    }
+
+    private Map<String, Object> createMap(int fields, int depth) {
+        final Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < fields; i++) {
+            final String key = "field-" + i;
+            if (depth > 0) { map.put(key, createMap(fields, depth - 1)); }
+            else if ((i % 3) == 0) { map.put(key, "value-" + i); }
+            else if ((i % 3) == 1) { map.put(key, (long) i); }
+            else { map.put(key, i * 1.5); }
+        }
+        return map;
+    }
+}
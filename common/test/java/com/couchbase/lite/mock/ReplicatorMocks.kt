@@ -21,6 +21,7 @@ import com.couchbase.lite.internal.core.C4Replicator
 import com.couchbase.lite.internal.core.C4ReplicatorStatus
 import com.couchbase.lite.internal.core.C4Socket
 import com.couchbase.lite.internal.fleece.FLSliceResult
+import java.nio.ByteBuffer
 
 open class MockNativeSocket : C4Socket.NativeImpl {
     override fun nCreated(peer: Long) = Unit
@@ -38,6 +39,7 @@ open class MockNativeSocket : C4Socket.NativeImpl {
     override fun nGotHTTPResponse(peer: Long, httpStatus: Int, responseHeadersFleece: ByteArray?) = Unit
     override fun nCompletedWrite(peer: Long, byteCount: Long) = Unit
     override fun nReceived(peer: Long, data: ByteArray?) = Unit
+    override fun nReceivedBuffer(peer: Long, data: ByteBuffer?, offset: Int, len: Int) = Unit
     override fun nCloseRequested(peer: Long, status: Int, message: String?) = Unit
     override fun nClosed(peer: Long, errorDomain: Int, errorCode: Int, message: String?) = Unit
 }
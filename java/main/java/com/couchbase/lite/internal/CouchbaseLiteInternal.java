@@ -105,7 +105,8 @@ public final class CouchbaseLiteInternal {
     public static ExecutionService getExecutionService() {
         final ExecutionService executionService = EXECUTION_SERVICE.get();
         if (executionService != null) { return executionService; }
-        EXECUTION_SERVICE.compareAndSet(null, new JavaExecutionService());
+        final JavaExecutionService newService = new JavaExecutionService();
+        if (EXECUTION_SERVICE.compareAndSet(null, newService)) { newService.registerMBeans(); }
         return EXECUTION_SERVICE.get();
     }
 
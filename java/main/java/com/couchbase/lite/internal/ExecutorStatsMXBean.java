@@ -0,0 +1,45 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal;
+
+/**
+ * JMX view of the statistics for one of the execution service's executors.
+ * Registered as com.couchbase.lite:type=Executor,name=&lt;executor name&gt;.
+ * Times are in microseconds.
+ */
+public interface ExecutorStatsMXBean {
+    String getName();
+
+    long getCompletedTaskCount();
+
+    long getRejectedTaskCount();
+
+    double getQueueWaitMeanMicros();
+
+    double getQueueWaitP50Micros();
+
+    double getQueueWaitP99Micros();
+
+    double getQueueWaitMaxMicros();
+
+    double getRunTimeMeanMicros();
+
+    double getRunTimeP50Micros();
+
+    double getRunTimeP99Micros();
+
+    double getRunTimeMaxMicros();
+}
@@ -16,20 +16,28 @@
 package com.couchbase.lite.internal;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import com.couchbase.lite.LogDomain;
 import com.couchbase.lite.internal.exec.AbstractExecutionService;
 import com.couchbase.lite.internal.exec.CBLExecutor;
+import com.couchbase.lite.internal.exec.ExecutorStats;
 import com.couchbase.lite.internal.exec.ExecutorUtils;
 import com.couchbase.lite.internal.logging.Log;
 import com.couchbase.lite.internal.utils.Preconditions;
@@ -37,11 +45,69 @@ import com.couchbase.lite.internal.utils.Preconditions;
 
 /**
  * ExecutionService for Java.
+ * <p>
+ * On a JVM that supports virtual threads (Java 21+), a listener that was registered without an executor
+ * gets its own serial executor, which runs the listener's notifications, in order, on virtual threads:
+ * a listener that blocks does not hold up other listeners.  Set the system property
+ * "com.couchbase.lite.virtualThreads" to "false" to deliver all such notifications on the default executor.
+ * <p>
+ * The library's own serial and concurrent executors stay on the pool: its per-thread caches
+ * (e.g., blob keys and string buffers) would be rebuilt for every task on a new virtual thread.
+ * The default executor and the scheduler are single platform threads.
  */
 public class JavaExecutionService extends AbstractExecutionService {
+    public static final String PROP_VIRTUAL_THREADS = "com.couchbase.lite.virtualThreads";
+
+    private static final String WORKER_NAME = "CBL worker";
+
     //---------------------------------------------
     // Types
     //---------------------------------------------
+    // Exposes an executor's statistics through JMX
+    private static final class ExecutorStatsBean implements ExecutorStatsMXBean {
+        private static final double NANOS_PER_MICRO = 1000.0;
+
+        @NonNull
+        private final ExecutorStats stats;
+
+        ExecutorStatsBean(@NonNull ExecutorStats stats) { this.stats = stats; }
+
+        private static double toMicros(double nanos) { return nanos / NANOS_PER_MICRO; }
+
+        @Override
+        public String getName() { return stats.getName(); }
+
+        @Override
+        public long getCompletedTaskCount() { return stats.getRunTime().getCount(); }
+
+        @Override
+        public long getRejectedTaskCount() { return stats.getRejectedCount(); }
+
+        @Override
+        public double getQueueWaitMeanMicros() { return toMicros(stats.getQueueWait().getMeanNanos()); }
+
+        @Override
+        public double getQueueWaitP50Micros() { return toMicros(stats.getQueueWait().getNanosAtPercentile(50)); }
+
+        @Override
+        public double getQueueWaitP99Micros() { return toMicros(stats.getQueueWait().getNanosAtPercentile(99)); }
+
+        @Override
+        public double getQueueWaitMaxMicros() { return toMicros(stats.getQueueWait().getMaxNanos()); }
+
+        @Override
+        public double getRunTimeMeanMicros() { return toMicros(stats.getRunTime().getMeanNanos()); }
+
+        @Override
+        public double getRunTimeP50Micros() { return toMicros(stats.getRunTime().getNanosAtPercentile(50)); }
+
+        @Override
+        public double getRunTimeP99Micros() { return toMicros(stats.getRunTime().getNanosAtPercentile(99)); }
+
+        @Override
+        public double getRunTimeMaxMicros() { return toMicros(stats.getRunTime().getMaxNanos()); }
+    }
+
     private static final class CancellableTask implements Cancellable {
         private final Future<?> future;
 
@@ -60,17 +126,26 @@ public class JavaExecutionService extends AbstractExecutionService {
     //---------------------------------------------
     private final Executor defaultExecutor;
     private final ScheduledExecutorService scheduler;
+    // Starts a virtual thread for each task, or null if listeners share the default executor
+    @Nullable
+    private final ExecutorService listenerExecutor;
+    @NonNull
+    private final ExecutorStats listenerStats = new ExecutorStats("listener");
 
     //---------------------------------------------
     // Constructor
     //---------------------------------------------
-    public JavaExecutionService() { this(new CBLExecutor("CBL worker")); }
+    public JavaExecutionService() { this(new CBLExecutor(WORKER_NAME), createListenerExecutor()); }
+
+    @VisibleForTesting
+    public JavaExecutionService(@NonNull ExecutorService executor) { this(executor, null); }
 
     @VisibleForTesting
-    public JavaExecutionService(@NonNull ThreadPoolExecutor executor) {
+    JavaExecutionService(@NonNull ExecutorService executor, @Nullable ExecutorService listenerExecutor) {
         super(executor);
         defaultExecutor = Executors.newSingleThreadExecutor();
         scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.listenerExecutor = listenerExecutor;
     }
 
     //---------------------------------------------
@@ -80,6 +155,20 @@ public class JavaExecutionService extends AbstractExecutionService {
     @Override
     public Executor getDefaultExecutor() { return defaultExecutor; }
 
+    @NonNull
+    @Override
+    public Executor getListenerExecutor() {
+        return (listenerExecutor == null) ? defaultExecutor : getSerialExecutor(listenerExecutor, listenerStats);
+    }
+
+    @NonNull
+    @Override
+    public List<ExecutorStats> getExecutorStats() {
+        final List<ExecutorStats> stats = super.getExecutorStats();
+        if (listenerExecutor != null) { stats.add(listenerStats); }
+        return stats;
+    }
+
     @NonNull
     @Override
     public Cancellable postDelayedOnExecutor(long delayMs, @NonNull Executor executor, @NonNull Runnable task) {
@@ -103,6 +192,22 @@ public class JavaExecutionService extends AbstractExecutionService {
         return new CancellableTask(future);
     }
 
+    // Register this service's executor statistics with the platform MBean server,
+    // replacing any previously registered statistics with the same names.
+    public void registerMBeans() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ExecutorStats stats: getExecutorStats()) {
+            try {
+                final ObjectName name = getMBeanName(stats);
+                if (server.isRegistered(name)) { server.unregisterMBean(name); }
+                server.registerMBean(new ExecutorStatsBean(stats), name);
+            }
+            catch (JMException e) {
+                Log.i(LogDomain.DATABASE, "Failed registering executor statistics: " + stats.getName(), e);
+            }
+        }
+    }
+
     public void shutdown() {
         ExecutorUtils.shutdownAndAwaitTermination(
                 (ExecutorService) defaultExecutor, 5, LogDomain.DATABASE
@@ -111,6 +216,55 @@ public class JavaExecutionService extends AbstractExecutionService {
         if (scheduler != null) {
             ExecutorUtils.shutdownAndAwaitTermination(scheduler, 5, LogDomain.DATABASE);
         }
+        if (listenerExecutor != null) {
+            ExecutorUtils.shutdownAndAwaitTermination(listenerExecutor, 5, LogDomain.DATABASE);
+        }
         getConcurrentExecutor().stop(5, TimeUnit.SECONDS);
+        getWorkStealingExecutor().stop(5, TimeUnit.SECONDS);
+    }
+
+    //---------------------------------------------
+    // Package methods
+    //---------------------------------------------
+
+    @NonNull
+    static ObjectName getMBeanName(@NonNull ExecutorStats stats) throws JMException {
+        return new ObjectName("com.couchbase.lite:type=Executor,name=" + ObjectName.quote(stats.getName()));
+    }
+
+    // Deliver listener notifications on virtual threads if they are available and haven't been disabled.
+    // Returns null if listeners should share the default executor.
+    @Nullable
+    static ExecutorService createListenerExecutor() {
+        if ("false".equalsIgnoreCase(System.getProperty(PROP_VIRTUAL_THREADS))) { return null; }
+
+        final ExecutorService executor = createVirtualThreadExecutor("CBL listener (virtual) #");
+        if (executor != null) { Log.i(LogDomain.DATABASE, "Using virtual threads for listeners"); }
+        return executor;
+    }
+
+    // Returns an executor that starts a new virtual thread for each task,
+    // or null if this JVM does not support virtual threads.
+    // This code must compile for older JVMs: it uses the Java 21 API through reflection.
+    @Nullable
+    static ExecutorService createVirtualThreadExecutor(@NonNull String namePrefix) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            final Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        }
+        catch (ClassNotFoundException | NoSuchMethodException e) {
+            Log.d(LogDomain.DATABASE, "Virtual threads are not available");
+        }
+        // preview API disabled, security manager, etc.
+        catch (Exception e) {
+            Log.i(LogDomain.DATABASE, "Failed creating a virtual thread executor", e);
+        }
+
+        return null;
     }
 }
@@ -0,0 +1,165 @@
+//
+// Copyright (c) 2026 Couchbase, Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+package com.couchbase.lite.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.couchbase.lite.BaseTest;
+import com.couchbase.lite.internal.exec.CBLExecutor;
+import com.couchbase.lite.internal.exec.ExecutionService;
+import com.couchbase.lite.internal.exec.ExecutorStats;
+
+
+public class JavaExecutionServiceTest extends BaseTest {
+    @Test
+    public void testVirtualThreadsDisabled() {
+        final String prop = System.getProperty(JavaExecutionService.PROP_VIRTUAL_THREADS);
+        System.setProperty(JavaExecutionService.PROP_VIRTUAL_THREADS, "false");
+        try { Assert.assertNull(JavaExecutionService.createListenerExecutor()); }
+        finally {
+            if (prop == null) { System.clearProperty(JavaExecutionService.PROP_VIRTUAL_THREADS); }
+            else { System.setProperty(JavaExecutionService.PROP_VIRTUAL_THREADS, prop); }
+        }
+    }
+
+    @Test
+    public void testVirtualSerialExecutor() throws InterruptedException {
+        final JavaExecutionService service = createVirtualThreadService();
+        final ExecutionService.CloseableExecutor executor = service.getSerialExecutor();
+
+        final int n = 100;
+        final List<Integer> order = new ArrayList<>();
+        final AtomicBoolean inside = new AtomicBoolean(true);
+        final CountDownLatch latch = new CountDownLatch(n);
+        for (int i = 0; i < n; i++) {
+            final int id = i;
+            executor.execute(() -> {
+                if (!executor.isInsideExecutor()) { inside.set(false); }
+                synchronized (order) { order.add(id); }
+                latch.countDown();
+            });
+        }
+
+        Assert.assertTrue(latch.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+        Assert.assertTrue(inside.get());
+        Assert.assertFalse(executor.isInsideExecutor());
+        synchronized (order) {
+            for (int i = 0; i < n; i++) { Assert.assertEquals(Integer.valueOf(i), order.get(i)); }
+        }
+
+        Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+        Assert.assertThrows(
+            ExecutionService.CloseableExecutor.ExecutorClosedException.class,
+            () -> executor.execute(() -> { }));
+    }
+
+    // Many more tasks than there are threads in a CBLExecutor, all blocked at once.
+    @Test
+    public void testVirtualConcurrentExecutorDoesNotStarve() throws InterruptedException {
+        final JavaExecutionService service = createVirtualThreadService();
+        final ExecutionService.CloseableExecutor executor = service.getConcurrentExecutor();
+
+        final int n = CBLExecutor.POOL_SIZE * 10;
+        final CountDownLatch started = new CountDownLatch(n);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean inside = new AtomicBoolean(true);
+        for (int i = 0; i < n; i++) {
+            executor.execute(() -> {
+                if (!executor.isInsideExecutor()) { inside.set(false); }
+                started.countDown();
+                try { release.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS); }
+                catch (InterruptedException ignore) { }
+            });
+        }
+
+        Assert.assertTrue(started.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+        Assert.assertEquals(0, executor.getPending());
+        release.countDown();
+
+        Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+        Assert.assertTrue(inside.get());
+    }
+
+    // A listener that blocks does not hold up another listener
+    @Test
+    public void testVirtualListenerExecutors() throws InterruptedException {
+        final ExecutorService virtualExecutor = JavaExecutionService.createVirtualThreadExecutor("test listener #");
+        Assume.assumeNotNull(virtualExecutor);
+        final JavaExecutionService service = new JavaExecutionService(new CBLExecutor("test worker"), virtualExecutor);
+
+        final Executor listener1 = service.getListenerExecutor();
+        final Executor listener2 = service.getListenerExecutor();
+        Assert.assertNotSame(listener1, listener2);
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered = new CountDownLatch(1);
+        listener1.execute(() -> {
+            try { release.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS); }
+            catch (InterruptedException ignore) { }
+        });
+        listener2.execute(delivered::countDown);
+
+        try { Assert.assertTrue(delivered.await(STD_TIMEOUT_SEC, TimeUnit.SECONDS)); }
+        finally { release.countDown(); }
+    }
+
+    @Test
+    public void testRegisterMBeans() throws JMException {
+        final JavaExecutionService service = new JavaExecutionService(new CBLExecutor("JMX test worker"));
+        final ExecutionService.CloseableExecutor executor = service.getSerialExecutor();
+        executor.execute(() -> { });
+        Assert.assertTrue(executor.stop(STD_TIMEOUT_SEC, TimeUnit.SECONDS));
+
+        // registering twice replaces the earlier registration
+        service.registerMBeans();
+        service.registerMBeans();
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ExecutorStats stats: service.getExecutorStats()) {
+            Assert.assertTrue(server.isRegistered(JavaExecutionService.getMBeanName(stats)));
+        }
+
+        final ObjectName name = JavaExecutionService.getMBeanName(service.getExecutorStats().get(0));
+        Assert.assertEquals("serial", server.getAttribute(name, "Name"));
+        Assert.assertEquals(1L, server.getAttribute(name, "CompletedTaskCount"));
+
+        // restore the registrations for the real execution service
+        for (ExecutorStats stats: service.getExecutorStats()) {
+            server.unregisterMBean(JavaExecutionService.getMBeanName(stats));
+        }
+        ((JavaExecutionService) CouchbaseLiteInternal.getExecutionService()).registerMBeans();
+    }
+
+    private JavaExecutionService createVirtualThreadService() {
+        final ExecutorService executor = JavaExecutionService.createVirtualThreadExecutor("test worker #");
+        Assume.assumeNotNull(executor);
+        return new JavaExecutionService(executor);
+    }
+}